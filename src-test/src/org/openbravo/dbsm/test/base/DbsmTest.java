@@ -109,6 +109,13 @@ public class DbsmTest {
   protected RecreationMode recreationMode = RecreationMode.standard;
   private boolean logErrorsAllowed = false;
   private int threads = 0;
+  private boolean parallelDataComparison = false;
+  private boolean streamingDataComparison = false;
+  private int dataChangesBatchSize = 0;
+  private int setBasedDataChangesThreshold = 0;
+  private boolean concurrentConstraintValidation = false;
+  private boolean combinedOnCreateDefaults = false;
+  private boolean concurrentTableStructureChanges = false;
 
   public enum Rdbms {
     PG, ORA
@@ -297,6 +304,34 @@ public class DbsmTest {
     return this.threads;
   }
 
+  protected void setParallelDataComparison(boolean parallelDataComparison) {
+    this.parallelDataComparison = parallelDataComparison;
+  }
+
+  protected void setStreamingDataComparison(boolean streamingDataComparison) {
+    this.streamingDataComparison = streamingDataComparison;
+  }
+
+  protected void setDataChangesBatchSize(int dataChangesBatchSize) {
+    this.dataChangesBatchSize = dataChangesBatchSize;
+  }
+
+  protected void setSetBasedDataChangesThreshold(int setBasedDataChangesThreshold) {
+    this.setBasedDataChangesThreshold = setBasedDataChangesThreshold;
+  }
+
+  protected void setConcurrentConstraintValidation(boolean concurrentConstraintValidation) {
+    this.concurrentConstraintValidation = concurrentConstraintValidation;
+  }
+
+  protected void setCombinedOnCreateDefaults(boolean combinedOnCreateDefaults) {
+    this.combinedOnCreateDefaults = combinedOnCreateDefaults;
+  }
+
+  protected void setConcurrentTableStructureChanges(boolean concurrentTableStructureChanges) {
+    this.concurrentTableStructureChanges = concurrentTableStructureChanges;
+  }
+
   protected List<String> sqlStatmentsForUpdate(String dbModelPath) {
     evaluator = new TestBatchEvaluator();
     updateDatabase(dbModelPath, false);
@@ -376,6 +411,8 @@ public class DbsmTest {
     dbUpdater.setBaseSrcAD(adDirectoryName == null ? null : new File(adDirectoryName));
     dbUpdater.setAdTableNames(adTableNames);
     dbUpdater.setConfigScripts(configScripts);
+    dbUpdater.setParallelDataComparison(parallelDataComparison);
+    dbUpdater.setStreamingDataComparison(streamingDataComparison);
     if (recreationMode == RecreationMode.forced) {
       platform.getSqlBuilder().setForcedRecreation("all");
     }
@@ -586,6 +623,11 @@ public class DbsmTest {
     }
     platform.setBatchEvaluator(evaluator);
     platform.setMaxThreads(threads);
+    platform.setDataChangesBatchSize(dataChangesBatchSize);
+    platform.setSetBasedDataChangesThreshold(setBasedDataChangesThreshold);
+    platform.setConcurrentConstraintValidation(concurrentConstraintValidation);
+    platform.setCombinedOnCreateDefaults(combinedOnCreateDefaults);
+    platform.setConcurrentTableStructureChanges(concurrentTableStructureChanges);
 
     return platform;
   }
@@ -0,0 +1,62 @@
+/*
+ ************************************************************************************
+ * Copyright (C) 2026 Openbravo S.L.U.
+ * Licensed under the Apache Software License version 2.0
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to  in writing,  software  distributed
+ * under the License is distributed  on  an  "AS IS"  BASIS,  WITHOUT  WARRANTIES  OR
+ * CONDITIONS OF ANY KIND, either  express  or  implied.  See  the  License  for  the
+ * specific language governing permissions and limitations under the License.
+ ************************************************************************************
+ */
+
+package org.openbravo.dbsm.test.base;
+
+import org.apache.ddlutils.model.Column;
+import org.apache.ddlutils.model.Database;
+import org.apache.ddlutils.model.Table;
+
+/**
+ * Builds in memory models for the test cases that do not need a database. Test cases checking
+ * changes applied to a database should use xml models and {@link DbsmTest} instead.
+ */
+public class TestModels {
+
+  private TestModels() {
+  }
+
+  /** Creates a database with the given tables */
+  public static Database database(Table... tables) {
+    Database database = new Database();
+    for (Table table : tables) {
+      database.addTable(table);
+    }
+    return database;
+  }
+
+  /** Creates a table with the given columns */
+  public static Table table(String name, Column... columns) {
+    Table table = new Table();
+    table.setName(name);
+    for (Column column : columns) {
+      table.addColumn(column);
+    }
+    return table;
+  }
+
+  /** Creates a VARCHAR(32) column */
+  public static Column column(String name) {
+    Column column = new Column();
+    column.setName(name);
+    column.setType("VARCHAR");
+    column.setSize("32");
+    return column;
+  }
+
+  /** Creates a VARCHAR(32) column that is part of the primary key */
+  public static Column primaryKeyColumn(String name) {
+    Column column = column(name);
+    column.setPrimaryKey(true);
+    return column;
+  }
+}
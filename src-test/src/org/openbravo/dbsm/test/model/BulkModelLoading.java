@@ -0,0 +1,89 @@
+/*
+ ************************************************************************************
+ * Copyright (C) 2026 Openbravo S.L.U.
+ * Licensed under the Apache Software License version 2.0
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to  in writing,  software  distributed
+ * under the License is distributed  on  an  "AS IS"  BASIS,  WITHOUT  WARRANTIES  OR
+ * CONDITIONS OF ANY KIND, either  express  or  implied.  See  the  License  for  the
+ * specific language governing permissions and limitations under the License.
+ ************************************************************************************
+ */
+
+package org.openbravo.dbsm.test.model;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+
+import org.apache.ddlutils.Platform;
+import org.apache.ddlutils.model.Database;
+import org.junit.Test;
+import org.openbravo.dbsm.test.base.PGOnlyDbsmTest;
+
+/**
+ * Checks the model read from catalog in bulk mode is the same one that is read table by table.
+ */
+public class BulkModelLoading extends PGOnlyDbsmTest {
+
+  public BulkModelLoading(String rdbms, String driver, String url, String sid, String user,
+      String password, String name) throws FileNotFoundException, IOException {
+    super(rdbms, driver, url, sid, user, password, name);
+  }
+
+  @Test
+  public void foreignKeysAreLoadedInBulk() {
+    assertBulkLoadIsEquivalent("foreignKeys/TWO_TABLES_WITH_FOREIGN_KEYS.xml");
+  }
+
+  @Test
+  public void multiColumnForeignKeysAreLoadedInBulk() {
+    assertBulkLoadIsEquivalent("multiColumnFK/PK");
+  }
+
+  @Test
+  public void uniquesAreLoadedInBulk() {
+    assertBulkLoadIsEquivalent("multiColumnFK/unique");
+  }
+
+  @Test
+  public void checksAreLoadedInBulk() {
+    assertBulkLoadIsEquivalent("constraints/TWO_TABLES_WITH_CONSTRAINTS.xml");
+  }
+
+  @Test
+  public void indexesAreLoadedInBulk() {
+    assertBulkLoadIsEquivalent("indexes/BASIC_INDEX_WITH_OPERATOR_CLASS.xml");
+  }
+
+  @Test
+  public void functionBasedIndexesAreLoadedInBulk() {
+    assertBulkLoadIsEquivalent("indexes/FUNCTION_BASED_INDEXES.xml");
+  }
+
+  @Test
+  public void onCreateDefaultsAreLoadedInBulk() {
+    assertBulkLoadIsEquivalent("indexes/BASE_MODEL_ON_CREATE_DEFAULT.xml");
+  }
+
+  private void assertBulkLoadIsEquivalent(String model) {
+    resetDB();
+    createDatabase(model);
+
+    Platform platform = getPlatform();
+    Database tableByTable = platform.loadModelFromDatabase(getExcludeFilter());
+
+    platform.getModelLoader().setBulkLoading(true);
+    Database inBulk = platform.loadModelFromDatabase(getExcludeFilter());
+
+    assertThat("number of tables", inBulk.getTableCount(), is(tableByTable.getTableCount()));
+    for (int i = 0; i < tableByTable.getTableCount(); i++) {
+      assertThat(inBulk.getTable(i).toVerboseString(),
+          equalTo(tableByTable.getTable(i).toVerboseString()));
+    }
+    assertThat(inBulk, equalTo(tableByTable));
+  }
+}
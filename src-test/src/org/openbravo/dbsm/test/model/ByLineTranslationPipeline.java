@@ -0,0 +1,83 @@
+/*
+ ************************************************************************************
+ * Copyright (C) 2026 Openbravo S.L.U.
+ * Licensed under the Apache Software License version 2.0
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to  in writing,  software  distributed
+ * under the License is distributed  on  an  "AS IS"  BASIS,  WITHOUT  WARRANTIES  OR
+ * CONDITIONS OF ANY KIND, either  express  or  implied.  See  the  License  for  the
+ * specific language governing permissions and limitations under the License.
+ ************************************************************************************
+ */
+
+package org.openbravo.dbsm.test.model;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.apache.ddlutils.translation.ByLineTranslation;
+import org.apache.ddlutils.translation.CombinedTranslation;
+import org.apache.ddlutils.translation.ReplacePatTranslation;
+import org.apache.ddlutils.translation.ReplaceStrTranslation;
+import org.apache.ddlutils.translation.Translation;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Checks consecutive by line translations applied together by {@link CombinedTranslation} produce
+ * the same result as applying them one after the other.
+ */
+@RunWith(Parameterized.class)
+public class ByLineTranslationPipeline {
+
+  private String code;
+
+  public ByLineTranslationPipeline(String name, String code) {
+    this.code = code;
+  }
+
+  @Parameters(name = "{0}")
+  public static Collection<Object[]> params() {
+    return Arrays.asList(new Object[][] { //
+        { "function", "DECLARE\n  v_Count NUMERIC;\n  v_Date TIMESTAMP;\nBEGIN\n"
+            + "  RAISE NOTICE '%','Updating' ;\n  EXECUTE v_Sql;\n"
+            + "  RAISE EXCEPTION '%', SQLERRM;\nEND" }, //
+        { "windowsLineBreaks", "BEGIN\r\n  v_Count NUMERIC;\r\n  EXECUTE v_Sql;\r\nEND" }, //
+        { "oldMacLineBreaks", "BEGIN\r  v_Count NUMERIC;\r  EXECUTE v_Sql;\rEND" }, //
+        { "emptyLines", "\n\nBEGIN\n\n\n  EXECUTE v_Sql;\n\n" }, //
+        { "singleLine", "EXECUTE v_Sql" } });
+  }
+
+  @Test
+  public void byLineTranslationsAreAppliedAsInSequence() {
+    List<Translation> translations = Arrays.asList(
+        new ByLineTranslation(new ReplacePatTranslation("(\\s)+NUMERIC(\\s|\\t)*;", "$1NUMBER;")),
+        new ByLineTranslation(new ReplaceStrTranslation(" TIMESTAMP;", " DATE;")),
+        // these translations generate new lines that are handled by the following ones
+        new ByLineTranslation(new ReplacePatTranslation("^(\\s*)EXECUTE", "$1--\n$1EXECUTE")),
+        new ByLineTranslation(new ReplacePatTranslation("NUMBER;", "NUMBER;\r\n")),
+        new ByLineTranslation(new ReplacePatTranslation("^([^\\-]+)EXECUTE", "$1EXECUTE IMMEDIATE")),
+        new ReplacePatTranslation("(\\s|\\n)EXCEPT(\\s|\\n)", "$1MINUS$2"),
+        new ByLineTranslation(new ReplacePatTranslation(
+            "RAISE NOTICE '%',(.*)([^\\s]+)([\\s|\\t]*);", "DBMS_OUTPUT.PUT_LINE($1$2)$3;")),
+        new ByLineTranslation(
+            new ReplacePatTranslation("RAISE EXCEPTION '%',\\s*SQLERRM\\s*;", "RAISE;")),
+        new ByLineTranslation(new ReplacePatTranslation("^\\s*$", "")));
+
+    CombinedTranslation inPipeline = new CombinedTranslation();
+    CombinedTranslation inSequence = new CombinedTranslation();
+    for (Translation translation : translations) {
+      inPipeline.append(translation);
+      // wrapping prevents by line translations to be applied together
+      inSequence.append(s -> translation.exec(s));
+    }
+
+    assertThat(inPipeline.exec(code), equalTo(inSequence.exec(code)));
+  }
+}
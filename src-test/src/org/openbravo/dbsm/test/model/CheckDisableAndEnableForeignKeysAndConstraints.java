@@ -13,7 +13,9 @@
 package org.openbravo.dbsm.test.model;
 
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assume.assumeThat;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
@@ -22,6 +24,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 
+import org.apache.ddlutils.Platform;
 import org.apache.ddlutils.model.Database;
 import org.apache.ddlutils.model.Table;
 import org.junit.Test;
@@ -108,6 +111,50 @@ public class CheckDisableAndEnableForeignKeysAndConstraints extends DbsmTest {
     getPlatform().returnConnection(con);
   }
 
+  @Test
+  public void constraintsCanBeValidatedConcurrently() throws IOException {
+    assumeThat("Feature supported only for PostgreSQL", getRdbms(), is(Rdbms.PG));
+    resetDB();
+    Database db = updateDatabase("constraints/TWO_TABLES_WITH_CONSTRAINTS.xml");
+    setConcurrentConstraintValidation(true);
+    Platform platform = getPlatform();
+    Connection con = platform.borrowConnection();
+    platform.disableCheckConstraints(con, db, null);
+    platform.enableCheckConstraints(con, db, null);
+    assertIsConstraintValidated("test1_constraint");
+    assertIsConstraintValidated("test2_constraint");
+    platform.returnConnection(con);
+  }
+
+  @Test
+  public void foreignKeysCanBeValidatedConcurrently() throws IOException {
+    assumeThat("Feature supported only for PostgreSQL", getRdbms(), is(Rdbms.PG));
+    resetDB();
+    Database db = updateDatabase("foreignKeys/TWO_TABLES_WITH_FOREIGN_KEYS.xml");
+    setConcurrentConstraintValidation(true);
+    Platform platform = getPlatform();
+    Connection con = platform.borrowConnection();
+    platform.disableAllFK(con, db, false);
+    assertThat(platform.enableAllFK(con, db, false), is(true));
+    assertIsConstraintValidated("test1_fk");
+    assertIsConstraintValidated("test2_fk");
+    platform.returnConnection(con);
+  }
+
+  private void assertIsConstraintValidated(String constraintName) {
+    assertIsConstraintEnabled(constraintName, true);
+    try (Connection cn = getDataSource().getConnection();
+        PreparedStatement st = cn.prepareStatement(
+            "SELECT convalidated FROM pg_constraint WHERE upper(conname) = upper(?)")) {
+      st.setString(1, constraintName);
+      try (ResultSet rs = st.executeQuery()) {
+        assertThat(rs.next() && rs.getBoolean(1), is(true));
+      }
+    } catch (SQLException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   private void assertIsConstraintEnabled(String constraintName, boolean expectedValue) {
     boolean constraintIsEnabled;
     if (getRdbms() == Rdbms.PG) {
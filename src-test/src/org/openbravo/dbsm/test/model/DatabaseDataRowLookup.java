@@ -0,0 +1,136 @@
+/*
+ ************************************************************************************
+ * Copyright (C) 2026 Openbravo S.L.U.
+ * Licensed under the Apache Software License version 2.0
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to  in writing,  software  distributed
+ * under the License is distributed  on  an  "AS IS"  BASIS,  WITHOUT  WARRANTIES  OR
+ * CONDITIONS OF ANY KIND, either  express  or  implied.  See  the  License  for  the
+ * specific language governing permissions and limitations under the License.
+ ************************************************************************************
+ */
+
+package org.openbravo.dbsm.test.model;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.openbravo.dbsm.test.base.TestModels.column;
+import static org.openbravo.dbsm.test.base.TestModels.database;
+import static org.openbravo.dbsm.test.base.TestModels.primaryKeyColumn;
+import static org.openbravo.dbsm.test.base.TestModels.table;
+
+import java.util.Vector;
+
+import org.apache.commons.beanutils.DynaBean;
+import org.apache.ddlutils.model.Column;
+import org.apache.ddlutils.model.Database;
+import org.apache.ddlutils.model.DatabaseData;
+import org.apache.ddlutils.model.Table;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test cases covering the lookup of rows by primary key when applying changes to
+ * {@link DatabaseData}.
+ */
+public class DatabaseDataRowLookup {
+  private Database db;
+  private Table table;
+  private DatabaseData data;
+
+  @Before
+  public void createData() {
+    table = table("TEST_TABLE", primaryKeyColumn("TEST_TABLE_ID"), column("NAME"));
+    db = database(table);
+
+    Vector<DynaBean> rows = new Vector<DynaBean>();
+    for (int i = 0; i < 10; i++) {
+      rows.add(createRow(Integer.toHexString(i), "name " + i));
+    }
+    data = new DatabaseData(db);
+    data.insertDynaBeansFromVector("TEST_TABLE", rows);
+  }
+
+  @Test
+  public void rowIsChangedLookingItUpByPrimaryKey() {
+    assertThat(changeName("5", "name 5", "changed"), is(true));
+
+    assertThat(getName("5"), equalTo("changed"));
+    assertThat(getName("4"), equalTo("name 4"));
+  }
+
+  @Test
+  public void changesOfMissingRowsAreReported() {
+    assertThat(changeName("ab", "name", "changed"), is(true));
+    assertThat(data.getRowsFromTable("TEST_TABLE").size(), is(10));
+  }
+
+  @Test
+  public void addedRowsCanBeChanged() {
+    changeName("1", "name 1", "changed");
+    data.addRow(table, createRow("ab", "name ab"), false);
+
+    assertThat(changeName("ab", "name ab", "changed"), is(true));
+    assertThat(getName("ab"), equalTo("changed"));
+  }
+
+  @Test
+  public void removedRowsAreNotFound() {
+    changeName("1", "name 1", "changed");
+
+    assertThat(data.removeRow(table, createRow("3", "name 3")), is(true));
+    assertThat(data.getRowsFromTable("TEST_TABLE").size(), is(9));
+    assertThat(data.removeRow(table, createRow("3", "name 3")), is(false));
+  }
+
+  @Test
+  public void removedRowsAreNotFoundAfterReordering() {
+    assertThat(data.removeRow(table, createRow("3", "name 3")), is(true));
+    assertThat(data.removeRow(table, createRow("4", "name 4")), is(true));
+    data.addRow(table, createRow("ab", "name ab"), true);
+
+    assertThat(data.removeRow(table, createRow("3", "name 3")), is(false));
+    assertThat(data.getRowsFromTable("TEST_TABLE").size(), is(9));
+    assertThat(getName("4"), nullValue());
+  }
+
+  @Test
+  public void changesCanBeReversed() {
+    changeName("7", "name 7", "changed");
+
+    Column name = table.findColumn("NAME");
+    assertThat(data.changeRowInReverse(table, name, "7", "name 7", "changed"), is(true));
+    assertThat(getName("7"), equalTo("name 7"));
+  }
+
+  @Test
+  public void rowsAreFoundAfterChangingTheirPrimaryKey() {
+    Column id = table.findColumn("TEST_TABLE_ID");
+    data.changeRow(table, id, new Object[] { "2" }, "2", "cd");
+
+    assertThat(changeName("cd", "name 2", "changed"), is(true));
+    assertThat(getName("cd"), equalTo("changed"));
+  }
+
+  private boolean changeName(String id, String oldName, String newName) {
+    return data.changeRow(table, table.findColumn("NAME"), new Object[] { id }, oldName, newName);
+  }
+
+  private Object getName(String id) {
+    for (DynaBean row : data.getRowsFromTable("TEST_TABLE")) {
+      if (row.get("TEST_TABLE_ID").equals(id)) {
+        return row.get("NAME");
+      }
+    }
+    return null;
+  }
+
+  private DynaBean createRow(String id, String name) {
+    DynaBean row = db.createDynaBeanFor(table);
+    row.set("TEST_TABLE_ID", id);
+    row.set("NAME", name);
+    return row;
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ ************************************************************************************
+ * Copyright (C) 2026 Openbravo S.L.U.
+ * Licensed under the Apache Software License version 2.0
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to  in writing,  software  distributed
+ * under the License is distributed  on  an  "AS IS"  BASIS,  WITHOUT  WARRANTIES  OR
+ * CONDITIONS OF ANY KIND, either  express  or  implied.  See  the  License  for  the
+ * specific language governing permissions and limitations under the License.
+ ************************************************************************************
+ */
+
+package org.openbravo.dbsm.test.model;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.Assert.assertThat;
+import static org.openbravo.dbsm.test.base.TestModels.column;
+import static org.openbravo.dbsm.test.base.TestModels.primaryKeyColumn;
+import static org.openbravo.dbsm.test.base.TestModels.table;
+
+import java.util.Arrays;
+import java.util.Vector;
+
+import org.apache.ddlutils.io.DataSetTableQueryGenerator;
+import org.apache.ddlutils.io.DataSetTableQueryGeneratorExtraProperties;
+import org.apache.ddlutils.model.Table;
+import org.junit.Test;
+import org.openbravo.ddlutils.util.OBDatasetTable;
+
+/**
+ * Test cases covering the columns read to export the records of a dataset table, which are limited
+ * to the ones written in the exported files.
+ */
+public class ExportedColumnsProjection {
+
+  @Test
+  public void onlyKeyAndIncludedColumnsAreExported() {
+    Table table = createTable(true);
+    OBDatasetTable dsTable = createDatasetTable(false, "NAME", "CREATED");
+
+    assertThat(new DataSetTableQueryGenerator().getExportedColumns(table, dsTable),
+        contains("T_ID", "NAME", "CREATED"));
+  }
+
+  @Test
+  public void auditColumnsAreNotExportedIfExcluded() {
+    Table table = createTable(true);
+    OBDatasetTable dsTable = createDatasetTable(true, "T_ID", "NAME", "CREATED", "UPDATED");
+
+    assertThat(new DataSetTableQueryGenerator().getExportedColumns(table, dsTable),
+        contains("T_ID", "NAME"));
+  }
+
+  @Test
+  public void allColumnsAreReadForTablesWithoutKey() {
+    Table table = createTable(false);
+    OBDatasetTable dsTable = createDatasetTable(false, "NAME");
+    DataSetTableQueryGenerator queryGenerator = new DataSetTableQueryGenerator();
+
+    assertThat(queryGenerator.getExportedColumns(table, dsTable), empty());
+    assertThat(
+        queryGenerator.generateQuery(dsTable, queryGenerator.getExportedColumns(table, dsTable),
+            new DataSetTableQueryGeneratorExtraProperties()),
+        startsWith("SELECT * FROM T "));
+  }
+
+  @Test
+  public void queryProjectsExportedColumns() {
+    Table table = createTable(true);
+    OBDatasetTable dsTable = createDatasetTable(false, "NAME");
+    DataSetTableQueryGenerator queryGenerator = new DataSetTableQueryGenerator();
+
+    assertThat(
+        queryGenerator.generateQuery(dsTable, queryGenerator.getExportedColumns(table, dsTable),
+            new DataSetTableQueryGeneratorExtraProperties()),
+        startsWith("SELECT T_ID,NAME FROM T "));
+  }
+
+  private Table createTable(boolean withKey) {
+    return table("T", withKey ? primaryKeyColumn("T_ID") : column("T_ID"), column("NAME"),
+        column("DESCRIPTION"), column("CREATED"), column("UPDATED"));
+  }
+
+  private OBDatasetTable createDatasetTable(boolean excludeAuditInfo, String... columns) {
+    OBDatasetTable dsTable = new OBDatasetTable();
+    dsTable.setName("T");
+    dsTable.setExcludeAuditInfo(excludeAuditInfo);
+    dsTable.setIncludedColumns(new Vector<>(Arrays.asList(columns)));
+    return dsTable;
+  }
+}
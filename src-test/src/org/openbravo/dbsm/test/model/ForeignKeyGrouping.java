@@ -0,0 +1,96 @@
+/*
+ ************************************************************************************
+ * Copyright (C) 2026 Openbravo S.L.U.
+ * Licensed under the Apache Software License version 2.0
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to  in writing,  software  distributed
+ * under the License is distributed  on  an  "AS IS"  BASIS,  WITHOUT  WARRANTIES  OR
+ * CONDITIONS OF ANY KIND, either  express  or  implied.  See  the  License  for  the
+ * specific language governing permissions and limitations under the License.
+ ************************************************************************************
+ */
+
+package org.openbravo.dbsm.test.model;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import org.apache.ddlutils.Platform;
+import org.apache.ddlutils.model.Database;
+import org.apache.ddlutils.model.Table;
+import org.junit.Before;
+import org.junit.Test;
+import org.openbravo.dbsm.test.base.PGOnlyDbsmTest;
+
+/**
+ * Test cases covering the creation of the foreign keys grouped by table, which is done
+ * concurrently. Tables referencing each other, directly or through other tables, must have their
+ * foreign keys created in the same group.
+ */
+public class ForeignKeyGrouping extends PGOnlyDbsmTest {
+
+  private static final String MODEL = "foreignKeys/FOREIGN_KEY_CYCLE.xml";
+  private static final int THREADS = 4;
+
+  public ForeignKeyGrouping(String rdbms, String driver, String url, String sid, String user,
+      String password, String name) throws FileNotFoundException, IOException {
+    super(rdbms, driver, url, sid, user, password, name);
+  }
+
+  @Before
+  public void configureNumberOfThreads() {
+    setNumberOfThreads(THREADS);
+  }
+
+  @Test
+  public void foreignKeysOfTablesReferencingEachOtherAreEnabled() throws SQLException {
+    assertForeignKeysAreEnabled();
+  }
+
+  @Test
+  public void foreignKeysOfTablesReferencingEachOtherAreValidatedConcurrently()
+      throws SQLException {
+    setConcurrentConstraintValidation(true);
+    assertForeignKeysAreEnabled();
+  }
+
+  private void assertForeignKeysAreEnabled() throws SQLException {
+    resetDB();
+    Database db = updateDatabase(MODEL);
+    Platform platform = getPlatform();
+    Connection con = platform.borrowConnection();
+    try {
+      platform.disableAllFK(con, db, false);
+      // rows referencing each other, which are valid once all of them are inserted
+      insert("INSERT INTO TEST1 (TEST1_ID, TEST2_ID) VALUES ('1', '1')");
+      insert("INSERT INTO TEST2 (TEST2_ID, TEST3_ID) VALUES ('1', '1')");
+      insert("INSERT INTO TEST3 (TEST3_ID, TEST1_ID) VALUES ('1', '1')");
+      insert("INSERT INTO TEST4 (TEST4_ID, TEST1_ID, TEST5_ID) VALUES ('1', '1', '1')");
+      insert("INSERT INTO TEST5 (TEST5_ID, PARENT_ID) VALUES ('1', '1')");
+
+      assertThat(platform.enableAllFK(con, db, false), is(true));
+    } finally {
+      platform.returnConnection(con);
+    }
+
+    Database dbModel = readModelFromDB();
+    for (Table table : db.getTables()) {
+      assertThat("Foreign keys of " + table.getName(),
+          dbModel.findTable(table.getName()).getForeignKeyCount(),
+          is(table.getForeignKeyCount()));
+    }
+  }
+
+  private void insert(String sql) throws SQLException {
+    try (Connection cn = getDataSource().getConnection();
+        PreparedStatement st = cn.prepareStatement(sql)) {
+      st.executeUpdate();
+    }
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ ************************************************************************************
+ * Copyright (C) 2026 Openbravo S.L.U.
+ * Licensed under the Apache Software License version 2.0
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to  in writing,  software  distributed
+ * under the License is distributed  on  an  "AS IS"  BASIS,  WITHOUT  WARRANTIES  OR
+ * CONDITIONS OF ANY KIND, either  express  or  implied.  See  the  License  for  the
+ * specific language governing permissions and limitations under the License.
+ ************************************************************************************
+ */
+
+package org.openbravo.dbsm.test.model;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.openbravo.dbsm.test.base.TestModels.column;
+import static org.openbravo.dbsm.test.base.TestModels.database;
+import static org.openbravo.dbsm.test.base.TestModels.table;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.apache.ddlutils.io.DatabaseIO;
+import org.apache.ddlutils.model.Database;
+import org.apache.ddlutils.model.View;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test cases covering the export of the model to a directory, where only the files of the objects
+ * that changed are written.
+ */
+public class IncrementalModelExport {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void unchangedFilesAreNotWritten() throws IOException {
+    File dir = folder.getRoot();
+    Database model = createModel();
+    new DatabaseIO().writeToDir(model, dir);
+
+    File t1 = new File(dir, "tables/T1.xml");
+    File t2 = new File(dir, "tables/T2.xml");
+    t1.setLastModified(1000L);
+    t2.setLastModified(1000L);
+
+    model.findTable("T2").addColumn(column("C2"));
+    new DatabaseIO().writeToDir(model, dir, 2);
+
+    assertThat(t1.lastModified(), equalTo(1000L));
+    assertThat(read(t2), containsString("C2"));
+  }
+
+  @Test
+  public void filesOfRemovedObjectsAreDeleted() {
+    File dir = folder.getRoot();
+    Database model = createModel();
+    new DatabaseIO().writeToDir(model, dir);
+
+    model.removeView(0);
+    model.removeTable(model.findTable("T2"));
+    new DatabaseIO().writeToDir(model, dir, 2);
+
+    assertThat(new File(dir, "tables/T1.xml").exists(), is(true));
+    assertThat(new File(dir, "tables/T2.xml").exists(), is(false));
+    assertThat(new File(dir, "views/V1.xml").exists(), is(false));
+  }
+
+  @Test
+  public void writtenModelCanBeRead() {
+    File dir = folder.getRoot();
+    new DatabaseIO().writeToDir(createModel(), dir, 2);
+
+    Database model = new DatabaseIO().readplain(new File(dir, "tables/T1.xml"));
+    assertThat(model.getTable(0).getColumnCount(), equalTo(1));
+  }
+
+  private Database createModel() {
+    Database model = database(table("T1", column("C1")), table("T2", column("C1")));
+    View view = new View("V1");
+    view.setStatement("SELECT * FROM T1");
+    model.addView(view);
+    return model;
+  }
+
+  private String read(File file) throws IOException {
+    return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ ************************************************************************************
+ * Copyright (C) 2026 Openbravo S.L.U.
+ * Licensed under the Apache Software License version 2.0
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to  in writing,  software  distributed
+ * under the License is distributed  on  an  "AS IS"  BASIS,  WITHOUT  WARRANTIES  OR
+ * CONDITIONS OF ANY KIND, either  express  or  implied.  See  the  License  for  the
+ * specific language governing permissions and limitations under the License.
+ ************************************************************************************
+ */
+
+package org.openbravo.dbsm.test.model;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.openbravo.dbsm.test.base.TestModels.database;
+import static org.openbravo.dbsm.test.base.TestModels.table;
+
+import java.util.List;
+
+import org.apache.ddlutils.PlatformInfo;
+import org.apache.ddlutils.alteration.AddTableChange;
+import org.apache.ddlutils.alteration.ModelChange;
+import org.apache.ddlutils.alteration.ModelChangeSet;
+import org.apache.ddlutils.model.Database;
+import org.junit.Test;
+
+/**
+ * Test cases covering the changes between two models, which are computed once and shared by the
+ * different phases of the update.
+ */
+public class ModelChangeSharing {
+
+  @Test
+  public void changesAreComputedOnce() {
+    ModelChangeSet changeSet = new ModelChangeSet(new PlatformInfo(), false, new Database(),
+        database(table("T1")));
+
+    List<ModelChange> changes = changeSet.getChanges();
+
+    assertThat(changes, contains(instanceOf(AddTableChange.class)));
+    assertThat(changeSet.getChanges(), sameInstance(changes));
+  }
+
+  @Test
+  public void changesAreComputedAgainAfterInvalidation() {
+    Database desiredModel = database(table("T1"));
+    ModelChangeSet changeSet = new ModelChangeSet(new PlatformInfo(), false, new Database(),
+        desiredModel);
+
+    List<ModelChange> changes = changeSet.getChanges();
+    desiredModel.removeTable(0);
+    changeSet.invalidate();
+
+    assertThat(changeSet.getChanges(), not(sameInstance(changes)));
+    assertThat(changeSet.getChanges(), empty());
+  }
+
+  @Test
+  public void modelComparedWithItselfHasNoChanges() {
+    Database model = database(table("T1"));
+
+    assertThat(new ModelChangeSet(new PlatformInfo(), false, model, model).getChanges(), empty());
+  }
+}
@@ -0,0 +1,148 @@
+/*
+ ************************************************************************************
+ * Copyright (C) 2026 Openbravo S.L.U.
+ * Licensed under the Apache Software License version 2.0
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to  in writing,  software  distributed
+ * under the License is distributed  on  an  "AS IS"  BASIS,  WITHOUT  WARRANTIES  OR
+ * CONDITIONS OF ANY KIND, either  express  or  implied.  See  the  License  for  the
+ * specific language governing permissions and limitations under the License.
+ ************************************************************************************
+ */
+
+package org.openbravo.dbsm.test.model;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.openbravo.dbsm.test.base.TestModels.column;
+import static org.openbravo.dbsm.test.base.TestModels.table;
+
+import org.apache.ddlutils.model.Database;
+import org.apache.ddlutils.model.ForeignKey;
+import org.apache.ddlutils.model.Function;
+import org.apache.ddlutils.model.Reference;
+import org.apache.ddlutils.model.Table;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test cases covering the lookup of model objects by name, which is done using indexes that must
+ * be kept up to date when the model changes.
+ */
+public class ModelObjectLookup {
+  private Database db;
+  private Table table;
+
+  @Before
+  public void createModel() {
+    db = new Database();
+    for (int i = 0; i < 10; i++) {
+      db.addTable(createTable("TABLE_" + i));
+    }
+    table = db.getTable(5);
+  }
+
+  @Test
+  public void tablesAreFoundIgnoringCase() {
+    assertThat(db.findTable("table_5"), sameInstance(table));
+    assertThat(db.findTable("TABLE_5", true), sameInstance(table));
+    assertThat(db.findTable("table_5", true), nullValue());
+    assertThat(db.findTable("TABLE_50"), nullValue());
+    assertThat(db.findTable(null), nullValue());
+  }
+
+  @Test
+  public void addedAndRemovedTablesAreTakenIntoAccount() {
+    assertThat(db.findTable("NEW_TABLE"), nullValue());
+
+    Table newTable = createTable("NEW_TABLE");
+    db.addTable(newTable);
+    assertThat(db.findTable("new_table"), sameInstance(newTable));
+
+    db.removeTable(newTable);
+    assertThat(db.findTable("new_table"), nullValue());
+  }
+
+  @Test
+  public void renamedTablesAreFoundByTheirNewName() {
+    db.findTable("TABLE_5");
+    table.setName("RENAMED_TABLE");
+
+    assertThat(db.findTable("TABLE_5"), nullValue());
+    assertThat(db.findTable("Renamed_Table"), sameInstance(table));
+  }
+
+  @Test
+  public void firstObjectIsReturnedIfNameIsRepeated() {
+    Table duplicated = createTable("table_5");
+    db.addTable(duplicated);
+
+    assertThat(db.findTable("TABLE_5"), sameInstance(table));
+    assertThat(db.findTable("table_5", true), sameInstance(duplicated));
+  }
+
+  @Test
+  public void clonedDatabaseFindsItsOwnObjects() throws CloneNotSupportedException {
+    db.findTable("TABLE_5");
+    Database clonedDb = (Database) db.clone();
+
+    Table clonedTable = clonedDb.findTable("TABLE_5");
+    assertThat(clonedTable, sameInstance(clonedDb.getTable(5)));
+    assertThat(clonedTable.findColumn("col_1"), sameInstance(clonedTable.getColumn(1)));
+  }
+
+  @Test
+  public void functionsAreFoundAfterMerging() {
+    Database other = new Database();
+    other.addFunction(new Function("AD_FUNCTION"));
+    db.addFunction(new Function("AD_OTHER_FUNCTION"));
+    db.findFunction("AD_FUNCTION");
+
+    db.mergeWith(other);
+
+    assertThat(db.findFunction("ad_function").getName(), is("AD_FUNCTION"));
+  }
+
+  @Test
+  public void columnsAreFoundIgnoringCase() {
+    assertThat(table.findColumn("col_2"), sameInstance(table.getColumn(2)));
+    table.removeColumn(2);
+    assertThat(table.findColumn("col_2"), nullValue());
+  }
+
+  @Test
+  public void foreignKeysAreFoundByReferencedTable() {
+    Table referenced = db.findTable("TABLE_1");
+    ForeignKey fk = new ForeignKey("FK_TABLE_1");
+    fk.setForeignTable(referenced);
+    fk.addReference(new Reference(table.getColumn(0), referenced.getColumn(0)));
+    table.addForeignKey(fk);
+
+    ForeignKey searched = new ForeignKey("fk_table_1");
+    searched.setForeignTableName("table_1");
+    searched.addReference(new Reference(table.getColumn(0), referenced.getColumn(0)));
+
+    assertThat(table.findForeignKey(searched, false), sameInstance(fk));
+    assertThat(table.findForeignKey(searched, true), nullValue());
+  }
+
+  @Test
+  public void columnsRenamedAfterAMissAreFound() {
+    assertThat(table.findColumn("NEW_COL"), nullValue());
+    table.getColumn(1).setName("NEW_COL");
+
+    assertThat(table.findColumn("new_col"), sameInstance(table.getColumn(1)));
+    assertThat(table.findColumn("COL_1"), nullValue());
+  }
+
+  @Test
+  public void nullForeignKeyIsNotFound() {
+    assertThat(table.findForeignKey(null, false), nullValue());
+  }
+
+  private Table createTable(String name) {
+    return table(name, column("COL_0"), column("COL_1"), column("COL_2"));
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ ************************************************************************************
+ * Copyright (C) 2026 Openbravo S.L.U.
+ * Licensed under the Apache Software License version 2.0
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to  in writing,  software  distributed
+ * under the License is distributed  on  an  "AS IS"  BASIS,  WITHOUT  WARRANTIES  OR
+ * CONDITIONS OF ANY KIND, either  express  or  implied.  See  the  License  for  the
+ * specific language governing permissions and limitations under the License.
+ ************************************************************************************
+ */
+
+package org.openbravo.dbsm.test.model;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+
+import org.apache.ddlutils.Platform;
+import org.apache.ddlutils.model.Database;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.openbravo.dbsm.test.base.PGOnlyDbsmTest;
+
+/**
+ * Checks the model read reusing a snapshot is the same one that is read from scratch, both when
+ * the catalog didn't change and when some of its objects were modified.
+ */
+public class ModelSnapshotLoading extends PGOnlyDbsmTest {
+
+  @Rule
+  public TemporaryFolder tmpFolder = new TemporaryFolder();
+
+  public ModelSnapshotLoading(String rdbms, String driver, String url, String sid, String user,
+      String password, String name) throws FileNotFoundException, IOException {
+    super(rdbms, driver, url, sid, user, password, name);
+  }
+
+  @Test
+  public void snapshotIsReusedIfNothingChanged() throws IOException {
+    assertSnapshotLoadIsEquivalent("indexes/BASE_MODEL.xml", "indexes/BASE_MODEL.xml");
+  }
+
+  @Test
+  public void changedTablesAreReadAgain() throws IOException {
+    assertSnapshotLoadIsEquivalent("indexes/BASE_MODEL.xml", "indexes/BASIC_INDEX.xml");
+  }
+
+  @Test
+  public void changedForeignKeysAreReadAgain() throws IOException {
+    assertSnapshotLoadIsEquivalent("foreignKeys/TWO_TABLES_WITH_FOREIGN_KEYS.xml",
+        "foreignKeys/TABLES_WITH_FK_CONSTRAINTS.xml");
+  }
+
+  @Test
+  public void changedFunctionsAreReadAgain() throws IOException {
+    assertSnapshotLoadIsEquivalent("functions/SIMPLE_FUNCTION.xml",
+        "functions/STABLE_FUNCTION.xml");
+  }
+
+  private void assertSnapshotLoadIsEquivalent(String initialModel, String updatedModel)
+      throws IOException {
+    resetDB();
+    createDatabase(initialModel);
+
+    File snapshotFile = new File(tmpFolder.newFolder(), "model.snapshot");
+    Platform platform = getPlatform();
+    platform.getModelLoader().setModelSnapshotFile(snapshotFile);
+    platform.loadModelFromDatabase(getExcludeFilter());
+    platform.getModelLoader().saveModelSnapshot();
+    assertThat("snapshot is saved", snapshotFile.exists(), is(true));
+
+    updateDatabase(updatedModel);
+
+    Database fromScratch = getPlatform().loadModelFromDatabase(getExcludeFilter());
+    Database fromSnapshot = platform.loadModelFromDatabase(getExcludeFilter());
+
+    assertThat("number of tables", fromSnapshot.getTableCount(),
+        is(fromScratch.getTableCount()));
+    for (int i = 0; i < fromScratch.getTableCount(); i++) {
+      assertThat(fromSnapshot.getTable(i).toVerboseString(),
+          equalTo(fromScratch.getTable(i).toVerboseString()));
+    }
+    assertThat(fromSnapshot, equalTo(fromScratch));
+  }
+}
@@ -37,6 +37,23 @@ import org.openbravo.dbsm.test.sqlscript.PgSystemPreScriptTest;
 @SuiteClasses({ //
     CheckConstraints.class, //
     Pg95SqlStandardization.class, //
+    SharedPlSqlStandardizationRules.class, //
+    ByLineTranslationPipeline.class, //
+    TranslationAnchors.class, //
+    ModelObjectLookup.class, //
+    DatabaseDataRowLookup.class, //
+    ParallelDataLoading.class, //
+    StaxDataReading.class, //
+    PrimaryKeySorting.class, //
+    ForeignKeyGrouping.class, //
+    ViewOrdering.class, //
+    ModelChangeSharing.class, //
+    IncrementalModelExport.class, //
+    TableStructureChangesGrouping.class, //
+    OnCreateDefaultCombination.class, //
+    StreamingQueries.class, //
+    StreamedDataExport.class, //
+    ExportedColumnsProjection.class, //
     PgSystemPreScriptTest.class, //
     Sequences.class, //
     NumericScaleChanges.class, //
@@ -71,6 +88,9 @@ import org.openbravo.dbsm.test.sqlscript.PgSystemPreScriptTest;
     ColumnSizeChangesWithDependentViews.class, //
     MultiColumnFK.class, //
     CheckConstraintLowerCase.class, //
+    BulkModelLoading.class, //
+    ParallelModelLoading.class, //
+    ModelSnapshotLoading.class, //
     LargeObjects.class })
 public class ModelSuite {
 
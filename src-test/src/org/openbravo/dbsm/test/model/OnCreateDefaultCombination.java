@@ -0,0 +1,87 @@
+/*
+ ************************************************************************************
+ * Copyright (C) 2026 Openbravo S.L.U.
+ * Licensed under the Apache Software License version 2.0
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to  in writing,  software  distributed
+ * under the License is distributed  on  an  "AS IS"  BASIS,  WITHOUT  WARRANTIES  OR
+ * CONDITIONS OF ANY KIND, either  express  or  implied.  See  the  License  for  the
+ * specific language governing permissions and limitations under the License.
+ ************************************************************************************
+ */
+
+package org.openbravo.dbsm.test.model;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.Assert.assertThat;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.ddlutils.model.Database;
+import org.junit.Test;
+import org.openbravo.dbsm.test.base.PGOnlyDbsmTest;
+
+/**
+ * Test cases covering the statements setting the onCreateDefault values of the columns added to a
+ * table with data, which can be combined in a single statement.
+ */
+public class OnCreateDefaultCombination extends PGOnlyDbsmTest {
+
+  private static final String TEST_TABLE_NAME = "TEST";
+
+  public OnCreateDefaultCombination(String rdbms, String driver, String url, String sid,
+      String user, String password, String name) throws FileNotFoundException, IOException {
+    super(rdbms, driver, url, sid, user, password, name);
+  }
+
+  @Test
+  public void onCreateDefaultsAreCombined() throws SQLException {
+    setCombinedOnCreateDefaults(true);
+
+    assertThat(updateWithOnCreateDefaults("createDefault/NM_COMBINED.xml"), hasSize(1));
+    assertThat(getActualValue(TEST_TABLE_NAME, "C1"), equalTo("Y"));
+    assertThat(getActualValue(TEST_TABLE_NAME, "C2"), equalTo("N"));
+  }
+
+  @Test
+  public void onCreateDefaultsReferencingOtherColumnsAreNotCombined() throws SQLException {
+    setCombinedOnCreateDefaults(true);
+
+    assertThat(updateWithOnCreateDefaults("createDefault/NM_DEPENDENT.xml"), hasSize(2));
+    assertThat(getActualValue(TEST_TABLE_NAME, "C1"), equalTo("Y"));
+    // the onCreateDefault of C2 sees the value already set in C1
+    assertThat(getActualValue(TEST_TABLE_NAME, "C2"), equalTo("Y"));
+  }
+
+  @Test
+  public void onCreateDefaultsAreNotCombinedByDefault() throws SQLException {
+    assertThat(updateWithOnCreateDefaults("createDefault/NM_COMBINED.xml"), hasSize(2));
+    assertThat(getActualValue(TEST_TABLE_NAME, "C1"), equalTo("Y"));
+    assertThat(getActualValue(TEST_TABLE_NAME, "C2"), equalTo("N"));
+  }
+
+  /**
+   * Updates a table with a row to the given model, which adds columns with onCreateDefault.
+   * Returns the statements setting their values.
+   */
+  private List<String> updateWithOnCreateDefaults(String model) throws SQLException {
+    resetDB();
+    Database originalModel = updateDatabase("createDefault/BASE_MODEL.xml");
+    generateRow(originalModel, TEST_TABLE_NAME);
+
+    List<String> onCreateDefaultStatements = new ArrayList<String>();
+    for (String statement : sqlStatmentsForUpdate(model)) {
+      if (statement.trim().startsWith("UPDATE " + TEST_TABLE_NAME + " ")) {
+        onCreateDefaultStatements.add(statement);
+      }
+    }
+
+    updateDatabase(model);
+    return onCreateDefaultStatements;
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ ************************************************************************************
+ * Copyright (C) 2026 Openbravo S.L.U.
+ * Licensed under the Apache Software License version 2.0
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to  in writing,  software  distributed
+ * under the License is distributed  on  an  "AS IS"  BASIS,  WITHOUT  WARRANTIES  OR
+ * CONDITIONS OF ANY KIND, either  express  or  implied.  See  the  License  for  the
+ * specific language governing permissions and limitations under the License.
+ ************************************************************************************
+ */
+
+package org.openbravo.dbsm.test.model;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.openbravo.dbsm.test.base.TestModels.column;
+import static org.openbravo.dbsm.test.base.TestModels.database;
+import static org.openbravo.dbsm.test.base.TestModels.primaryKeyColumn;
+import static org.openbravo.dbsm.test.base.TestModels.table;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.beanutils.DynaBean;
+import org.apache.ddlutils.model.Database;
+import org.apache.ddlutils.model.DatabaseData;
+import org.apache.ddlutils.model.Table;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.openbravo.ddlutils.util.DBSMOBUtil;
+
+/**
+ * Test cases covering the concurrent loading of XML data files into {@link DatabaseData}.
+ */
+public class ParallelDataLoading {
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private Database db;
+  private List<File> files;
+
+  @Before
+  public void createFiles() throws IOException {
+    db = database(createTable("TABLE_A"), createTable("TABLE_B"));
+
+    files = new ArrayList<File>();
+    for (int module = 0; module < 5; module++) {
+      File dir = folder.newFolder("module" + module);
+      files.add(writeDataFile(dir, "TABLE_A", module));
+      files.add(writeDataFile(dir, "TABLE_B", module));
+    }
+  }
+
+  @Test
+  public void rowsOfAllFilesAreLoaded() {
+    DatabaseData data = load(4);
+
+    assertThat(data.getRowsFromTable("TABLE_A").size(), is(50));
+    assertThat(data.getRowsFromTable("TABLE_B").size(), is(50));
+  }
+
+  @Test
+  public void rowsAreSortedByPrimaryKey() {
+    List<DynaBean> rows = load(4).getRowsFromTable("TABLE_A");
+
+    for (int i = 0; i < rows.size(); i++) {
+      assertThat(rows.get(i).get("ID"), equalTo((Object) Integer.toString(i, 32)));
+    }
+  }
+
+  @Test
+  public void resultIsTheSameAsLoadingFilesOneByOne() {
+    assertThat(toString(load(4)), equalTo(toString(load(1))));
+  }
+
+  @Test
+  public void filesThatCannotBeParsedAreSkipped() throws IOException {
+    File wrongFile = new File(folder.getRoot(), "TABLE_A.xml");
+    Files.write(wrongFile.toPath(), "<data><TABLE_A".getBytes(StandardCharsets.UTF_8));
+    files.add(0, wrongFile);
+
+    assertThat(load(4).getRowsFromTable("TABLE_A").size(), is(50));
+  }
+
+  private DatabaseData load(int threads) {
+    DatabaseData data = new DatabaseData(db);
+    DBSMOBUtil.getInstance().readDataIntoDatabaseData(db, data, files, threads);
+    return data;
+  }
+
+  private String toString(DatabaseData data) {
+    StringBuilder result = new StringBuilder();
+    for (String tableName : new String[] { "TABLE_A", "TABLE_B" }) {
+      for (DynaBean row : data.getRowsFromTable(tableName)) {
+        result.append(tableName).append(' ').append(row.get("ID")).append(' ')
+            .append(row.get("NAME")).append('\n');
+      }
+    }
+    return result.toString();
+  }
+
+  /** Writes a file with 10 rows, interleaving the ids of the files of all the modules */
+  private File writeDataFile(File dir, String tableName, int module) throws IOException {
+    StringBuilder xml = new StringBuilder("<?xml version='1.0' encoding='UTF-8'?>\n<data>\n");
+    for (int i = 9; i >= 0; i--) {
+      xml.append("<" + tableName + ">\n");
+      xml.append("  <ID><![CDATA[" + Integer.toString(i * 5 + module, 32) + "]]></ID>\n");
+      xml.append("  <NAME><![CDATA[row " + i + " of module " + module + "]]></NAME>\n");
+      xml.append("</" + tableName + ">\n");
+    }
+    xml.append("</data>\n");
+    File file = new File(dir, tableName + ".xml");
+    Files.write(file.toPath(), xml.toString().getBytes(StandardCharsets.UTF_8));
+    return file;
+  }
+
+  private Table createTable(String name) {
+    return table(name, primaryKeyColumn("ID"), column("NAME"));
+  }
+}
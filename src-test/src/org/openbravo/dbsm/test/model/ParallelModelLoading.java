@@ -0,0 +1,67 @@
+/*
+ ************************************************************************************
+ * Copyright (C) 2026 Openbravo S.L.U.
+ * Licensed under the Apache Software License version 2.0
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to  in writing,  software  distributed
+ * under the License is distributed  on  an  "AS IS"  BASIS,  WITHOUT  WARRANTIES  OR
+ * CONDITIONS OF ANY KIND, either  express  or  implied.  See  the  License  for  the
+ * specific language governing permissions and limitations under the License.
+ ************************************************************************************
+ */
+
+package org.openbravo.dbsm.test.model;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+
+import org.apache.ddlutils.Platform;
+import org.apache.ddlutils.model.Database;
+import org.junit.Before;
+import org.junit.Test;
+import org.openbravo.dbsm.test.base.DbsmTest;
+
+/**
+ * Checks tables read concurrently in several connections are the same, and in the same order, as
+ * when they are read sequentially.
+ */
+public class ParallelModelLoading extends DbsmTest {
+
+  private static final int THREADS = 3;
+
+  public ParallelModelLoading(String rdbms, String driver, String url, String sid, String user,
+      String password, String name) throws FileNotFoundException, IOException {
+    super(rdbms, driver, url, sid, user, password, name);
+  }
+
+  @Before
+  public void configureNumberOfThreads() {
+    setNumberOfThreads(THREADS);
+  }
+
+  @Test
+  public void tablesAreLoadedInParallel() {
+    assertParallelLoadIsEquivalent("foreignKeys/TABLES_WITH_FK_CONSTRAINTS.xml");
+  }
+
+  @Test
+  public void tablesWithIndexesAreLoadedInParallel() {
+    assertParallelLoadIsEquivalent("indexes/MODEL_WITH_TWO_TABLES.xml");
+  }
+
+  private void assertParallelLoadIsEquivalent(String model) {
+    resetDB();
+    createDatabase(model);
+
+    Platform platform = getPlatform();
+    Database sequential = platform.loadModelFromDatabase(getExcludeFilter());
+
+    platform.getModelLoader().setParallelLoading(true);
+    Database parallel = platform.loadModelFromDatabase(getExcludeFilter());
+
+    assertThat(parallel, equalTo(sequential));
+  }
+}
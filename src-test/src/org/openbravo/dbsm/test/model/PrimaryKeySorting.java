@@ -0,0 +1,148 @@
+/*
+ ************************************************************************************
+ * Copyright (C) 2026 Openbravo S.L.U.
+ * Licensed under the Apache Software License version 2.0
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to  in writing,  software  distributed
+ * under the License is distributed  on  an  "AS IS"  BASIS,  WITHOUT  WARRANTIES  OR
+ * CONDITIONS OF ANY KIND, either  express  or  implied.  See  the  License  for  the
+ * specific language governing permissions and limitations under the License.
+ ************************************************************************************
+ */
+
+package org.openbravo.dbsm.test.model;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.Assert.assertThat;
+import static org.openbravo.dbsm.test.base.TestModels.database;
+import static org.openbravo.dbsm.test.base.TestModels.primaryKeyColumn;
+import static org.openbravo.dbsm.test.base.TestModels.table;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.Vector;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.beanutils.DynaBean;
+import org.apache.ddlutils.io.DataToArraySink;
+import org.apache.ddlutils.io.PrimaryKeySort;
+import org.apache.ddlutils.model.Database;
+import org.apache.ddlutils.model.Table;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test cases covering the sort of rows by primary key, which must return the same order as
+ * comparing the keys as base 32 numbers.
+ */
+public class PrimaryKeySorting {
+  private static final String DIGITS = "0123456789abcdefghijklmnopqrstuvABCDEFGHIJKLMNOPQRSTUV";
+
+  private Database db;
+  private Table table;
+  private Random random;
+
+  @Before
+  public void createModel() {
+    table = table("TEST_TABLE", primaryKeyColumn("ID1"), primaryKeyColumn("ID2"));
+    db = database(table);
+    random = new Random(42);
+  }
+
+  @Test
+  public void rowsAreSortedAsBase32Numbers() {
+    Vector<DynaBean> rows = new Vector<DynaBean>();
+    for (int i = 0; i < 2000; i++) {
+      rows.add(createRow(randomId(), "0"));
+    }
+    List<DynaBean> expected = new ArrayList<DynaBean>(rows);
+    Collections.sort(expected, byBigInteger("ID1"));
+
+    PrimaryKeySort.sort(rows, new String[] { "ID1" }, failingComparator());
+
+    assertThat(rows, equalTo(expected));
+  }
+
+  @Test
+  public void rowsAreSortedByAllPrimaryKeyColumns() {
+    Vector<DynaBean> rows = new Vector<DynaBean>();
+    for (int i = 0; i < 500; i++) {
+      rows.add(createRow(Integer.toString(random.nextInt(10), 32), randomId()));
+    }
+    List<DynaBean> expected = new ArrayList<DynaBean>(rows);
+    Collections.sort(expected, byBigInteger("ID1").thenComparing(byBigInteger("ID2")));
+
+    DataToArraySink.sortArray(db, rows);
+
+    assertThat(rows, equalTo(expected));
+  }
+
+  @Test
+  public void equalValuesKeepTheirOrder() {
+    DynaBean first = createRow("00A", "0");
+    DynaBean second = createRow("a", "0");
+    DynaBean third = createRow("+0a", "0");
+    DynaBean smaller = createRow("9", "0");
+    Vector<DynaBean> rows = new Vector<DynaBean>();
+    Collections.addAll(rows, first, second, third, smaller);
+
+    PrimaryKeySort.sort(rows, new String[] { "ID1" }, failingComparator());
+
+    assertThat(rows, contains(smaller, first, second, third));
+  }
+
+  @Test
+  public void valuesWithoutSortKeyAreSortedWithFallbackComparator() {
+    AtomicInteger comparisons = new AtomicInteger();
+    Comparator<DynaBean> fallback = (r1, r2) -> {
+      comparisons.incrementAndGet();
+      return byBigInteger("ID1").compare(r1, r2);
+    };
+    Vector<DynaBean> rows = new Vector<DynaBean>();
+    for (int i = 0; i < 100; i++) {
+      rows.add(createRow(randomId(), "0"));
+    }
+    rows.add(createRow("-5", "0"));
+    rows.add(createRow("1234567890abcdefghij1234567890abcdefghij", "0"));
+    List<DynaBean> expected = new ArrayList<DynaBean>(rows);
+    Collections.sort(expected, byBigInteger("ID1"));
+
+    PrimaryKeySort.sort(rows, new String[] { "ID1" }, fallback);
+
+    assertThat(rows, equalTo(expected));
+    assertThat(comparisons.get(), greaterThan(0));
+  }
+
+  private String randomId() {
+    int length = 1 + random.nextInt(36);
+    StringBuilder id = new StringBuilder();
+    for (int i = 0; i < length; i++) {
+      id.append(DIGITS.charAt(random.nextInt(DIGITS.length())));
+    }
+    return id.toString();
+  }
+
+  private static Comparator<DynaBean> byBigInteger(String pkName) {
+    return (r1, r2) -> new BigInteger(r1.get(pkName).toString(), 32)
+        .compareTo(new BigInteger(r2.get(pkName).toString(), 32));
+  }
+
+  private static Comparator<DynaBean> failingComparator() {
+    return (r1, r2) -> {
+      throw new AssertionError("Sort keys should be used");
+    };
+  }
+
+  private DynaBean createRow(String id1, String id2) {
+    DynaBean row = db.createDynaBeanFor(table);
+    row.set("ID1", id1);
+    row.set("ID2", id2);
+    return row;
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ ************************************************************************************
+ * Copyright (C) 2026 Openbravo S.L.U.
+ * Licensed under the Apache Software License version 2.0
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to  in writing,  software  distributed
+ * under the License is distributed  on  an  "AS IS"  BASIS,  WITHOUT  WARRANTIES  OR
+ * CONDITIONS OF ANY KIND, either  express  or  implied.  See  the  License  for  the
+ * specific language governing permissions and limitations under the License.
+ ************************************************************************************
+ */
+
+package org.openbravo.dbsm.test.model;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertThat;
+
+import java.sql.Types;
+
+import org.apache.ddlutils.model.Database;
+import org.apache.ddlutils.model.Function;
+import org.apache.ddlutils.platform.postgresql.PostgrePLSQLFunctionStandarization;
+import org.apache.ddlutils.platform.postgresql.PostgrePLSQLStandarization;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test cases covering PL standardization using the rules shared by all the functions in the
+ * database.
+ */
+public class SharedPlSqlStandardizationRules {
+  private static final String BODY = "BEGIN\n" //
+      + "  PERFORM AD_VOID_FUNCTION(v_Param);\n" //
+      + "  perform  ad_void_function (v_Param);\n" //
+      + "  PERFORM AD_VOID_FUNCTION_2(v_Param);\n" //
+      + "  PERFORM AD_RETURNING_FUNCTION(v_Param);\n" //
+      + "END";
+
+  private Database db;
+
+  @Before
+  public void createDatabase() {
+    db = new Database();
+    db.addFunction(createFunction("AD_VOID_FUNCTION", Types.NULL));
+    db.addFunction(createFunction("AD_RETURNING_FUNCTION", Types.VARCHAR));
+    db.addFunction(createFunction("AD_CALLER", Types.NULL));
+    PostgrePLSQLStandarization.generateOutPatterns(db);
+  }
+
+  @Test
+  public void performIsRemovedForVoidFunctions() {
+    String standardized = new PostgrePLSQLFunctionStandarization(db, 2).exec(BODY);
+
+    assertThat(standardized, containsString("\n  AD_VOID_FUNCTION(v_Param);\n"
+        + "  AD_VOID_FUNCTION(v_Param);\n"));
+    assertThat(standardized, not(containsString("PERFORM AD_VOID_FUNCTION(")));
+  }
+
+  @Test
+  public void performIsKeptForOtherFunctions() {
+    String standardized = new PostgrePLSQLFunctionStandarization(db, 2).exec(BODY);
+
+    assertThat(standardized, containsString("PERFORM AD_VOID_FUNCTION_2(v_Param);"));
+    assertThat(standardized, containsString("PERFORM AD_RETURNING_FUNCTION(v_Param);"));
+  }
+
+  @Test
+  public void sharedRulesStandardizeAsPerFunctionRules() {
+    PostgrePLSQLStandarization rules = new PostgrePLSQLStandarization(db);
+    for (int i = 0; i < db.getFunctionCount(); i++) {
+      String perFunction = new PostgrePLSQLFunctionStandarization(db, i).exec(BODY);
+      String shared = new PostgrePLSQLFunctionStandarization(rules, db.getFunction(i)).exec(BODY);
+      assertThat(shared, equalTo(perFunction));
+    }
+  }
+
+  private Function createFunction(String name, int typeCode) {
+    Function f = new Function();
+    f.setName(name);
+    f.setTypeCode(typeCode);
+    f.setBody(BODY);
+    return f;
+  }
+}
@@ -0,0 +1,123 @@
+/*
+ ************************************************************************************
+ * Copyright (C) 2026 Openbravo S.L.U.
+ * Licensed under the Apache Software License version 2.0
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to  in writing,  software  distributed
+ * under the License is distributed  on  an  "AS IS"  BASIS,  WITHOUT  WARRANTIES  OR
+ * CONDITIONS OF ANY KIND, either  express  or  implied.  See  the  License  for  the
+ * specific language governing permissions and limitations under the License.
+ ************************************************************************************
+ */
+
+package org.openbravo.dbsm.test.model;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.StringReader;
+import java.util.List;
+
+import org.apache.commons.beanutils.DynaBean;
+import org.apache.ddlutils.io.DataReader;
+import org.apache.ddlutils.io.DataToArraySink;
+import org.apache.ddlutils.io.StaxDataReader;
+import org.apache.ddlutils.model.Column;
+import org.apache.ddlutils.model.Database;
+import org.apache.ddlutils.model.Table;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test cases checking {@link StaxDataReader} reads the same data as the digester based
+ * {@link DataReader}.
+ */
+public class StaxDataReading {
+  private Database db;
+
+  @Before
+  public void createModel() {
+    db = new Database();
+    Table table = new Table();
+    table.setName("TEST_TABLE");
+    for (String columnName : new String[] { "TEST_TABLE_ID", "NAME", "DESCRIPTION" }) {
+      Column column = new Column();
+      column.setName(columnName);
+      column.setType("VARCHAR");
+      column.setPrimaryKey(columnName.endsWith("_ID"));
+      table.addColumn(column);
+    }
+    db.addTable(table);
+  }
+
+  @Test
+  public void valuesAreReadFromSubElements() throws Exception {
+    assertSameData("<?xml version='1.0' encoding='UTF-8'?>\n<data>\n"
+        + "<!--1--><TEST_TABLE>\n"
+        + "<!--1-->  <TEST_TABLE_ID><![CDATA[1]]></TEST_TABLE_ID>\n"
+        + "<!--1-->  <NAME><![CDATA[a <name> & more]]></NAME>\n"
+        + "<!--1-->  <DESCRIPTION>  text &amp; <![CDATA[cdata]]> </DESCRIPTION>\n"
+        + "<!--1--></TEST_TABLE>\n</data>\n");
+  }
+
+  @Test
+  public void valuesAreReadFromAttributes() throws Exception {
+    assertSameData("<data><TEST_TABLE TEST_TABLE_ID='1' name='x'/>"
+        + "<test_table test_table_id='2' UNKNOWN='y'><DESCRIPTION/></test_table></data>");
+  }
+
+  @Test
+  public void base64ValuesAreDecoded() throws Exception {
+    assertSameData("<data><TEST_TABLE><TEST_TABLE_ID>1</TEST_TABLE_ID>"
+        + "<NAME base64='true'>bmFtZQ==</NAME></TEST_TABLE></data>");
+  }
+
+  @Test
+  public void unknownElementsAreIgnored() throws Exception {
+    assertSameData("<data><OTHER_TABLE><NAME>a</NAME></OTHER_TABLE>text"
+        + "<TEST_TABLE><TEST_TABLE_ID>1<b>nested</b>2</TEST_TABLE_ID><OTHER>b</OTHER>"
+        + "</TEST_TABLE></data>");
+    assertThat(read(new StaxDataReader(), "<other><TEST_TABLE NAME='a'/></other>").size(), is(0));
+  }
+
+  @Test
+  public void caseSensitiveReadingOnlyMatchesExactNames() throws Exception {
+    String xml = "<data><TEST_TABLE NAME='a'/><test_table NAME='b'/>"
+        + "<TEST_TABLE name='c'><DESCRIPTION>d</DESCRIPTION></TEST_TABLE></data>";
+    DataReader digesterReader = new DataReader();
+    digesterReader.setCaseSensitive(true);
+    StaxDataReader staxReader = new StaxDataReader();
+    staxReader.setCaseSensitive(true);
+
+    List<DynaBean> rows = read(staxReader, xml);
+    assertThat(rows.size(), is(2));
+    assertThat(toString(rows), equalTo(toString(read(digesterReader, xml))));
+  }
+
+  private void assertSameData(String xml) throws Exception {
+    List<DynaBean> rows = read(new StaxDataReader(), xml);
+    assertThat(toString(rows), equalTo(toString(read(new DataReader(), xml))));
+  }
+
+  private List<DynaBean> read(DataReader reader, String xml) throws Exception {
+    reader.setModel(db);
+    reader.setSink(new DataToArraySink());
+    reader.getSink().start();
+    reader.parse(new StringReader(xml));
+    reader.getSink().end();
+    return ((DataToArraySink) reader.getSink()).getVector();
+  }
+
+  private String toString(List<DynaBean> rows) {
+    StringBuilder result = new StringBuilder();
+    for (DynaBean row : rows) {
+      result.append(row.getDynaClass().getName());
+      for (String columnName : new String[] { "TEST_TABLE_ID", "NAME", "DESCRIPTION" }) {
+        result.append(" [").append(row.get(columnName)).append(']');
+      }
+      result.append('\n');
+    }
+    return result.toString();
+  }
+}
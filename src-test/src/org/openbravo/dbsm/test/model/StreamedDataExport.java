@@ -0,0 +1,143 @@
+/*
+ ************************************************************************************
+ * Copyright (C) 2026 Openbravo S.L.U.
+ * Licensed under the Apache Software License version 2.0
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to  in writing,  software  distributed
+ * under the License is distributed  on  an  "AS IS"  BASIS,  WITHOUT  WARRANTIES  OR
+ * CONDITIONS OF ANY KIND, either  express  or  implied.  See  the  License  for  the
+ * specific language governing permissions and limitations under the License.
+ ************************************************************************************
+ */
+
+package org.openbravo.dbsm.test.model;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Vector;
+
+import org.apache.commons.beanutils.DynaBean;
+import org.apache.ddlutils.Platform;
+import org.apache.ddlutils.io.DatabaseDataIO;
+import org.apache.ddlutils.model.Database;
+import org.apache.ddlutils.model.Table;
+import org.junit.Test;
+import org.openbravo.dbsm.test.base.DbsmTest;
+import org.openbravo.ddlutils.util.OBDatasetTable;
+
+/**
+ * Test cases covering the export of tables with more rows than the fetch size of the queries, which
+ * are read in blocks inside a transaction.
+ */
+public class StreamedDataExport extends DbsmTest {
+
+  private static final String TEST_TABLE_NAME = "TEST";
+  private static final int FETCH_SIZE = 10;
+  private static final int ROWS = 25;
+
+  private Database model;
+  private List<String> ids;
+
+  public StreamedDataExport(String rdbms, String driver, String url, String sid, String user,
+      String password, String name) throws FileNotFoundException, IOException {
+    super(rdbms, driver, url, sid, user, password, name);
+  }
+
+  @Test
+  public void allRowsAreReadAndAutocommitIsRestored() throws SQLException {
+    createRows();
+    Platform platform = getStreamingPlatform();
+    Table table = model.findTable(TEST_TABLE_NAME);
+
+    Connection con = platform.borrowConnection();
+    try {
+      Vector<DynaBean> rows = new DatabaseDataIO().readRowsFromTableList(con, platform, model,
+          table, createDatasetTable(), null);
+
+      assertThat(getIds(rows), containsInAnyOrder(ids.toArray()));
+      assertThat(con.getAutoCommit(), is(true));
+    } finally {
+      platform.returnConnection(con);
+    }
+  }
+
+  @Test
+  public void allRowsAreReadOneByOneAndAutocommitIsRestored() throws SQLException {
+    createRows();
+    Platform platform = getStreamingPlatform();
+    Table table = model.findTable(TEST_TABLE_NAME);
+
+    Connection con = platform.borrowConnection();
+    try {
+      List<DynaBean> rows = new ArrayList<>();
+      boolean read = new DatabaseDataIO().readRowsFromTableList(con, platform, model, table,
+          createDatasetTable(), null, row -> rows.add(row));
+
+      assertThat(read, is(true));
+      assertThat(getIds(rows), containsInAnyOrder(ids.toArray()));
+      assertThat(con.getAutoCommit(), is(true));
+    } finally {
+      platform.returnConnection(con);
+    }
+  }
+
+  @Test
+  public void allRowsAreExported() throws SQLException {
+    createRows();
+    Map<String, Object> customParams = new HashMap<>();
+    customParams.put("platform", getStreamingPlatform());
+    customParams.put("xmlEncoding", "UTF-8");
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    boolean exported = new DatabaseDataIO().exportDataSet(model, createDatasetTable(), output,
+        null, customParams, false);
+
+    assertThat(exported, is(true));
+    String xml = new String(output.toByteArray(), StandardCharsets.UTF_8);
+    for (String id : ids) {
+      assertThat(xml, containsString(id));
+    }
+  }
+
+  private void createRows() throws SQLException {
+    resetDB();
+    model = updateDatabase("createDefault/BASE_MODEL.xml");
+    ids = new ArrayList<>();
+    for (int i = 0; i < ROWS; i++) {
+      ids.add(generateRow(model, TEST_TABLE_NAME));
+    }
+  }
+
+  private Platform getStreamingPlatform() {
+    Platform platform = getPlatform();
+    platform.setQueryFetchSize(FETCH_SIZE);
+    return platform;
+  }
+
+  private OBDatasetTable createDatasetTable() {
+    OBDatasetTable dsTable = new OBDatasetTable();
+    dsTable.setName(TEST_TABLE_NAME);
+    return dsTable;
+  }
+
+  private List<Object> getIds(List<DynaBean> rows) {
+    List<Object> rowIds = new ArrayList<>();
+    for (DynaBean row : rows) {
+      rowIds.add(row.get("TEST_ID"));
+    }
+    return rowIds;
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ ************************************************************************************
+ * Copyright (C) 2026 Openbravo S.L.U.
+ * Licensed under the Apache Software License version 2.0
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to  in writing,  software  distributed
+ * under the License is distributed  on  an  "AS IS"  BASIS,  WITHOUT  WARRANTIES  OR
+ * CONDITIONS OF ANY KIND, either  express  or  implied.  See  the  License  for  the
+ * specific language governing permissions and limitations under the License.
+ ************************************************************************************
+ */
+
+package org.openbravo.dbsm.test.model;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.ddlutils.Platform;
+import org.apache.ddlutils.platform.postgresql.PostgreSqlPlatform;
+import org.junit.Test;
+
+/**
+ * Test cases covering the statements used to stream the rows of the queries, which fetch them in
+ * blocks inside a transaction.
+ */
+public class StreamingQueries {
+
+  @Test
+  public void statementsFetchRowsInBlocks() throws SQLException {
+    Platform platform = new PostgreSqlPlatform();
+    platform.setQueryFetchSize(500);
+    List<String> calls = new ArrayList<>();
+
+    platform.createStreamingStatement(createConnection(calls));
+
+    assertThat(calls, contains("setAutoCommit(false)", "setFetchSize(500)"));
+  }
+
+  @Test
+  public void defaultFetchSizeIsUsedIfNotSet() {
+    assertThat(new PostgreSqlPlatform().getQueryFetchSize(), is(1000));
+  }
+
+  @Test
+  public void transactionIsEndedIfConnectionWasInAutocommit() {
+    Platform platform = new PostgreSqlPlatform();
+    List<String> calls = new ArrayList<>();
+
+    platform.endStreaming(createConnection(calls), true);
+
+    assertThat(calls, contains("rollback()", "setAutoCommit(true)"));
+  }
+
+  @Test
+  public void callerTransactionIsKept() {
+    Platform platform = new PostgreSqlPlatform();
+    List<String> calls = new ArrayList<>();
+
+    platform.endStreaming(createConnection(calls), false);
+
+    assertThat(calls, empty());
+  }
+
+  /** Creates a connection recording the calls changing its state or the state of its statements */
+  private Connection createConnection(List<String> calls) {
+    Statement statement = (Statement) Proxy.newProxyInstance(getClass().getClassLoader(),
+        new Class<?>[] { Statement.class }, (proxy, method, args) -> {
+          if (method.getName().startsWith("set")) {
+            calls.add(method.getName() + "(" + args[0] + ")");
+          }
+          return null;
+        });
+    return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(),
+        new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+          switch (method.getName()) {
+            case "createStatement":
+              return statement;
+            case "isClosed":
+              return false;
+            case "setAutoCommit":
+            case "rollback":
+              calls.add(method.getName() + "(" + (args == null ? "" : args[0]) + ")");
+              return null;
+            default:
+              return null;
+          }
+        });
+  }
+}
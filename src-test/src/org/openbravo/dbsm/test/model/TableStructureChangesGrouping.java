@@ -0,0 +1,79 @@
+/*
+ ************************************************************************************
+ * Copyright (C) 2026 Openbravo S.L.U.
+ * Licensed under the Apache Software License version 2.0
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to  in writing,  software  distributed
+ * under the License is distributed  on  an  "AS IS"  BASIS,  WITHOUT  WARRANTIES  OR
+ * CONDITIONS OF ANY KIND, either  express  or  implied.  See  the  License  for  the
+ * specific language governing permissions and limitations under the License.
+ ************************************************************************************
+ */
+
+package org.openbravo.dbsm.test.model;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import org.apache.ddlutils.model.Database;
+import org.junit.Before;
+import org.junit.Test;
+import org.openbravo.dbsm.test.base.DbsmTest;
+
+/**
+ * Test cases covering the changes in the structure of several tables, which are applied
+ * concurrently with a different connection per table.
+ */
+public class TableStructureChangesGrouping extends DbsmTest {
+
+  private static final String MODEL_DIRECTORY = "tableStructureChanges/";
+  private static final int THREADS = 4;
+
+  public TableStructureChangesGrouping(String rdbms, String driver, String url, String sid,
+      String user, String password, String name) throws FileNotFoundException, IOException {
+    super(rdbms, driver, url, sid, user, password, name);
+  }
+
+  @Before
+  public void configureConcurrentTableStructureChanges() {
+    setNumberOfThreads(THREADS);
+    setConcurrentTableStructureChanges(true);
+  }
+
+  @Test
+  public void columnsAreAddedConcurrently() throws SQLException {
+    assertTablesAreChanged();
+  }
+
+  @Test
+  public void tablesAreRecreatedConcurrently() throws SQLException {
+    // the foreign key between the recreated tables is dropped before changing them
+    recreationMode = RecreationMode.forced;
+    assertTablesAreChanged();
+  }
+
+  private void assertTablesAreChanged() throws SQLException {
+    resetDB();
+    Database originalModel = updateDatabase(MODEL_DIRECTORY + "BASE_MODEL.xml");
+    String test1Id = generateRow(originalModel, "TEST1");
+    String test3Id = generateRow(originalModel, "TEST3");
+    try (Connection cn = getDataSource().getConnection();
+        PreparedStatement st = cn
+            .prepareStatement("INSERT INTO TEST2 (TEST2_ID, TEST1_ID) VALUES ('1', ?)")) {
+      st.setString(1, test1Id);
+      st.executeUpdate();
+    }
+
+    updateDatabase(MODEL_DIRECTORY + "NEW_COLUMNS.xml");
+
+    assertThat(getActualValue("TEST1", "TEST1_ID"), equalTo(test1Id));
+    assertThat(getActualValue("TEST2", "TEST1_ID"), equalTo(test1Id));
+    assertThat(getActualValue("TEST3", "TEST3_ID"), equalTo(test3Id));
+  }
+}
@@ -0,0 +1,137 @@
+/*
+ ************************************************************************************
+ * Copyright (C) 2026 Openbravo S.L.U.
+ * Licensed under the Apache Software License version 2.0
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to  in writing,  software  distributed
+ * under the License is distributed  on  an  "AS IS"  BASIS,  WITHOUT  WARRANTIES  OR
+ * CONDITIONS OF ANY KIND, either  express  or  implied.  See  the  License  for  the
+ * specific language governing permissions and limitations under the License.
+ ************************************************************************************
+ */
+
+package org.openbravo.dbsm.test.model;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.ddlutils.translation.ByLineTranslation;
+import org.apache.ddlutils.translation.CombinedTranslation;
+import org.apache.ddlutils.translation.ReplacePatTranslation;
+import org.apache.ddlutils.translation.ReplaceStrTranslation;
+import org.apache.ddlutils.translation.Translation;
+import org.junit.Test;
+
+/**
+ * Test cases covering the anchors used by {@link CombinedTranslation} to skip translations that
+ * cannot modify the code.
+ */
+public class TranslationAnchors {
+
+  @Test
+  public void anchorIsTheLongestLiteralInPattern() {
+    assertThat(new ReplaceStrTranslation(" NUMERIC,", " NUMBER,").getAnchor(),
+        equalTo("numeric,"));
+    assertThat(new ReplacePatTranslation("(TRUNC)(\\()(\\S+)(,)('MM')(\\))", "x").getAnchor(),
+        equalTo("trunc("));
+    assertThat(new ReplacePatTranslation("RAISE EXCEPTION '%',\\s*SQLERRM\\s*;", "x").getAnchor(),
+        equalTo("raise exception '%',"));
+  }
+
+  @Test
+  public void optionalPartsAreNotAnchors() {
+    assertThat(new ReplacePatTranslation("VARCHAR2?_X", "x").getAnchor(), equalTo("varchar"));
+    assertThat(new ReplacePatTranslation("(ABC)*DE", "x").getAnchor(), equalTo("de"));
+  }
+
+  @Test
+  public void alternativesHaveNoAnchor() {
+    assertThat(new ReplacePatTranslation("NUMERIC|NUMBER", "x").getAnchor(), nullValue());
+    assertThat(new ReplacePatTranslation("(?x)NUMERIC", "x").getAnchor(), nullValue());
+  }
+
+  @Test
+  public void translationsWithoutAnchorInCodeAreNotExecuted() {
+    List<String> executed = new ArrayList<>();
+    CombinedTranslation translation = new CombinedTranslation();
+    translation.append(new RecordingTranslation("TIMESTAMP", executed));
+    translation.append(new ByLineTranslation(new RecordingTranslation("NUMERIC", executed)));
+    translation.append(new RecordingTranslation("numeric", executed));
+
+    translation.exec("v_Count NUMERIC;\n");
+
+    assertThat(executed.toString(), equalTo("[NUMERIC, numeric]"));
+  }
+
+  @Test
+  public void anchorsGeneratedByPreviousTranslationsAreFound() {
+    CombinedTranslation translation = new CombinedTranslation();
+    translation.append(new ReplaceStrTranslation(" NUMERIC;", " NUMBER;"));
+    translation.append(new ReplaceStrTranslation(" NUMBER;", " DECIMAL;"));
+    translation.append(new ByLineTranslation(new ReplaceStrTranslation("DECIMAL", "NUMBER(10)")));
+    translation.append(new ByLineTranslation(new ReplaceStrTranslation("(10)", "(12)")));
+
+    assertThat(translation.exec("v_Count NUMERIC;\nv_Name VARCHAR;\n"),
+        equalTo("v_Count NUMBER(12);\nv_Name VARCHAR;\n"));
+  }
+
+  @Test
+  public void linesAreNormalizedEvenIfNoTranslationIsExecuted() {
+    CombinedTranslation translation = new CombinedTranslation();
+    translation.append(new ByLineTranslation(new ReplaceStrTranslation("NUMERIC", "NUMBER")));
+
+    assertThat(translation.exec("BEGIN\r\n  NULL;\r\nEND"), is("BEGIN\n  NULL;\nEND\n"));
+  }
+
+  @Test
+  public void anchorsOfSharedTranslationsAreComputedOnce() {
+    List<String> executed = new ArrayList<>();
+    CombinedTranslation shared = new CombinedTranslation();
+    RecordingTranslation numeric = new RecordingTranslation("NUMERIC", executed);
+    shared.append(numeric);
+    shared.append(new RecordingTranslation("TIMESTAMP", executed));
+
+    for (String anchor : new String[] { "END", "BEGIN" }) {
+      CombinedTranslation extended = new ExtendedTranslation(shared);
+      extended.append(new RecordingTranslation(anchor, executed));
+      extended.exec("BEGIN\n  v_Count NUMERIC;\nEND");
+    }
+
+    assertThat(executed.toString(), equalTo("[NUMERIC, END, NUMERIC, BEGIN]"));
+    assertThat(numeric.anchorRequests, is(1));
+  }
+
+  private static class ExtendedTranslation extends CombinedTranslation {
+    private ExtendedTranslation(CombinedTranslation base) {
+      super(base);
+    }
+  }
+
+  private static class RecordingTranslation implements Translation {
+    private String anchor;
+    private List<String> executed;
+    private int anchorRequests;
+
+    private RecordingTranslation(String anchor, List<String> executed) {
+      this.anchor = anchor;
+      this.executed = executed;
+    }
+
+    @Override
+    public String exec(String s) {
+      executed.add(anchor);
+      return s;
+    }
+
+    @Override
+    public String getAnchor() {
+      anchorRequests++;
+      return anchor;
+    }
+  }
+}
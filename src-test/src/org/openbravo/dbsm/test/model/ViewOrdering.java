@@ -0,0 +1,90 @@
+/*
+ ************************************************************************************
+ * Copyright (C) 2026 Openbravo S.L.U.
+ * Licensed under the Apache Software License version 2.0
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to  in writing,  software  distributed
+ * under the License is distributed  on  an  "AS IS"  BASIS,  WITHOUT  WARRANTIES  OR
+ * CONDITIONS OF ANY KIND, either  express  or  implied.  See  the  License  for  the
+ * specific language governing permissions and limitations under the License.
+ ************************************************************************************
+ */
+
+package org.openbravo.dbsm.test.model;
+
+import static org.hamcrest.Matchers.contains;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+
+import org.apache.ddlutils.model.MaterializedView;
+import org.apache.ddlutils.model.StructureObject;
+import org.apache.ddlutils.model.View;
+import org.apache.ddlutils.platform.ViewDependencies;
+import org.junit.Test;
+
+/**
+ * Test cases covering the order in which views are created, which must be created after the views
+ * they depend on.
+ */
+public class ViewOrdering {
+
+  @Test
+  public void viewsAreSortedByDependencies() {
+    View v1 = createView("V1", "SELECT * FROM T1");
+    View v2 = createView("V2", "SELECT * FROM v1 JOIN T2 ON v1.id = t2.id");
+    View v3 = createView("V3", "SELECT * FROM V2, \"V1\"");
+
+    assertThat(ViewDependencies.sort(Arrays.asList(v3, v2, v1)), contains(v1, v2, v3));
+  }
+
+  @Test
+  public void independentViewsKeepTheirOrder() {
+    View v1 = createView("V1", "SELECT * FROM T1");
+    View v2 = createView("V2", "SELECT * FROM T2");
+    View v3 = createView("V3", "SELECT * FROM V4");
+    View v4 = createView("V4", "SELECT * FROM T4");
+
+    assertThat(ViewDependencies.sort(Arrays.asList(v2, v3, v1, v4)), contains(v2, v1, v4, v3));
+  }
+
+  @Test
+  public void literalsAndCommentsAreNotDependencies() {
+    View v1 = createView("V1", "SELECT 'V2' AS name, 'it''s V2' FROM T1 -- V2\n /* V2 */");
+    View v2 = createView("V2", "SELECT * FROM T2");
+
+    assertThat(ViewDependencies.sort(Arrays.asList(v1, v2)), contains(v1, v2));
+  }
+
+  @Test
+  public void materializedViewsAreSortedWithViews() {
+    MaterializedView mv = createMaterializedView("MV", "SELECT * FROM V1");
+    View v1 = createView("V1", "SELECT * FROM T1");
+    View v2 = createView("V2", "SELECT * FROM MV");
+
+    assertThat(ViewDependencies.sort(Arrays.<StructureObject> asList(v2, mv, v1)),
+        contains(v1, mv, v2));
+  }
+
+  @Test
+  public void viewsInCyclesAreKeptAtTheEnd() {
+    View v1 = createView("V1", "SELECT * FROM V2");
+    View v2 = createView("V2", "SELECT * FROM V1");
+    View v3 = createView("V3", "SELECT * FROM V2");
+    View v4 = createView("V4", "SELECT * FROM V4_TABLE");
+
+    assertThat(ViewDependencies.sort(Arrays.asList(v1, v2, v3, v4)), contains(v4, v1, v2, v3));
+  }
+
+  private View createView(String name, String statement) {
+    View view = new View(name);
+    view.setStatement(statement);
+    return view;
+  }
+
+  private MaterializedView createMaterializedView(String name, String statement) {
+    MaterializedView view = new MaterializedView(name);
+    view.setStatement(statement);
+    return view;
+  }
+}
@@ -1,8 +1,18 @@
 package org.openbravo.dbsm.test.model.recreation;
 
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalToIgnoringCase;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assume.assumeThat;
+
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.util.List;
 
+import org.apache.ddlutils.platform.TableRecreation;
 import org.junit.Test;
 
 public class ColumnSizeChange extends DataTypeChanges {
@@ -18,6 +28,45 @@ public class ColumnSizeChange extends DataTypeChanges {
     assertTablesAreNotRecreated("DATA_TYPE_BASE.xml", "DATA_TYPE2.xml");
   }
 
+  @Test
+  public void decreaseVarcharSize() {
+    recreatedOnlyBeforePostgreSql11();
+
+    assertTablesAreRecreated("DATA_TYPE2.xml", "DATA_TYPE_BASE.xml", false);
+  }
+
+  @Test
+  public void decreaseVarcharSizePG11() {
+    // values are converted in place, failing if any of them does not fit
+    worksOnlyInPostgreSql11();
+
+    assertTablesAreNotRecreated("DATA_TYPE2.xml", "DATA_TYPE_BASE.xml", false);
+  }
+
+  @Test
+  public void decreaseVarcharSizeIsReported() {
+    recreatedOnlyBeforePostgreSql11();
+
+    List<TableRecreation> recreations = getTableRecreations("DATA_TYPE2.xml",
+        "DATA_TYPE_BASE.xml");
+    assertThat(recreations, hasSize(1));
+    assertThat(recreations.get(0).getTableName(), equalToIgnoringCase("TEST"));
+    if (recreationMode == RecreationMode.forced) {
+      assertThat(recreations.get(0).getReasons(), contains("Recreation forced by parameter"));
+    } else {
+      assertThat(recreations.get(0).getReasons(), hasSize(1));
+    }
+  }
+
+  @Test
+  public void decreaseVarcharSizeIsNotReportedPG11() {
+    worksOnlyInPostgreSql11();
+    assumeThat("Tables are always recreated in forced mode", recreationMode,
+        is(RecreationMode.standard));
+
+    assertThat(getTableRecreations("DATA_TYPE2.xml", "DATA_TYPE_BASE.xml"), empty());
+  }
+
   @Test
   public void increaseCharSize() {
     assertTablesAreNotRecreated("DATA_TYPE_BASE.xml", "DATA_TYPE3.xml");
@@ -30,9 +79,19 @@ public class ColumnSizeChange extends DataTypeChanges {
 
   @Test
   public void increaseScaleKeepPrecision() {
+    recreatedOnlyBeforePostgreSql11();
+
     assertTablesAreRecreated("DATA_TYPE_NUMBERS_BASE.xml", "DATA_TYPE_NUMBERS2.xml", false);
   }
 
+  @Test
+  public void increaseScaleKeepPrecisionPG11() {
+    // values are converted in place, failing if any of them does not fit
+    worksOnlyInPostgreSql11();
+
+    assertTablesAreNotRecreated("DATA_TYPE_NUMBERS_BASE.xml", "DATA_TYPE_NUMBERS2.xml", false);
+  }
+
   @Test
   public void decreaseScaleKeepPrecision() {
     // ORA-01440: column to be modified must be empty to decrease precision or scale
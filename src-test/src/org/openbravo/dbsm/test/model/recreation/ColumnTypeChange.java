@@ -58,4 +58,18 @@ public class ColumnTypeChange extends DataTypeChanges {
   public void changeTextToVarchar() {
     assertTablesAreRecreated("DATA_TYPE5.xml", "DATA_TYPE_BASE.xml");
   }
+
+  @Test
+  public void changeCharToVarchar() {
+    recreatedOnlyBeforePostgreSql11();
+
+    assertTablesAreRecreated("DATA_TYPE_BASE.xml", "DATA_TYPE9.xml");
+  }
+
+  @Test
+  public void changeCharToVarcharPG11() {
+    worksOnlyInPostgreSql11();
+
+    assertTablesAreNotRecreated("DATA_TYPE_BASE.xml", "DATA_TYPE9.xml");
+  }
 }
@@ -130,6 +130,7 @@ public class OtherRecreations extends TableRecreationBaseTest {
 
   @Test
   public void fksShoulBeRecreatedWhenRefTableIsRecreated() throws SQLException {
+    recreatedOnlyBeforePostgreSql11();
     resetDB();
     updateDatabase("recreation/FK.xml");
     List<String> l = sqlStatmentsForUpdate("recreation/FK3.xml");
@@ -152,6 +153,7 @@ public class OtherRecreations extends TableRecreationBaseTest {
 
   @Test
   public void fksShoulBeRecreatedWhenRefTableIsRecreatedAD() throws SQLException {
+    recreatedOnlyBeforePostgreSql11();
     resetDB();
     updateDatabase("recreation/FK.xml", "data/createDefault", Arrays.asList("TEST", "TEST2"));
     List<String> l = sqlStatmentsForUpdate("recreation/FK3.xml", "data/createDefault",
@@ -217,6 +219,25 @@ public class OtherRecreations extends TableRecreationBaseTest {
     updateDatabase("recreation/FK41.xml");
   }
 
+  @Test
+  public void numericColumnIsConvertedToTextInPlace() throws SQLException {
+    worksOnlyInPostgreSql11();
+    resetDB();
+    updateDatabase("recreation/FK.xml");
+    List<String> l = sqlStatmentsForUpdate("recreation/FK3.xml");
+    StringBuilder allSts = new StringBuilder();
+    for (String st : l) {
+      allSts.append(st);
+    }
+
+    if (recreationMode == RecreationMode.standard) {
+      assertThat(allSts.toString(),
+          allOf(containsString("ALTER COLUMN COL1 TYPE VARCHAR(10) USING COL1::text"),
+              not(containsString("DROP CONSTRAINT"))));
+    }
+    updateDatabase("recreation/FK3.xml");
+  }
+
   @Test
   public void fkToRecreatedTable() throws SQLException {
     resetDB();
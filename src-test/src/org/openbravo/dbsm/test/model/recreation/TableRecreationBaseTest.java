@@ -11,11 +11,14 @@
  */
 package org.openbravo.dbsm.test.model.recreation;
 
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.Matchers.contains;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeThat;
 
+import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.sql.Connection;
@@ -27,11 +30,15 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 
+import org.apache.ddlutils.Platform;
 import org.apache.ddlutils.model.Database;
 import org.apache.ddlutils.model.Table;
+import org.apache.ddlutils.platform.TableRecreation;
+import org.apache.ddlutils.platform.postgresql.PostgreSql11Builder;
 import org.codehaus.jettison.json.JSONException;
 import org.junit.runners.Parameterized.Parameters;
 import org.openbravo.dbsm.test.base.DbsmTest;
+import org.openbravo.ddlutils.task.DatabaseUtils;
 
 public class TableRecreationBaseTest extends DbsmTest {
   protected static final String MODEL_DIRECTORY = "recreation/";
@@ -68,6 +75,42 @@ public class TableRecreationBaseTest extends DbsmTest {
     return configs;
   }
 
+  /**
+   * Skips the test in PostgreSQL 11 and later, which change in place some columns that are
+   * recreated by the rest of databases.
+   */
+  protected void recreatedOnlyBeforePostgreSql11() {
+    if (recreationMode == RecreationMode.standard) {
+      assumeThat("Column changed in place", changesMoreColumnsInPlace(), is(false));
+    }
+  }
+
+  /** Skips the test unless it is run in PostgreSQL 11 or later */
+  protected void worksOnlyInPostgreSql11() {
+    assumeThat("Feature supported only for PostgreSQL 11 and later", changesMoreColumnsInPlace(),
+        is(true));
+  }
+
+  private boolean changesMoreColumnsInPlace() {
+    return getPlatform().getSqlBuilder() instanceof PostgreSql11Builder;
+  }
+
+  /**
+   * Returns the tables that would be recreated when updating from one model to the other, without
+   * applying the changes of the second one
+   */
+  protected List<TableRecreation> getTableRecreations(String fromModel, String toModel) {
+    resetDB();
+    updateDatabase(MODEL_DIRECTORY + fromModel);
+    Platform platform = getPlatform();
+    if (recreationMode == RecreationMode.forced) {
+      platform.getSqlBuilder().setForcedRecreation("all");
+    }
+    Database desiredModel = DatabaseUtils
+        .readDatabaseWithoutConfigScript(new File("model", MODEL_DIRECTORY + toModel));
+    return platform.getTableRecreations(readModelFromDB(), desiredModel);
+  }
+
   protected void assertTablesAreNotRecreated(String toModel) {
     String fromModel = type == ActionType.prepend ? "BASE_MODEL_PREPEND.xml" : "BASE_MODEL.xml";
     assertTablesAreNotRecreated(fromModel, toModel, true);
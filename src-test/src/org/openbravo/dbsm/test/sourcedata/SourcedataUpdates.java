@@ -65,4 +65,69 @@ public class SourcedataUpdates extends DbsmTest {
 
     updateDatabase(model, "data/datachanges1/v2", adTables);
   }
+
+  /** Changes in rows of the same table are applied in order when they are sent in batches */
+  @Test
+  public void updatesAreAppliedInProperOrderInBatches() {
+    setDataChangesBatchSize(1);
+    resetDB();
+    String model = "constraints/SIMPLE_UNIQUE.xml";
+    List<String> adTables = Arrays.asList("TEST");
+
+    updateDatabase(model, "data/datachanges1/v1", adTables);
+
+    // v2 inserts a row with the previous name of an updated row, the unique constraint fails if
+    // the insertion is executed first
+    updateDatabase(model, "data/datachanges1/v2", adTables);
+  }
+
+  /** Data changes applied with set based statements leave the same data as row by row */
+  @Test
+  public void setBasedDataChangesAreApplied() throws SQLException {
+    setSetBasedDataChangesThreshold(1);
+    resetDB();
+    String model = "constraints/TWO_COLS_CHECK.xml";
+    List<String> adTables = Arrays.asList("TEST");
+
+    updateDatabase(model, "data/datachanges/v1", adTables);
+    updateDatabase(model, "data/datachanges/v2", adTables);
+
+    assertThat("updated value in test.col1", getActualValue("test", "col1"), is("v2"));
+    assertThat("updated value in test.col2", getActualValue("test", "col2"), is("v2"));
+  }
+
+  /** Data changes found comparing tables concurrently are the same ones found one by one */
+  @Test
+  public void concurrentDataComparisonFindsTheSameChanges() {
+    setNumberOfThreads(3);
+    resetDB();
+    String model = "foreignKeys/TABLES_WITH_FK_CONSTRAINTS_FOR_ROW_DELETION_TEST.xml";
+    List<String> adTables = Arrays.asList("TABLE2", "TABLE3", "TABLE1");
+    updateDatabase(model,
+        "data/preventCascadeConstraintDeletion/TablesWithTwoRecordsCascadeRowDeletion", adTables);
+
+    String newData = "data/preventCascadeConstraintDeletion/TablesWithOneRecordCascadeRowDeletion";
+    List<String> sequentialStatements = sqlStatmentsForUpdate(model, newData, adTables);
+    setParallelDataComparison(true);
+    List<String> concurrentStatements = sqlStatmentsForUpdate(model, newData, adTables);
+
+    assertThat(concurrentStatements, is(sequentialStatements));
+  }
+
+  /** Data changes found reading rows from database one by one are the same ones found in memory */
+  @Test
+  public void streamingDataComparisonFindsTheSameChanges() {
+    resetDB();
+    String model = "foreignKeys/TABLES_WITH_FK_CONSTRAINTS_FOR_ROW_DELETION_TEST.xml";
+    List<String> adTables = Arrays.asList("TABLE2", "TABLE3", "TABLE1");
+    updateDatabase(model,
+        "data/preventCascadeConstraintDeletion/TablesWithTwoRecordsCascadeRowDeletion", adTables);
+
+    String newData = "data/preventCascadeConstraintDeletion/TablesWithOneRecordCascadeRowDeletion";
+    List<String> inMemoryStatements = sqlStatmentsForUpdate(model, newData, adTables);
+    setStreamingDataComparison(true);
+    List<String> streamingStatements = sqlStatmentsForUpdate(model, newData, adTables);
+
+    assertThat(streamingStatements, is(inMemoryStatements));
+  }
 }
@@ -22,6 +22,8 @@ package org.apache.ddlutils;
 import java.io.Writer;
 import java.sql.Connection;
 import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
@@ -44,6 +46,7 @@ import org.apache.ddlutils.platform.ModelBasedResultSetIterator;
 import org.apache.ddlutils.platform.ModelLoader;
 import org.apache.ddlutils.platform.SQLBatchEvaluator;
 import org.apache.ddlutils.platform.SqlBuilder;
+import org.apache.ddlutils.platform.TableRecreation;
 import org.openbravo.ddlutils.util.OBDataset;
 
 /**
@@ -604,6 +607,13 @@ public interface Platform {
   public List alterTablesRecreatePKs(Database currentModel, Database desiredModel,
       boolean continueOnError) throws DatabaseOperationException;
 
+  /**
+   * Returns the tables that would be recreated when altering the current model into the desired
+   * one, with the changes that cannot be applied to the existing tables. The database is not
+   * modified.
+   */
+  public List<TableRecreation> getTableRecreations(Database currentModel, Database desiredModel);
+
   /**
    * Returns the SQL for altering the database schema so that it match the given model.
    * 
@@ -1344,6 +1354,20 @@ public interface Platform {
   public void deleteDataFromTable(Connection connection, Database model, String[] tables,
       String[] sqlfilters, boolean continueOnError);
 
+  /**
+   * Creates a statement whose queries fetch the rows in blocks of {@link #getQueryFetchSize()} rows
+   * instead of keeping all of them in memory. As some drivers, like PostgreSQL one, only do it
+   * inside a transaction, autocommit is disabled in the connection, {@link #endStreaming} must be
+   * invoked once the rows are read.
+   */
+  public Statement createStreamingStatement(Connection connection) throws SQLException;
+
+  /**
+   * Ends the transaction opened to stream rows with a statement created by
+   * {@link #createStreamingStatement(Connection)}, if the connection was in autocommit mode before.
+   */
+  public void endStreaming(Connection connection, boolean autoCommit);
+
   public ModelBasedResultSetIterator createResultSetIterator(Database model, ResultSet resultSet,
       Table[] queryHints);
 
@@ -1465,4 +1489,52 @@ public interface Platform {
   /** Returns the maximum number of threads parallelizable tasks can use */
   public int getMaxThreads();
 
+  /** Sets how many rows are sent to the database in each batch when data changes are applied */
+  public void setDataChangesBatchSize(int batchSize);
+
+  /** Returns how many rows are sent to the database in each batch when data changes are applied */
+  public int getDataChangesBatchSize();
+
+  /** Sets how many rows are fetched at once by the queries reading the data of the tables */
+  public void setQueryFetchSize(int fetchSize);
+
+  /** Returns how many rows are fetched at once by the queries reading the data of the tables */
+  public int getQueryFetchSize();
+
+  /**
+   * Sets from how many changes of the same kind in a table they are applied with set based
+   * statements instead of row by row, if the platform supports it
+   */
+  public void setSetBasedDataChangesThreshold(int threshold);
+
+  /** Returns from how many changes of the same kind in a table set based statements are used */
+  public int getSetBasedDataChangesThreshold();
+
+  /**
+   * Sets whether foreign keys and check constraints are created without validating the existing
+   * rows, validating them afterwards concurrently, if the platform supports it
+   */
+  public void setConcurrentConstraintValidation(boolean concurrentConstraintValidation);
+
+  /** Returns whether constraints are validated concurrently after creating them */
+  public boolean isConcurrentConstraintValidation();
+
+  /**
+   * Sets whether the onCreateDefault values of the columns of a table are set with a single
+   * statement instead of one per column, if the platform supports it
+   */
+  public void setCombinedOnCreateDefaults(boolean combinedOnCreateDefaults);
+
+  /** Returns whether the onCreateDefault values of a table are set with a single statement */
+  public boolean isCombinedOnCreateDefaults();
+
+  /**
+   * Sets whether the structure of different tables is changed concurrently, each table in its own
+   * connection, when more than one thread is available
+   */
+  public void setConcurrentTableStructureChanges(boolean concurrentTableStructureChanges);
+
+  /** Returns whether the structure of different tables is changed concurrently */
+  public boolean isConcurrentTableStructureChanges();
+
 }
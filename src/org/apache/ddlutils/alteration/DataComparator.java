@@ -14,15 +14,22 @@ package org.apache.ddlutils.alteration;
 import java.math.BigInteger;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Vector;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.commons.beanutils.DynaBean;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.apache.ddlutils.DdlUtilsException;
 import org.apache.ddlutils.Platform;
 import org.apache.ddlutils.PlatformInfo;
 import org.apache.ddlutils.dynabean.SqlDynaClass;
@@ -45,6 +52,8 @@ public class DataComparator {
   private boolean _caseSensitive;
   private Vector<Change> dataChanges = new Vector<Change>();
   private List modelChanges;
+  private boolean parallelComparison = false;
+  private boolean streamingComparison = false;
 
   public DataComparator(PlatformInfo platformInfo, boolean caseSensitive) {
     _platformInfo = platformInfo;
@@ -75,8 +84,9 @@ public class DataComparator {
   public void compare(Database originaldb, Database currentdb, Platform platform,
       DatabaseData oldData, OBDataset dataset, String moduleId) throws SQLException {
 
-    ModelComparator modelComparator = new ModelComparator(_platformInfo, _caseSensitive);
-    modelChanges = modelComparator.compare(originaldb, currentdb);
+    // models compared with themselves, as done to check formal changes, have no changes
+    modelChanges = new ModelChangeSet(_platformInfo, _caseSensitive, originaldb, currentdb)
+        .getChanges();
     Table[] tables = currentdb.getTables();
 
     List<OBDatasetTable> tableList = dataset.getTableList();
@@ -86,23 +96,10 @@ public class DataComparator {
     for (OBDatasetTable dsTable : tableList) {
       Table table = currentdb.findTable(dsTable.getName());
       // Tables can now be compared.
-      Connection connection = platform.borrowConnection();
-      DatabaseDataIO dbIO = new DatabaseDataIO();
-      Vector<DynaBean> rowsNewData = dbIO.readRowsFromTableList(connection, platform, currentdb,
-          table, dsTable, moduleId);
-      if (rowsNewData == null) {
-        _log.error("Couldn't read rows from table " + table.getName());
-        throw new SQLException("Couldn't read rows from table " + table.getName());
-      }
+      Vector<DynaBean> rowsNewData = readRowsFromDatabase(currentdb, platform, table, dsTable,
+          moduleId);
       Vector<DynaBean> rowsOldData = oldData.getRowsFromTable(table.getName());
-      compareTablesToUpdate(currentdb, table, dsTable, rowsOldData, rowsNewData);
-      try {
-        if (!connection.isClosed()) {
-          connection.close();
-        }
-      } catch (Exception ex) {
-        // _log.error(ex.getLocalizedMessage());
-      }
+      compareTablesToUpdate(currentdb, table, dsTable, rowsOldData, rowsNewData, dataChanges);
     }
 
   }
@@ -110,39 +107,213 @@ public class DataComparator {
   public void compareToUpdate(Database currentdb, Platform platform, DatabaseData newData,
       OBDataset dataset, String moduleId) throws SQLException {
 
-    Table[] tables = currentdb.getTables();
-
     List<OBDatasetTable> tableList = dataset.getTableList();
 
-    // Now we will compare tables. If tables are equivalent in both models,
-    // we will compare rows.
-    for (OBDatasetTable dsTable : tableList) {
-      Table table = currentdb.findTable(dsTable.getName());
-      // Tables can now be compared.
-      Connection connection = platform.borrowConnection();
+    int numOfThreads = parallelComparison ? Math.min(platform.getMaxThreads(), tableList.size())
+        : 1;
+    if (numOfThreads <= 1) {
+      for (OBDatasetTable dsTable : tableList) {
+        dataChanges.addAll(compareTableToUpdate(currentdb, platform, newData, dsTable, moduleId));
+      }
+    } else {
+      compareTablesToUpdateConcurrently(currentdb, platform, newData, tableList, moduleId,
+          numOfThreads);
+    }
+    // the sort is stable, so changes of each type keep the order of the tables in the dataset
+    Collections.sort(dataChanges, new ChangeComparator());
+
+  }
+
+  /**
+   * Compares the tables using up to numOfThreads connections. The changes of each table are added
+   * in the same order the tables have in the dataset, as done when comparing them one by one.
+   */
+  private void compareTablesToUpdateConcurrently(Database currentdb, Platform platform,
+      DatabaseData newData, List<OBDatasetTable> tableList, String moduleId, int numOfThreads)
+      throws SQLException {
+    long t = System.currentTimeMillis();
+    List<Callable<List<Change>>> tasks = new ArrayList<>(tableList.size());
+    for (final OBDatasetTable dsTable : tableList) {
+      tasks.add(() -> compareTableToUpdate(currentdb, platform, newData, dsTable, moduleId));
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(numOfThreads);
+    try {
+      for (Future<List<Change>> tableChanges : executor.invokeAll(tasks)) {
+        dataChanges.addAll(tableChanges.get());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new DdlUtilsException("Interrupted while comparing data", e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof SQLException) {
+        throw (SQLException) cause;
+      } else if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new DdlUtilsException("Error comparing data", cause);
+    } finally {
+      executor.shutdown();
+    }
+
+    _log.info("Compared data of " + tableList.size() + " tables using " + numOfThreads
+        + " threads in " + (System.currentTimeMillis() - t) + " ms");
+  }
+
+  /** Returns the changes needed to update the rows of a table in database to the new data */
+  private List<Change> compareTableToUpdate(Database currentdb, Platform platform,
+      DatabaseData newData, OBDatasetTable dsTable, String moduleId) throws SQLException {
+    Table table = currentdb.findTable(dsTable.getName());
+    if (streamingComparison && table.getPrimaryKeyColumns().length > 0) {
+      List<Change> changes = compareTableToUpdateStreaming(currentdb, platform, table, dsTable,
+          newData.getRowsFromTable(table.getName()), moduleId);
+      if (changes != null) {
+        return changes;
+      }
+      _log.debug("Rows of table " + table.getName()
+          + " are not sorted by ID in database, comparing them in memory");
+    }
+    // Tables can now be compared.
+    Vector<DynaBean> rowsOldData = readRowsFromDatabase(currentdb, platform, table, dsTable,
+        moduleId);
+    Vector<DynaBean> rowsNewData = newData.getRowsFromTable(table.getName());
+    List<Change> changes = new ArrayList<Change>();
+    compareTablesToUpdate(currentdb, table, dsTable, rowsOldData, rowsNewData, changes);
+    return changes;
+  }
+
+  /**
+   * Compares the rows of a table in database with the new data without reading all of them in
+   * memory. Returns null if the rows read from database are not sorted in the same order as the
+   * new data, in which case they need to be compared in memory.
+   */
+  private List<Change> compareTableToUpdateStreaming(Database currentdb, Platform platform,
+      Table table, OBDatasetTable dsTable, Vector<DynaBean> rowsNew, String moduleId)
+      throws SQLException {
+    RowMerger merger = new RowMerger(currentdb, table, dsTable, rowsNew);
+    Connection connection = platform.borrowConnection();
+    try {
       DatabaseDataIO dbIO = new DatabaseDataIO();
-      Vector<DynaBean> rowsOldData = dbIO.readRowsFromTableList(connection, platform, currentdb,
-          table, dsTable, moduleId);
-      if (rowsOldData == null) {
+      if (!dbIO.readRowsFromTableList(connection, platform, currentdb, table, dsTable, moduleId,
+          merger::mergeOrgRow)) {
         _log.error("Couldn't read rows from table " + table.getName());
         throw new SQLException("Couldn't read rows from table " + table.getName());
       }
-      Vector<DynaBean> rowsNewData = newData.getRowsFromTable(table.getName());
-      compareTablesToUpdate(currentdb, table, dsTable, rowsOldData, rowsNewData);
+    } finally {
+      platform.returnConnection(connection);
+    }
+    return merger.finish();
+  }
+
+  /**
+   * Merges the rows read from database, received one by one, with the new rows of a table in the
+   * same way as {@link #compareTablesToUpdate} does, keeping only the changes found.
+   */
+  private class RowMerger {
+    private final Database model;
+    private final Table table;
+    private final OBDatasetTable dsTable;
+    private final Vector<DynaBean> rowsNew;
+    private final List<Change> changes = new ArrayList<Change>();
+    private int indNew = 0;
+    private String previousId;
+    private BigInteger previousIdValue;
+    private boolean unsorted = false;
+    private boolean failed = false;
+
+    private RowMerger(Database model, Table table, OBDatasetTable dsTable,
+        Vector<DynaBean> rowsNew) {
+      this.model = model;
+      this.table = table;
+      this.dsTable = dsTable;
+      this.rowsNew = rowsNew == null ? new Vector<DynaBean>() : rowsNew;
+    }
+
+    /** Returns false if no more rows need to be merged */
+    private boolean mergeOrgRow(DynaBean rowOrg) {
+      if (!isSorted(rowOrg)) {
+        unsorted = true;
+        return false;
+      }
+      while (indNew < rowsNew.size()) {
+        int comp = comparePKs(table, rowOrg, rowsNew.get(indNew));
+        if (comp == 0) {
+          compareRows(model, dsTable, rowOrg, rowsNew.get(indNew), changes);
+          indNew++;
+          return true;
+        } else if (comp == -1) {
+          changes.add(new RemoveRowChange(table, rowOrg));
+          return true;
+        } else if (comp == 1) {
+          changes.add(new AddRowChange(table, rowsNew.get(indNew)));
+          indNew++;
+        } else if (comp == -2) {
+          _log.error(
+              "Error: problem while comparing primary key in table " + table.getName() + ".");
+          failed = true;
+          return false;
+        }
+      }
+      changes.add(new RemoveRowChange(table, rowOrg));
+      return true;
+    }
+
+    /**
+     * Checks the row comes after the previous one in the order used to sort the new rows. IDs with
+     * the same value but written in a different way are not accepted, because their relative order
+     * would depend on the database.
+     */
+    private boolean isSorted(DynaBean rowOrg) {
+      String id = rowOrg.get(table.getPrimaryKeyColumns()[0].getName()).toString();
+      BigInteger idValue;
       try {
-        if (!connection.isClosed()) {
-          connection.close();
+        idValue = new BigInteger(id, 32);
+      } catch (NumberFormatException e) {
+        return false;
+      }
+      if (previousId != null) {
+        int comp = previousIdValue.compareTo(idValue);
+        if (comp > 0 || (comp == 0 && !previousId.equals(id))) {
+          return false;
         }
-      } catch (Exception ex) {
-        // _log.error(ex.getLocalizedMessage());
       }
+      previousId = id;
+      previousIdValue = idValue;
+      return true;
     }
-    Collections.sort(dataChanges, new ChangeComparator());
 
+    /** Returns the changes found, or null if the rows read from database were not sorted */
+    private List<Change> finish() {
+      if (unsorted) {
+        return null;
+      }
+      while (!failed && indNew < rowsNew.size()) {
+        changes.add(new AddRowChange(table, rowsNew.get(indNew++)));
+      }
+      return changes;
+    }
+  }
+
+  private Vector<DynaBean> readRowsFromDatabase(Database model, Platform platform, Table table,
+      OBDatasetTable dsTable, String moduleId) throws SQLException {
+    Connection connection = platform.borrowConnection();
+    try {
+      DatabaseDataIO dbIO = new DatabaseDataIO();
+      Vector<DynaBean> rows = dbIO.readRowsFromTableList(connection, platform, model, table,
+          dsTable, moduleId);
+      if (rows == null) {
+        _log.error("Couldn't read rows from table " + table.getName());
+        throw new SQLException("Couldn't read rows from table " + table.getName());
+      }
+      return rows;
+    } finally {
+      platform.returnConnection(connection);
+    }
   }
 
   private void compareTablesToUpdate(Database model, Table table, OBDatasetTable dsTable,
-      Vector<DynaBean> rowsOrg, Vector<DynaBean> rowsNew) {
+      Vector<DynaBean> rowsOrg, Vector<DynaBean> rowsNew, List<Change> changes) {
     if (rowsOrg == null && rowsNew == null) {
       return;
     }
@@ -159,18 +330,18 @@ public class DataComparator {
       int comp = comparePKs(table, rowsOrg.get(indOrg), rowsNew.get(indNew));
       if (comp == 0) // Rows have the same PKs, we have to compare them
       {
-        compareRows(model, dsTable, rowsOrg.get(indOrg), rowsNew.get(indNew));
+        compareRows(model, dsTable, rowsOrg.get(indOrg), rowsNew.get(indNew), changes);
         indNew++;
         indOrg++;
       } else if (comp == -1) // Original model has additional rows, we
       // have to "delete" them
       {
-        dataChanges.add(new RemoveRowChange(table, rowsOrg.get(indOrg)));
+        changes.add(new RemoveRowChange(table, rowsOrg.get(indOrg)));
         indOrg++;
       } else if (comp == 1) // Target model has additional rows, we have
       // to "add" them
       {
-        dataChanges.add(new AddRowChange(table, rowsNew.get(indNew)));
+        changes.add(new AddRowChange(table, rowsNew.get(indNew)));
         indNew++;
       } else if (comp == -2) {
         _log.error("Error: problem while comparing primary key in table " + table.getName() + ".");
@@ -182,19 +353,20 @@ public class DataComparator {
       // There are rows in the target tables, but not in the original tables. We have
       // to insert them
       while (indNew < rowsNew.size()) {
-        dataChanges.add(new AddRowChange(table, rowsNew.get(indNew++)));
+        changes.add(new AddRowChange(table, rowsNew.get(indNew++)));
       }
     } else if (indNew >= rowsNew.size() && indOrg < rowsOrg.size()) {
       // No rows remaining in the target table files. We will remove all the
       // remaining rows of the original table.
       while (indOrg < rowsOrg.size()) {
-        dataChanges.add(new RemoveRowChange(table, rowsOrg.get(indOrg++)));
+        changes.add(new RemoveRowChange(table, rowsOrg.get(indOrg++)));
       }
     }
 
   }
 
-  private void compareRows(Database model, OBDatasetTable table, DynaBean db1, DynaBean db2) {
+  private void compareRows(Database model, OBDatasetTable table, DynaBean db1, DynaBean db2,
+      List<Change> changes) {
 
     SqlDynaClass dynaClass = model.getDynaClassFor(db1);
     SqlDynaProperty[] primaryKeys = dynaClass.getPrimaryKeyProperties();
@@ -219,7 +391,7 @@ public class DataComparator {
         }
         if ((val1 == null && val2 != null) || (val1 != null && val2 == null)
             || (val1 != null && val2 != null && !val1.equals(val2))) {
-          dataChanges.add(new ColumnDataChange(dynaClass.getTable(), nonprimaryKeys[i].getColumn(),
+          changes.add(new ColumnDataChange(dynaClass.getTable(), nonprimaryKeys[i].getColumn(),
               val1, val2, pkVal));
           // System.out.println("Column change:
           // "+pk+"["+nonprimaryKeys[i].getName()+"]:"+v1+","+v2);
@@ -441,6 +613,22 @@ public class DataComparator {
     }
   }
 
+  /**
+   * Defines whether {@link #compareToUpdate} compares the tables concurrently, using up to
+   * {@link Platform#getMaxThreads()} connections.
+   */
+  public void setParallelComparison(boolean parallelComparison) {
+    this.parallelComparison = parallelComparison;
+  }
+
+  /**
+   * Defines whether {@link #compareToUpdate} reads the rows of the tables in database one by one,
+   * comparing them with the new data without keeping all of them in memory.
+   */
+  public void setStreamingComparison(boolean streamingComparison) {
+    this.streamingComparison = streamingComparison;
+  }
+
   public Vector<Change> getChanges() {
     return dataChanges;
   }
@@ -0,0 +1,80 @@
+/*
+ ************************************************************************************
+ * Copyright (C) 2026 Openbravo S.L.U.
+ * Licensed under the Apache Software License version 2.0
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to  in writing,  software  distributed
+ * under the License is distributed  on  an  "AS IS"  BASIS,  WITHOUT  WARRANTIES  OR
+ * CONDITIONS OF ANY KIND, either  express  or  implied.  See  the  License  for  the
+ * specific language governing permissions and limitations under the License.
+ ************************************************************************************
+ */
+
+package org.apache.ddlutils.alteration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.ddlutils.PlatformInfo;
+import org.apache.ddlutils.model.Database;
+
+/**
+ * Changes needed to transform a model into another one. The models are compared the first time the
+ * changes are requested, and the same changes are returned afterwards, so the different phases of
+ * an update can share them instead of comparing the models again.
+ *
+ * The phases remove from the list the changes they process while applying them to the current
+ * model, so the remaining changes keep matching the models. If the models are modified in any other
+ * way, the change set must be invalidated to compare them again.
+ */
+public class ModelChangeSet {
+  private static final Log _log = LogFactory.getLog(ModelChangeSet.class);
+
+  private final PlatformInfo platformInfo;
+  private final boolean caseSensitive;
+  private final Database currentModel;
+  private final Database desiredModel;
+  private List<ModelChange> changes;
+  private long comparisonTime;
+
+  public ModelChangeSet(PlatformInfo platformInfo, boolean caseSensitive, Database currentModel,
+      Database desiredModel) {
+    this.platformInfo = platformInfo;
+    this.caseSensitive = caseSensitive;
+    this.currentModel = currentModel;
+    this.desiredModel = desiredModel;
+  }
+
+  /** Returns whether the change set was computed for exactly these model instances */
+  public boolean isFor(Database current, Database desired) {
+    return currentModel == current && desiredModel == desired;
+  }
+
+  /**
+   * Returns the changes needed to transform the current model into the desired one, comparing the
+   * models only if they were not compared before.
+   */
+  public List<ModelChange> getChanges() {
+    if (changes != null) {
+      _log.info("Reusing model changes, saved " + comparisonTime + " ms comparing the models");
+      return changes;
+    }
+    long t = System.currentTimeMillis();
+    if (currentModel == desiredModel) {
+      changes = new ArrayList<>();
+    } else {
+      changes = new ModelComparator(platformInfo, caseSensitive).compare(currentModel,
+          desiredModel);
+    }
+    comparisonTime = System.currentTimeMillis() - t;
+    _log.debug("Models compared in " + comparisonTime + " ms");
+    return changes;
+  }
+
+  /** Discards the changes, so the models are compared again the next time they are requested */
+  public void invalidate() {
+    changes = null;
+  }
+}
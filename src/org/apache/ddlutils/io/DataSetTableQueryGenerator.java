@@ -18,6 +18,7 @@ import java.util.List;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.ddlutils.io.DataSetTableQueryGeneratorExtraProperties.WhereClauseSimpleExpression;
+import org.apache.ddlutils.model.Column;
 import org.apache.ddlutils.model.Table;
 import org.openbravo.ddlutils.util.OBDatasetTable;
 
@@ -241,6 +242,38 @@ public class DataSetTableQueryGenerator {
     return orderByColumns.toString();
   }
 
+  /**
+   * Given a table, returns an orderBy clause that sorts its rows by the length and then by the
+   * value of the first key column, followed by the rest of key columns. For IDs written in upper
+   * case without leading zeros this is the same order as the one given by their numeric value.
+   */
+  public String buildOrderByClauseUsingIdOrder(Table table) {
+    Column[] keyColumns = table.getPrimaryKeyColumns();
+    if (keyColumns.length == 0) {
+      return "";
+    }
+    return "LENGTH(" + keyColumns[0].getName() + ")," + buildOrderByClauseUsingKeyColumns(table);
+  }
+
+  /**
+   * Given a table, returns the columns that are read to export the records of a dataset table: its
+   * key columns and the columns included in the dataset, which do not include the audit ones if the
+   * dataset excludes them. The columns are returned in the order of the table. If the table has no
+   * key columns, an empty list is returned so all the columns are retrieved.
+   */
+  public List<String> getExportedColumns(Table table, OBDatasetTable dataSetTable) {
+    List<String> columns = new ArrayList<>();
+    if (table.getPrimaryKeyColumns().length == 0) {
+      return columns;
+    }
+    for (Column column : table.getColumns()) {
+      if (column.isPrimaryKey() || dataSetTable.includesColumn(column.getName())) {
+        columns.add(column.getName());
+      }
+    }
+    return columns;
+  }
+
   /**
    * Given a list of strings, returns a string with the concatenation of all the strings, separated
    * with commas
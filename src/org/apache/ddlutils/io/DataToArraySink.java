@@ -1,7 +1,6 @@
 package org.apache.ddlutils.io;
 
 import java.math.BigInteger;
-import java.util.Collections;
 import java.util.Comparator;
 import java.util.Vector;
 
@@ -45,15 +44,17 @@ public class DataToArraySink implements DataSink {
     DynaBean firstBean = beanVector.get(0);
     SqlDynaClass dynaClass = database.getDynaClassFor(firstBean);
     SqlDynaProperty[] primaryKeys = dynaClass.getPrimaryKeyProperties();
+    String[] pkNames = new String[primaryKeys.length];
     ComparatorChain chain = new ComparatorChain();
     for (int i = 0; i < primaryKeys.length; i++) {
+      pkNames[i] = primaryKeys[i].getName();
       Comparator<DynaBean> comp = new BeanComparator(primaryKeys[i].getName(),
           new BaseOBIDHexComparator());
       chain.addComparator(comp, false);
 
     }
 
-    Collections.sort(beanVector, chain);
+    PrimaryKeySort.sort(beanVector, pkNames, chain);
 
   }
 
@@ -32,13 +32,13 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Vector;
+import java.util.function.Predicate;
 
 import org.apache.commons.beanutils.DynaBean;
 import org.apache.commons.collections4.map.ListOrderedMap;
@@ -421,14 +421,20 @@ public class DatabaseDataIO implements DataSetTableExporter {
     DataSetTableQueryGeneratorExtraProperties extraProperties = new DataSetTableQueryGeneratorExtraProperties();
     extraProperties.setModuleId(moduleID);
     dsTable.setName(table.getName());
-    String sqlstatement = queryGenerator.generateQuery(dsTable, extraProperties);
-    try (Statement statement = con.createStatement()) {
-      ResultSet resultSet = statement.executeQuery(sqlstatement);
-      Iterator<DynaBean> iterator = platform.createResultSetIterator(model, resultSet, atables);
-      while (iterator.hasNext()) {
-        DynaBean row = (DynaBean) iterator.next();
-        writer.write(model, dsTable, row);
-        nExportedRows++;
+    // only the exported columns are read, the rest would be discarded by the writer
+    String sqlstatement = queryGenerator.generateQuery(dsTable,
+        queryGenerator.getExportedColumns(table, dsTable), extraProperties);
+    Boolean autoCommit = null;
+    try {
+      autoCommit = con.getAutoCommit();
+      try (Statement statement = platform.createStreamingStatement(con)) {
+        ResultSet resultSet = statement.executeQuery(sqlstatement);
+        Iterator<DynaBean> iterator = platform.createResultSetIterator(model, resultSet, atables);
+        while (iterator.hasNext()) {
+          DynaBean row = (DynaBean) iterator.next();
+          writer.write(model, dsTable, row);
+          nExportedRows++;
+        }
       }
       if (nExportedRows > 0) {
         _log.info(
@@ -436,7 +442,11 @@ public class DatabaseDataIO implements DataSetTableExporter {
       }
     } catch (SQLException ex) {
       _log.error("SQL command to read rows from table failed: " + sqlstatement, ex);
+      return false;
     } finally {
+      if (autoCommit != null) {
+        platform.endStreaming(con, autoCommit);
+      }
       platform.returnConnection(con);
       writer.writeDocumentEnd();
     }
@@ -453,7 +463,8 @@ public class DatabaseDataIO implements DataSetTableExporter {
     boolean anyRecordsHaveBeenExported = false;
     Table table = model.findTable(dsTable.getName());
     Connection con = platform.borrowConnection();
-    Vector<DynaBean> rows = readRowsFromTableList(con, platform, model, table, dsTable, moduleID);
+    Vector<DynaBean> rows = readRowsFromTableList(con, platform, model, table, dsTable, moduleID,
+        queryGenerator.getExportedColumns(table, dsTable));
     for (DynaBean row : rows) {
       writer.write(model, dsTable, row);
       anyRecordsHaveBeenExported = true;
@@ -496,7 +507,7 @@ public class DatabaseDataIO implements DataSetTableExporter {
   public DataReader getConfiguredDataReader(Platform platform, Database model)
       throws DdlUtilsException {
     DataToDatabaseSink sink = new DataToDatabaseSink(platform, model);
-    DataReader reader = new DataReader();
+    DataReader reader = new StaxDataReader();
 
     sink.setHaltOnErrors(_failOnError);
     sink.setEnsureForeignKeyOrder(_ensureFKOrder);
@@ -512,7 +523,7 @@ public class DatabaseDataIO implements DataSetTableExporter {
   }
 
   public DataReader getConfiguredCompareDataReader(Database database) {
-    DataReader reader = new DataReader();
+    DataReader reader = new StaxDataReader();
     reader.setSink(new DataToArraySink());
     reader.setModel(database);
     return reader;
@@ -769,29 +780,97 @@ public class DatabaseDataIO implements DataSetTableExporter {
 
   public Vector<DynaBean> readRowsFromTableList(Connection connection, Platform platform,
       Database model, Table table, OBDatasetTable dsTable, String moduleId) {
+    return readRowsFromTableList(connection, platform, model, table, dsTable, moduleId,
+        new ArrayList<String>());
+  }
+
+  /**
+   * Reads the rows of a dataset table, retrieving only the given columns, or all of them if the
+   * list is empty. The properties of the rows for the rest of columns are left empty.
+   */
+  private Vector<DynaBean> readRowsFromTableList(Connection connection, Platform platform,
+      Database model, Table table, OBDatasetTable dsTable, String moduleId, List<String> columns) {
     Table[] atables = { table };
     Statement statement = null;
     ResultSet resultSet = null;
     String sqlstatement = "";
+    Boolean autoCommit = null;
     try {
-      statement = connection.createStatement();
+      autoCommit = connection.getAutoCommit();
+      statement = platform.createStreamingStatement(connection);
       DataSetTableQueryGeneratorExtraProperties extraProperties = new DataSetTableQueryGeneratorExtraProperties();
       extraProperties.setModuleId(moduleId);
       extraProperties.setOrderByClause(queryGenerator.buildOrderByClauseUsingKeyColumns(table));
       dsTable.setName(table.getName());
-      sqlstatement = queryGenerator.generateQuery(dsTable, extraProperties);
+      sqlstatement = queryGenerator.generateQuery(dsTable, columns, extraProperties);
       resultSet = statement.executeQuery(sqlstatement);
       Iterator it = platform.createResultSetIterator(model, resultSet, atables);
       Vector<DynaBean> dbs = new Vector<DynaBean>();
       while (it.hasNext()) {
         dbs.add((DynaBean) it.next());
       }
-      Collections.sort(dbs,
-          new BaseDynaBeanIDHexComparator(table.getPrimaryKeyColumns()[0].getName()));
+      String pkName = table.getPrimaryKeyColumns()[0].getName();
+      PrimaryKeySort.sort(dbs, new String[] { pkName }, new BaseDynaBeanIDHexComparator(pkName));
       return dbs;
     } catch (SQLException ex) {
       _log.error("SQL command to read rows from table failed: " + sqlstatement);
       return null;
+    } finally {
+      if (autoCommit != null) {
+        platform.endStreaming(connection, autoCommit);
+      }
+    }
+  }
+
+  /**
+   * Reads the rows of a dataset table one by one, passing them to rowHandler until it returns
+   * false. Rows are not kept in memory, the driver is asked to fetch them in blocks of
+   * {@link Platform#getQueryFetchSize()} rows.
+   * 
+   * Rows are sorted in database using
+   * {@link DataSetTableQueryGenerator#buildOrderByClauseUsingIdOrder(Table)}, which usually
+   * matches the order of {@link #readRowsFromTableList}, but rowHandler should check it because it
+   * depends on the format of the IDs and the collation of the database.
+   * 
+   * @return false if the rows could not be read
+   */
+  public boolean readRowsFromTableList(Connection connection, Platform platform, Database model,
+      Table table, OBDatasetTable dsTable, String moduleId, Predicate<DynaBean> rowHandler) {
+    Table[] atables = { table };
+    Statement statement = null;
+    String sqlstatement = "";
+    Boolean autoCommit = null;
+    try {
+      autoCommit = connection.getAutoCommit();
+      statement = platform.createStreamingStatement(connection);
+      DataSetTableQueryGeneratorExtraProperties extraProperties = new DataSetTableQueryGeneratorExtraProperties();
+      extraProperties.setModuleId(moduleId);
+      extraProperties.setOrderByClause(queryGenerator.buildOrderByClauseUsingIdOrder(table));
+      dsTable.setName(table.getName());
+      sqlstatement = queryGenerator.generateQuery(dsTable, extraProperties);
+      Iterator it = platform.createResultSetIterator(model, statement.executeQuery(sqlstatement),
+          atables);
+      while (it.hasNext()) {
+        if (!rowHandler.test((DynaBean) it.next())) {
+          break;
+        }
+      }
+      return true;
+    } catch (SQLException ex) {
+      _log.error("SQL command to read rows from table failed: " + sqlstatement);
+      return false;
+    } finally {
+      try {
+        if (statement != null) {
+          statement.close();
+        }
+      } catch (SQLException ex) {
+        _log.error("Error closing the statement used to read rows from table " + table.getName(),
+            ex);
+      }
+      if (autoCommit != null) {
+        platform.endStreaming(connection, autoCommit);
+      }
     }
   }
 
@@ -21,12 +21,24 @@ package org.apache.ddlutils.io;
 
 import java.beans.IntrospectionException;
 import java.io.*;
+import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Vector;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.commons.betwixt.io.BeanReader;
 import org.apache.commons.betwixt.io.BeanWriter;
 import org.apache.commons.betwixt.strategy.HyphenatedNameMapper;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.apache.ddlutils.DdlUtilsException;
 import org.apache.ddlutils.alteration.Change;
 import org.apache.ddlutils.model.Database;
@@ -45,6 +57,8 @@ import org.xml.sax.SAXException;
  * @version $Revision: 481151 $
  */
 public class DatabaseIO {
+  private static final Log _log = LogFactory.getLog(DatabaseIO.class);
+
   /**
    * The name of the XML attribute use to denote that teh content of a data XML element uses Base64
    * encoding.
@@ -326,111 +340,169 @@ public class DatabaseIO {
    * @throws DdlUtilsException
    */
   public void writeToDir(Database model, File dir) throws DdlUtilsException {
+    writeToDir(model, dir, 1);
+  }
 
-    Database d;
-    File subdir;
-
-    // remove all .xml files
-    File[] filestodelete = readFileArray(dir);
-    for (File filedelete : filestodelete) {
-      filedelete.delete();
-    }
+  /**
+   * 
+   * Writes the database model to the specified directory, one file per object. Only the files whose
+   * content changes are written and only the files of objects not present in the model anymore are
+   * deleted, so unchanged files are kept untouched.
+   * 
+   * @param model
+   *          The database model
+   * @param dir
+   *          The root directory for output
+   * @param numOfThreads
+   *          The number of threads used to serialize the objects
+   * @throws DdlUtilsException
+   */
+  public void writeToDir(Database model, File dir, int numOfThreads) throws DdlUtilsException {
+    long start = System.currentTimeMillis();
+    Map<File, Database> files = new LinkedHashMap<>();
 
     // Write tables
-    subdir = new File(dir, "tables");
-    if (model.getTableCount() > 0) {
-      subdir.mkdirs();
-    }
-
+    File subdir = new File(dir, "tables");
     for (int i = 0; i < model.getTableCount(); i++) {
       Table t = model.getTable(i);
-      d = new Database();
+      Database d = new Database();
       d.setName("TABLE " + t.getName());
       d.addTable(t);
-      write(d, new File(subdir, t.getName() + ".xml"));
+      files.put(new File(subdir, t.getName() + ".xml"), d);
     }
+
     // Write modified tables
     subdir = new File(dir, "modifiedTables");
-    if (model.getModifiedTableCount() > 0) {
-      subdir.mkdirs();
-
-      for (int i = 0; i < model.getModifiedTableCount(); i++) {
-        Table t = model.getModifiedTable(i);
-        d = new Database();
-        d.setName("MODIFIED TABLE " + t.getName());
-        d.addTable(t);
-        write(d, new File(subdir, t.getName() + ".xml"));
-      }
+    for (int i = 0; i < model.getModifiedTableCount(); i++) {
+      Table t = model.getModifiedTable(i);
+      Database d = new Database();
+      d.setName("MODIFIED TABLE " + t.getName());
+      d.addTable(t);
+      files.put(new File(subdir, t.getName() + ".xml"), d);
     }
 
     // Write views
     subdir = new File(dir, "views");
-    if (model.getViewCount() > 0) {
-      subdir.mkdirs();
-    }
-
     for (int i = 0; i < model.getViewCount(); i++) {
       View v = model.getView(i);
-      d = new Database();
+      Database d = new Database();
       d.setName("VIEW " + v.getName());
       d.addView(v);
-      write(d, new File(subdir, v.getName() + ".xml"));
+      files.put(new File(subdir, v.getName() + ".xml"), d);
     }
 
     // Write materialized views
     subdir = new File(dir, "materializedViews");
-    if (model.getMaterializedViewCount() > 0) {
-      subdir.mkdirs();
-    }
-
     for (int i = 0; i < model.getMaterializedViewCount(); i++) {
       MaterializedView mv = model.getMaterializedView(i);
-      d = new Database();
+      Database d = new Database();
       d.setName("MATERIALIZED VIEW " + mv.getName());
       d.addMaterializedView(mv);
-      write(d, new File(subdir, mv.getName() + ".xml"));
+      files.put(new File(subdir, mv.getName() + ".xml"), d);
     }
 
     // Write sequences
     subdir = new File(dir, "sequences");
-    if (model.getSequenceCount() > 0) {
-      subdir.mkdirs();
-    }
-
     for (int i = 0; i < model.getSequenceCount(); i++) {
       Sequence s = model.getSequence(i);
-      d = new Database();
+      Database d = new Database();
       d.setName("SEQUENCE " + s.getName());
       d.addSequence(s);
-      write(d, new File(subdir, s.getName() + ".xml"));
+      files.put(new File(subdir, s.getName() + ".xml"), d);
     }
 
     // Write functions
     subdir = new File(dir, "functions");
-    if (model.getFunctionCount() > 0) {
-      subdir.mkdirs();
-    }
-
     for (int i = 0; i < model.getFunctionCount(); i++) {
       Function f = model.getFunction(i);
-      d = new Database();
+      Database d = new Database();
       d.setName("FUNCTION " + f.getName());
       d.addFunction(f);
-      write(d, new File(subdir, f.getName() + ".xml"));
+      files.put(new File(subdir, f.getName() + ".xml"), d);
     }
 
     // Write trigger
     subdir = new File(dir, "triggers");
-    if (model.getTriggerCount() > 0) {
-      subdir.mkdirs();
-    }
-
     for (int i = 0; i < model.getTriggerCount(); i++) {
       Trigger t = model.getTrigger(i);
-      d = new Database();
+      Database d = new Database();
       d.setName("TRIGGER " + t.getName());
       d.addTrigger(t);
-      write(d, new File(subdir, t.getName() + ".xml"));
+      files.put(new File(subdir, t.getName() + ".xml"), d);
+    }
+
+    // remove the .xml files of the objects not present in the model anymore, before writing the
+    // rest of them in case a file is only renamed changing its case
+    int deleted = 0;
+    for (File file : readFileArray(dir)) {
+      if (!files.containsKey(file) && file.delete()) {
+        deleted++;
+      }
+    }
+
+    List<Callable<Boolean>> tasks = new ArrayList<>(files.size());
+    for (Map.Entry<File, Database> file : files.entrySet()) {
+      tasks.add(() -> writeIfChanged(file.getValue(), file.getKey()));
+    }
+    int written = 0;
+    if (numOfThreads <= 1) {
+      for (Callable<Boolean> task : tasks) {
+        try {
+          if (task.call()) {
+            written++;
+          }
+        } catch (DdlUtilsException e) {
+          throw e;
+        } catch (Exception e) {
+          throw new DdlUtilsException(e);
+        }
+      }
+    } else {
+      ExecutorService executor = Executors.newFixedThreadPool(numOfThreads);
+      try {
+        for (Future<Boolean> result : executor.invokeAll(tasks)) {
+          if (result.get()) {
+            written++;
+          }
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new DdlUtilsException("Interrupted while writing the model to " + dir, e);
+      } catch (ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException) {
+          throw (RuntimeException) cause;
+        }
+        throw new DdlUtilsException("Error writing the model to " + dir, cause);
+      } finally {
+        executor.shutdown();
+      }
+    }
+
+    _log.info("Model written to " + dir + " in " + (System.currentTimeMillis() - start) + " ms: "
+        + written + " files written, " + deleted + " deleted, " + (files.size() - written)
+        + " unchanged");
+  }
+
+  /**
+   * Writes the database model to the specified file, unless the file already has the same content.
+   * 
+   * @return <code>true</code> if the file has been written
+   */
+  private boolean writeIfChanged(Database model, File file) throws DdlUtilsException {
+    ByteArrayOutputStream content = new ByteArrayOutputStream();
+    write(model, content);
+    byte[] newContent = content.toByteArray();
+    try {
+      if (file.isFile() && file.length() == newContent.length
+          && Arrays.equals(Files.readAllBytes(file.toPath()), newContent)) {
+        return false;
+      }
+      file.getParentFile().mkdirs();
+      Files.write(file.toPath(), newContent);
+      return true;
+    } catch (IOException e) {
+      throw new DdlUtilsException("Error writing " + file, e);
     }
   }
 
@@ -0,0 +1,144 @@
+/*
+ ************************************************************************************
+ * Copyright (C) 2026 Openbravo S.L.U.
+ * Licensed under the Apache Software License version 2.0
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to  in writing,  software  distributed
+ * under the License is distributed  on  an  "AS IS"  BASIS,  WITHOUT  WARRANTIES  OR
+ * CONDITIONS OF ANY KIND, either  express  or  implied.  See  the  License  for  the
+ * specific language governing permissions and limitations under the License.
+ ************************************************************************************
+ */
+
+package org.apache.ddlutils.io;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+
+import org.apache.commons.beanutils.DynaBean;
+
+/**
+ * Sorts rows by their primary key values read as base 32 numbers, in the same order as comparing
+ * them with {@code new BigInteger(value, 32)} does. Instead of parsing the values in every
+ * comparison, a sort key made of three longs is computed once for each row.
+ *
+ * Values that cannot be represented with these keys, because they are negative, longer than 36
+ * significant digits or not valid base 32 numbers, are sorted with the comparator given by the
+ * caller, so the result is exactly the same one it would return.
+ */
+public final class PrimaryKeySort {
+  private static final int DIGITS_PER_WORD = 12;
+  private static final int BITS_PER_DIGIT = 5;
+  private static final int WORD_BITS = DIGITS_PER_WORD * BITS_PER_DIGIT;
+  private static final long WORD_MASK = (1L << WORD_BITS) - 1;
+  private static final int MAX_DIGITS = 3 * DIGITS_PER_WORD;
+
+  private PrimaryKeySort() {
+  }
+
+  /**
+   * Sorts rows by the values of the given properties. The sort is stable.
+   *
+   * @param rows
+   *          the rows to sort
+   * @param pkNames
+   *          the properties to sort by, the first one is the most significant
+   * @param fallback
+   *          comparator used to sort the rows if any of their values cannot be represented with a
+   *          sort key, it must compare the values as base 32 numbers
+   */
+  public static void sort(List<DynaBean> rows, String[] pkNames,
+      Comparator<? super DynaBean> fallback) {
+    if (rows.size() < 2 || pkNames.length == 0) {
+      return;
+    }
+    SortKey[] keys = new SortKey[rows.size()];
+    int i = 0;
+    for (DynaBean row : rows) {
+      SortKey key = null;
+      for (int pk = pkNames.length - 1; pk >= 0; pk--) {
+        Object value = row.get(pkNames[pk]);
+        key = value == null ? null : SortKey.of(row, value.toString(), key);
+        if (key == null) {
+          Collections.sort(rows, fallback);
+          return;
+        }
+      }
+      keys[i++] = key;
+    }
+
+    Arrays.sort(keys);
+    ListIterator<DynaBean> it = rows.listIterator();
+    for (SortKey key : keys) {
+      it.next();
+      it.set(key.row);
+    }
+  }
+
+  /**
+   * Sort key of a value, right aligned in three words of 12 digits each, the most significant one
+   * first. Keys of the next primary key columns are linked to the one of the first column.
+   */
+  private static final class SortKey implements Comparable<SortKey> {
+    private final DynaBean row;
+    private final SortKey next;
+    private long high;
+    private long middle;
+    private long low;
+
+    private SortKey(DynaBean row, SortKey next) {
+      this.row = row;
+      this.next = next;
+    }
+
+    /** Returns the key of the value, or null if it cannot be represented with a key */
+    private static SortKey of(DynaBean row, String value, SortKey next) {
+      int length = value.length();
+      int pos = 0;
+      if (length > 0 && value.charAt(0) == '+') {
+        pos++;
+      }
+      if (pos == length) {
+        return null;
+      }
+      SortKey key = new SortKey(row, next);
+      int digits = 0;
+      for (; pos < length; pos++) {
+        int digit = Character.digit(value.charAt(pos), 32);
+        if (digit < 0) {
+          return null;
+        }
+        if (digits == 0 && digit == 0) {
+          // leading zeros don't change the value
+          continue;
+        }
+        if (++digits > MAX_DIGITS) {
+          return null;
+        }
+        key.high = (key.high << BITS_PER_DIGIT) | (key.middle >>> (WORD_BITS - BITS_PER_DIGIT));
+        key.middle = ((key.middle << BITS_PER_DIGIT) & WORD_MASK)
+            | (key.low >>> (WORD_BITS - BITS_PER_DIGIT));
+        key.low = ((key.low << BITS_PER_DIGIT) & WORD_MASK) | digit;
+      }
+      return key;
+    }
+
+    @Override
+    public int compareTo(SortKey other) {
+      int result = Long.compare(high, other.high);
+      if (result == 0) {
+        result = Long.compare(middle, other.middle);
+      }
+      if (result == 0) {
+        result = Long.compare(low, other.low);
+      }
+      if (result == 0 && next != null) {
+        result = next.compareTo(other.next);
+      }
+      return result;
+    }
+  }
+}
@@ -0,0 +1,309 @@
+/*
+ ************************************************************************************
+ * Copyright (C) 2026 Openbravo S.L.U.
+ * Licensed under the Apache Software License version 2.0
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to  in writing,  software  distributed
+ * under the License is distributed  on  an  "AS IS"  BASIS,  WITHOUT  WARRANTIES  OR
+ * CONDITIONS OF ANY KIND, either  express  or  implied.  See  the  License  for  the
+ * specific language governing permissions and limitations under the License.
+ ************************************************************************************
+ */
+
+package org.apache.ddlutils.io;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.net.URL;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.commons.beanutils.DynaBean;
+import org.apache.commons.codec.binary.Base64;
+import org.apache.ddlutils.io.converters.SqlTypeConverter;
+import org.apache.ddlutils.model.Column;
+import org.apache.ddlutils.model.Database;
+import org.apache.ddlutils.model.Table;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+
+/**
+ * Reads data XML into dyna beans using a StAX pull parser instead of digester rules. The columns of
+ * each table are resolved once per model, so the values are set directly in the beans without
+ * matching rules or looking up bean properties for every element and attribute.
+ *
+ * The data read is the same one {@link DataReader} would read: the values can be defined either
+ * as attributes of the row element or as sub elements, whose text can be encoded in Base64.
+ * Elements not matching a table or column of the model are ignored.
+ */
+public class StaxDataReader extends DataReader {
+  private static final String ROOT_ELEMENT = "data";
+
+  private final XMLInputFactory inputFactory;
+  private Map<String, TableMapping> tableMappings;
+
+  public StaxDataReader() {
+    inputFactory = XMLInputFactory.newInstance();
+    inputFactory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, Boolean.FALSE);
+    inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected void configure() {
+    // nothing to configure in the digester, mappings are built when parsing
+  }
+
+  @Override
+  public void setModel(Database model) {
+    super.setModel(model);
+    tableMappings = null;
+  }
+
+  @Override
+  public void setCaseSensitive(boolean beCaseSensitive) {
+    super.setCaseSensitive(beCaseSensitive);
+    tableMappings = null;
+  }
+
+  @Override
+  public Object parse(File file) throws IOException, SAXException {
+    try (InputStream input = new FileInputStream(file)) {
+      return parse(file.toURI().toString(), input);
+    }
+  }
+
+  @Override
+  public Object parse(InputStream input) throws IOException, SAXException {
+    return parse(null, input);
+  }
+
+  @Override
+  public Object parse(Reader reader) throws IOException, SAXException {
+    try {
+      parse(inputFactory.createXMLStreamReader(reader));
+    } catch (XMLStreamException e) {
+      throw new SAXException(e);
+    }
+    return null;
+  }
+
+  @Override
+  public Object parse(InputSource input) throws IOException, SAXException {
+    if (input.getCharacterStream() != null) {
+      return parse(input.getCharacterStream());
+    } else if (input.getByteStream() != null) {
+      return parse(input.getSystemId(), input.getByteStream());
+    }
+    return parse(input.getSystemId());
+  }
+
+  @Override
+  public Object parse(String uri) throws IOException, SAXException {
+    return parse(new URL(uri));
+  }
+
+  @Override
+  public Object parse(URL url) throws IOException, SAXException {
+    try (InputStream input = url.openStream()) {
+      return parse(url.toExternalForm(), input);
+    }
+  }
+
+  private Object parse(String systemId, InputStream input) throws SAXException {
+    try {
+      parse(inputFactory.createXMLStreamReader(systemId, input));
+    } catch (XMLStreamException e) {
+      throw new SAXException(e);
+    }
+    return null;
+  }
+
+  private void parse(XMLStreamReader xml) throws XMLStreamException, SAXException {
+    try {
+      Map<String, TableMapping> mappings = getTableMappings();
+      if (nextElement(xml) != XMLStreamConstants.START_ELEMENT
+          || !ROOT_ELEMENT.equals(getKey(xml.getLocalName()))) {
+        return;
+      }
+      while (nextElement(xml) == XMLStreamConstants.START_ELEMENT) {
+        TableMapping table = mappings.get(getKey(xml.getLocalName()));
+        if (table == null) {
+          skipElement(xml);
+        } else {
+          getSink().addBean(readRow(xml, table));
+        }
+      }
+    } catch (RuntimeException e) {
+      // as digester does with the exceptions thrown by its rules
+      throw new SAXException(e);
+    } finally {
+      xml.close();
+    }
+  }
+
+  private DynaBean readRow(XMLStreamReader xml, TableMapping table) throws XMLStreamException {
+    DynaBean bean = getModel().createDynaBeanFor(table.table);
+    for (int i = 0; i < xml.getAttributeCount(); i++) {
+      ColumnMapping column = table.columns.get(getKey(xml.getAttributeLocalName(i)));
+      if (column != null) {
+        bean.set(column.name, column.convert(xml.getAttributeValue(i)));
+      }
+    }
+    while (nextElement(xml) == XMLStreamConstants.START_ELEMENT) {
+      ColumnMapping column = table.columns.get(getKey(xml.getLocalName()));
+      if (column == null) {
+        skipElement(xml);
+        continue;
+      }
+      boolean usesBase64 = false;
+      for (int i = 0; i < xml.getAttributeCount(); i++) {
+        if (DatabaseIO.BASE64_ATTR_NAME.equals(xml.getAttributeLocalName(i))
+            && "true".equalsIgnoreCase(xml.getAttributeValue(i))) {
+          usesBase64 = true;
+          break;
+        }
+      }
+      String value = readText(xml);
+      if (usesBase64) {
+        value = new String(Base64.decodeBase64(value.getBytes()));
+      }
+      bean.set(column.name, column.convert(value));
+    }
+    return bean;
+  }
+
+  /**
+   * Moves to the next start or end element, skipping any text or comment found before it. Returns
+   * END_DOCUMENT if there are no more elements.
+   */
+  private static int nextElement(XMLStreamReader xml) throws XMLStreamException {
+    while (xml.hasNext()) {
+      int event = xml.next();
+      if (event == XMLStreamConstants.START_ELEMENT || event == XMLStreamConstants.END_ELEMENT) {
+        return event;
+      }
+    }
+    return XMLStreamConstants.END_DOCUMENT;
+  }
+
+  /**
+   * Returns the text directly contained in the current element, the text of nested elements is
+   * ignored. The reader is left at the end of the element.
+   */
+  private static String readText(XMLStreamReader xml) throws XMLStreamException {
+    String text = "";
+    StringBuilder longText = null;
+    int depth = 0;
+    while (true) {
+      switch (xml.next()) {
+      case XMLStreamConstants.CHARACTERS:
+      case XMLStreamConstants.CDATA:
+      case XMLStreamConstants.SPACE:
+        if (depth > 0) {
+          break;
+        }
+        // the parser can split the text in several events, a builder is only used in that case
+        if (longText != null) {
+          longText.append(xml.getText());
+        } else if (text.isEmpty()) {
+          text = xml.getText();
+        } else {
+          longText = new StringBuilder(text).append(xml.getText());
+        }
+        break;
+      case XMLStreamConstants.START_ELEMENT:
+        depth++;
+        break;
+      case XMLStreamConstants.END_ELEMENT:
+        if (depth == 0) {
+          return longText != null ? longText.toString() : text;
+        }
+        depth--;
+        break;
+      default:
+        break;
+      }
+    }
+  }
+
+  /** Skips the current element, leaving the reader at its end */
+  private static void skipElement(XMLStreamReader xml) throws XMLStreamException {
+    int depth = 0;
+    while (true) {
+      int event = xml.next();
+      if (event == XMLStreamConstants.START_ELEMENT) {
+        depth++;
+      } else if (event == XMLStreamConstants.END_ELEMENT) {
+        if (depth == 0) {
+          return;
+        }
+        depth--;
+      }
+    }
+  }
+
+  private String getKey(String name) {
+    return isCaseSensitive() ? name : name.toLowerCase();
+  }
+
+  private Map<String, TableMapping> getTableMappings() {
+    if (getModel() == null) {
+      throw new NullPointerException("No database model specified");
+    }
+    if (getSink() == null) {
+      throw new NullPointerException("No data sink model specified");
+    }
+    if (tableMappings == null) {
+      Map<String, TableMapping> mappings = new HashMap<String, TableMapping>();
+      for (int tableIdx = 0; tableIdx < getModel().getTableCount(); tableIdx++) {
+        Table table = getModel().getTable(tableIdx);
+        TableMapping tableMapping = new TableMapping(table);
+        for (int columnIdx = 0; columnIdx < table.getColumnCount(); columnIdx++) {
+          Column column = table.getColumn(columnIdx);
+          tableMapping.columns.put(getKey(column.getName()), new ColumnMapping(column,
+              getConverterConfiguration().getRegisteredConverter(table, column)));
+        }
+        mappings.putIfAbsent(getKey(table.getName()), tableMapping);
+      }
+      tableMappings = mappings;
+    }
+    return tableMappings;
+  }
+
+  /** The columns of a table, by element or attribute name */
+  private static class TableMapping {
+    private final Table table;
+    private final Map<String, ColumnMapping> columns = new HashMap<String, ColumnMapping>();
+
+    private TableMapping(Table table) {
+      this.table = table;
+    }
+  }
+
+  private static class ColumnMapping {
+    private final String name;
+    private final int typeCode;
+    private final SqlTypeConverter converter;
+
+    private ColumnMapping(Column column, SqlTypeConverter converter) {
+      this.name = column.getName();
+      this.typeCode = column.getTypeCode();
+      this.converter = converter;
+    }
+
+    private Object convert(String value) {
+      return converter != null ? converter.convertFromString(value, typeCode) : value;
+    }
+  }
+}
@@ -19,6 +19,8 @@ package org.apache.ddlutils.model;
  * under the License.
  */
 
+import java.io.Serializable;
+
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 
@@ -27,7 +29,9 @@ import org.apache.commons.lang3.builder.HashCodeBuilder;
  * 
  * @version $Revision$
  */
-public class Check implements ConstraintObject, Cloneable {
+public class Check implements ConstraintObject, Cloneable, Serializable {
+  /** Unique ID for serialization purposes. */
+  private static final long serialVersionUID = 5221446025223702190L;
 
   /** The name of the constraint check, may be <code>null</code>. */
   private String _name;
@@ -60,17 +60,17 @@ public class Database implements Serializable, Cloneable {
   /** The version of the model. */
   private String _version;
   /** The tables. */
-  private ArrayList _tables = new ArrayList();
+  private NamedObjectList<Table> _tables = new NamedObjectList<Table>();
   /** The sequences. */
-  private ArrayList _sequences = new ArrayList();
+  private NamedObjectList<Sequence> _sequences = new NamedObjectList<Sequence>();
   /** The views. */
-  private ArrayList _views = new ArrayList();
+  private NamedObjectList<View> _views = new NamedObjectList<View>();
 
   private List<MaterializedView> materializedViews = new ArrayList<>();
   /** The functions. */
-  private ArrayList _functions = new ArrayList();
+  private NamedObjectList<Function> _functions = new NamedObjectList<Function>();
   /** The functions. */
-  private ArrayList _triggers = new ArrayList();
+  private NamedObjectList<Trigger> _triggers = new NamedObjectList<Trigger>();
   /** The dyna class cache for this model. */
   private transient DynaClassCache _dynaClassCache = null;
 
@@ -1126,20 +1126,7 @@ public class Database implements Serializable, Cloneable {
    * @return The table or <code>null</code> if there is no such table
    */
   public Table findTable(String name, boolean caseSensitive) {
-    for (Iterator iter = _tables.iterator(); iter.hasNext();) {
-      Table table = (Table) iter.next();
-
-      if (caseSensitive) {
-        if (table.getName().equals(name)) {
-          return table;
-        }
-      } else {
-        if (table.getName().equalsIgnoreCase(name)) {
-          return table;
-        }
-      }
-    }
-    return null;
+    return _tables.find(name, caseSensitive, Table::getName);
   }
 
   /**
@@ -1165,20 +1152,7 @@ public class Database implements Serializable, Cloneable {
    * @return The sequence or <code>null</code> if there is no such sequence
    */
   public Sequence findSequence(String name, boolean caseSensitive) {
-    for (Iterator iter = _sequences.iterator(); iter.hasNext();) {
-      Sequence sequence = (Sequence) iter.next();
-
-      if (caseSensitive) {
-        if (sequence.getName().equals(name)) {
-          return sequence;
-        }
-      } else {
-        if (sequence.getName().equalsIgnoreCase(name)) {
-          return sequence;
-        }
-      }
-    }
-    return null;
+    return _sequences.find(name, caseSensitive, Sequence::getName);
   }
 
   /**
@@ -1216,20 +1190,7 @@ public class Database implements Serializable, Cloneable {
    * @return The view or <code>null</code> if there is no such view
    */
   public View findView(String name, boolean caseSensitive) {
-    for (Iterator iter = _views.iterator(); iter.hasNext();) {
-      View view = (View) iter.next();
-
-      if (caseSensitive) {
-        if (view.getName().equals(name)) {
-          return view;
-        }
-      } else {
-        if (view.getName().equalsIgnoreCase(name)) {
-          return view;
-        }
-      }
-    }
-    return null;
+    return _views.find(name, caseSensitive, View::getName);
   }
 
   /**
@@ -1287,20 +1248,7 @@ public class Database implements Serializable, Cloneable {
    * @return The function or <code>null</code> if there is no such function
    */
   public Function findFunction(String name, boolean caseSensitive) {
-    for (Iterator iter = _functions.iterator(); iter.hasNext();) {
-      Function function = (Function) iter.next();
-
-      if (caseSensitive) {
-        if (function.getName().equals(name)) {
-          return function;
-        }
-      } else {
-        if (function.getName().equalsIgnoreCase(name)) {
-          return function;
-        }
-      }
-    }
-    return null;
+    return _functions.find(name, caseSensitive, Function::getName);
   }
 
   /**
@@ -1315,53 +1263,55 @@ public class Database implements Serializable, Cloneable {
    * @return The function or <code>null</code> if there is no such function
    */
   public Function findFunctionWithParams(String name, Parameter[] params, boolean caseSensitive) {
-    for (Iterator iter = _functions.iterator(); iter.hasNext();) {
-      Function function = (Function) iter.next();
-
-      if (caseSensitive) {
-        if (function.getName().equals(name)) {
-          if (function.getParameterCount() == params.length) {
-            boolean eqPara = true;
-            int i = 0;
-            Parameter[] params2 = function.getParameters();
-            while (eqPara && i < params.length) {
-              if (!params[i].equals(params2[i])) {
-                eqPara = false;
-              }
-              i++;
-            }
-            if (eqPara) {
-              return function;
+    return _functions.find(name, Function::getName,
+        function -> hasNameAndParams(function, name, params, caseSensitive));
+  }
+
+  private static boolean hasNameAndParams(Function function, String name, Parameter[] params,
+      boolean caseSensitive) {
+    if (caseSensitive) {
+      if (function.getName().equals(name)) {
+        if (function.getParameterCount() == params.length) {
+          boolean eqPara = true;
+          int i = 0;
+          Parameter[] params2 = function.getParameters();
+          while (eqPara && i < params.length) {
+            if (!params[i].equals(params2[i])) {
+              eqPara = false;
             }
+            i++;
+          }
+          if (eqPara) {
+            return true;
           }
         }
-      } else {
-        if (function.getName().equalsIgnoreCase(name)) {
-          Parameter[] params2 = function.getParameters();
-          if (params2.length == params.length) {
-            boolean eqPara = true;
-            int i = 0;
-            while (eqPara && i < params.length) {
-              int type1 = params[i].getTypeCode();
-              int type2 = params2[i].getTypeCode();
-
-              int typeCode2 = type1 == ExtTypes.NVARCHAR ? Types.VARCHAR : type1;
-              typeCode2 = typeCode2 == ExtTypes.NCHAR ? Types.CHAR : typeCode2;
-              int othertypeCode2 = type2 == ExtTypes.NVARCHAR ? Types.VARCHAR : type2;
-              othertypeCode2 = othertypeCode2 == ExtTypes.NCHAR ? Types.CHAR : othertypeCode2;
-              if (typeCode2 != othertypeCode2) {
-                eqPara = false;
-              }
-              i++;
-            }
-            if (eqPara) {
-              return function;
+      }
+    } else {
+      if (function.getName().equalsIgnoreCase(name)) {
+        Parameter[] params2 = function.getParameters();
+        if (params2.length == params.length) {
+          boolean eqPara = true;
+          int i = 0;
+          while (eqPara && i < params.length) {
+            int type1 = params[i].getTypeCode();
+            int type2 = params2[i].getTypeCode();
+
+            int typeCode2 = type1 == ExtTypes.NVARCHAR ? Types.VARCHAR : type1;
+            typeCode2 = typeCode2 == ExtTypes.NCHAR ? Types.CHAR : typeCode2;
+            int othertypeCode2 = type2 == ExtTypes.NVARCHAR ? Types.VARCHAR : type2;
+            othertypeCode2 = othertypeCode2 == ExtTypes.NCHAR ? Types.CHAR : othertypeCode2;
+            if (typeCode2 != othertypeCode2) {
+              eqPara = false;
             }
+            i++;
+          }
+          if (eqPara) {
+            return true;
           }
         }
       }
     }
-    return null;
+    return false;
   }
 
   /**
@@ -1387,20 +1337,7 @@ public class Database implements Serializable, Cloneable {
    * @return The trigger or <code>null</code> if there is no such trigger
    */
   public Trigger findTrigger(String name, boolean caseSensitive) {
-    for (Iterator iter = _triggers.iterator(); iter.hasNext();) {
-      Trigger trigger = (Trigger) iter.next();
-
-      if (caseSensitive) {
-        if (trigger.getName().equals(name)) {
-          return trigger;
-        }
-      } else {
-        if (trigger.getName().equalsIgnoreCase(name)) {
-          return trigger;
-        }
-      }
-    }
-    return null;
+    return _triggers.find(name, caseSensitive, Trigger::getName);
   }
 
   /**
@@ -1408,7 +1345,7 @@ public class Database implements Serializable, Cloneable {
    * 
    * @return The dyna class cache
    */
-  private DynaClassCache getDynaClassCache() {
+  private synchronized DynaClassCache getDynaClassCache() {
     if (_dynaClassCache == null) {
       _dynaClassCache = new DynaClassCache();
     }
@@ -1485,20 +1422,20 @@ public class Database implements Serializable, Cloneable {
     result._name = _name;
     result._idMethod = _idMethod;
     result._version = _version;
-    result._tables = new ArrayList();
-    result._views = new ArrayList();
+    result._tables = new NamedObjectList<Table>();
+    result._views = new NamedObjectList<View>();
     result.materializedViews = new ArrayList();
-    result._functions = new ArrayList();
-    result._triggers = new ArrayList();
-    result._sequences = new ArrayList();
+    result._functions = new NamedObjectList<Function>();
+    result._triggers = new NamedObjectList<Trigger>();
+    result._sequences = new NamedObjectList<Sequence>();
     result._modifiedTables = new ArrayList();
     Iterator it = _tables.iterator();
     while (it.hasNext()) {
-      result._tables.add(((Table) it.next()).clone());
+      result._tables.add((Table) ((Table) it.next()).clone());
     }
     it = _views.iterator();
     while (it.hasNext()) {
-      result._views.add(((View) it.next()).clone());
+      result._views.add((View) ((View) it.next()).clone());
     }
     for (Iterator<MaterializedView> matViewIt = materializedViews.iterator(); matViewIt
         .hasNext();) {
@@ -1507,15 +1444,15 @@ public class Database implements Serializable, Cloneable {
 
     it = _functions.iterator();
     while (it.hasNext()) {
-      result._functions.add(((Function) it.next()).clone());
+      result._functions.add((Function) ((Function) it.next()).clone());
     }
     it = _triggers.iterator();
     while (it.hasNext()) {
-      result._triggers.add(((Trigger) it.next()).clone());
+      result._triggers.add((Trigger) ((Trigger) it.next()).clone());
     }
     it = _sequences.iterator();
     while (it.hasNext()) {
-      result._sequences.add(((Sequence) it.next()).clone());
+      result._sequences.add((Sequence) ((Sequence) it.next()).clone());
     }
     it = _modifiedTables.iterator();
     while (it.hasNext()) {
@@ -1714,7 +1651,7 @@ public class Database implements Serializable, Cloneable {
 
   public void moveTablesToModified() {
     _modifiedTables.addAll(_tables);
-    _tables = new ArrayList();
+    _tables = new NamedObjectList<Table>();
   }
 
   public void moveModifiedToTables() {
@@ -1723,12 +1660,12 @@ public class Database implements Serializable, Cloneable {
   }
 
   public void removeAllTables() {
-    _tables = new ArrayList();
+    _tables = new NamedObjectList<Table>();
   }
 
   public void filterByDataset(OBDataset dataset) {
     ArrayList oldTables = _tables;
-    _tables = new ArrayList();
+    _tables = new NamedObjectList<Table>();
     Vector<OBDatasetTable> tables = dataset.getTableList();
     for (OBDatasetTable table : tables) {
       for (int i = 0; i < oldTables.size(); i++) {
@@ -1738,9 +1675,9 @@ public class Database implements Serializable, Cloneable {
         }
       }
     }
-    _views = new ArrayList();
+    _views = new NamedObjectList<View>();
     ArrayList oldTriggers = _triggers;
-    _triggers = new ArrayList();
+    _triggers = new NamedObjectList<Trigger>();
     for (int i = 0; i < oldTriggers.size(); i++) {
       Trigger trigger = (Trigger) oldTriggers.get(i);
       if (findTable(trigger.getTable()) != null) {
@@ -1748,7 +1685,7 @@ public class Database implements Serializable, Cloneable {
       }
     }
     // _functions=new ArrayList();
-    _sequences = new ArrayList();
+    _sequences = new NamedObjectList<Sequence>();
     _modifiedTables = new ArrayList();
   }
 
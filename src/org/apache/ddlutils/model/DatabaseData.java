@@ -1,7 +1,11 @@
 package org.apache.ddlutils.model;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.Vector;
 
@@ -14,6 +18,13 @@ public class DatabaseData {
   protected Database _model;
   protected HashMap<String, Vector<DynaBean>> _databaseBeans;
   private boolean strictMode = false;
+  /** Rows of each table by primary key, built the first time a row of the table is looked up */
+  private Map<String, PrimaryKeyIndex> primaryKeyIndexes = new HashMap<String, PrimaryKeyIndex>();
+  /**
+   * Rows removed from each table that are still in its vector. They are taken out of it all at once
+   * the next time the whole vector is needed.
+   */
+  private Map<String, Set<DynaBean>> removedRows = new HashMap<String, Set<DynaBean>>();
 
   public DatabaseData(Database model) {
     _model = model;
@@ -26,11 +37,23 @@ public class DatabaseData {
     } else {
       _databaseBeans.put(tablename.toUpperCase(), vector);
     }
-    DataToArraySink.sortArray(_model, _databaseBeans.get(tablename));
+    primaryKeyIndexes.remove(tablename.toUpperCase());
+    DataToArraySink.sortArray(_model, _databaseBeans.get(tablename.toUpperCase()));
   }
 
   public Vector<DynaBean> getRowsFromTable(String tablename) {
-    return _databaseBeans.get(tablename.toUpperCase());
+    String tableName = tablename.toUpperCase();
+    Vector<DynaBean> rows = _databaseBeans.get(tableName);
+    Set<DynaBean> removed = removedRows.remove(tableName);
+    if (rows != null && removed != null) {
+      int rowCount = rows.size();
+      rows.removeIf(removed::contains);
+      PrimaryKeyIndex index = primaryKeyIndexes.get(tableName);
+      if (index != null) {
+        index.rowsRemoved(rows, rowCount);
+      }
+    }
+    return rows;
   }
 
   public Set<String> getTableNames() {
@@ -44,53 +67,63 @@ public class DatabaseData {
   public boolean removeRow(Table table, DynaBean row) {
     boolean changeDone = false;
     System.out.println("Trying to remove row " + row + "f rom table " + table);
-    Vector<DynaBean> rows = getRowsFromTable(table.getName());
+    Vector<DynaBean> rows = _databaseBeans.get(table.getName().toUpperCase());
     if (rows == null) {
       System.out.println("Error. Trying to remove row in table " + table.getName()
           + ". The table doesn't exist, or is empty.");
       return changeDone;
     }
     SqlDynaProperty[] primaryKeys = _model.getDynaClassFor(row).getPrimaryKeyProperties();
-    int i = 0;
-    while (i < rows.size() && !row.equals(rows.get(i))) {
-      i++;
+    PrimaryKeyIndex index = getPrimaryKeyIndex(table, rows);
+    List<String> primaryKey = getPrimaryKeyValues(table, row);
+    List<DynaBean> candidates = index.get(primaryKey);
+    DynaBean rowToRemove = null;
+    for (DynaBean candidate : candidates) {
+      if (row.equals(candidate)) {
+        rowToRemove = candidate;
+        break;
+      }
     }
-    if (i < rows.size() && row.equals(rows.get(i))) {
-      rows.remove(i);
-      changeDone = true;
-    } else {
+    if (rowToRemove == null) {
       System.out.println(
           "We haven't found the row we wanted to remove. We will search by just primary key.");
-      i = 0;
-      boolean found = false;
-      while (i < rows.size() && !found) {
-        found = true;
-        SqlDynaProperty[] primaryKeysA = _model.getDynaClassFor(rows.get(i))
+      for (DynaBean candidate : candidates) {
+        SqlDynaProperty[] primaryKeysA = _model.getDynaClassFor(candidate)
             .getPrimaryKeyProperties();
+        boolean found = true;
         for (int j = 0; j < primaryKeys.length && found; j++) {
           if (!row.get(primaryKeys[j].getName())
-              .equals(rows.get(i).get(primaryKeysA[j].getName()))) {
+              .equals(candidate.get(primaryKeysA[j].getName()))) {
             found = false;
           }
         }
-        i++;
+        if (found) {
+          System.out.println(
+              "We found a row with the same Primary Key. We will remove it despite it was not exactly the same.");
+          rowToRemove = candidate;
+          break;
+        }
       }
-      if (found) {
-        System.out.println(
-            "We found a row with the same Primary Key. We will remove it despite it was not exactly the same.");
-        rows.remove(i - 1);
-        changeDone = true;
-      } else {
-        String error = "We didn't found the row that we wanted to change. Table:[" + table.getName()
-            + "] PK[: ";
-        for (i = 0; i < primaryKeys.length; i++) {
-          if (i > 0) {
-            error += ",";
-          }
-          error += row.get(primaryKeys[i].getName());
+    }
+    if (rowToRemove != null) {
+      Set<DynaBean> removed = removedRows.get(table.getName().toUpperCase());
+      if (removed == null) {
+        removed = Collections.newSetFromMap(new IdentityHashMap<DynaBean, Boolean>());
+        removedRows.put(table.getName().toUpperCase(), removed);
+      }
+      removed.add(rowToRemove);
+      index.remove(primaryKey, rowToRemove);
+      changeDone = true;
+    } else {
+      String error = "We didn't found the row that we wanted to change. Table:[" + table.getName()
+          + "] PK[: ";
+      for (int i = 0; i < primaryKeys.length; i++) {
+        if (i > 0) {
+          error += ",";
         }
-        System.out.println(error + "]");
+        error += row.get(primaryKeys[i].getName());
       }
+      System.out.println(error + "]");
     }
     return changeDone;
   }
@@ -104,10 +137,17 @@ public class DatabaseData {
       if (!_databaseBeans.containsKey(table.getName().toUpperCase())) {
         _databaseBeans.put(table.getName().toUpperCase(), new Vector<DynaBean>());
       }
-      _databaseBeans.get(table.getName().toUpperCase()).add(row);
+      Vector<DynaBean> rows = _databaseBeans.get(table.getName().toUpperCase());
+      rows.add(row);
       changeDone = true;
       if (reorder) {
-        DataToArraySink.sortArray(_model, _databaseBeans.get(table.getName()));
+        DataToArraySink.sortArray(_model, rows);
+        primaryKeyIndexes.remove(table.getName().toUpperCase());
+      } else {
+        PrimaryKeyIndex index = primaryKeyIndexes.get(table.getName().toUpperCase());
+        if (index != null) {
+          index.add(table, rows, row);
+        }
       }
     }
     return changeDone;
@@ -123,34 +163,16 @@ public class DatabaseData {
         System.out.println(
             "Error: impossible to change row in table " + table + ", as the column doesn't exist.");
       } else {
-        Vector<DynaBean> rows = getRowsFromTable(table.getName());
+        Vector<DynaBean> rows = _databaseBeans.get(table.getName().toUpperCase());
         if (rows == null) {
           // we return true in this case, because this means that the row for this change doesn't
           // belong to the module being exported
           return true;
         }
-        int i = 0;
-        boolean found = false;
-        while (i < rows.size() && !found) {
-          found = true;
-          // SqlDynaProperty[]
-          // primaryKeysCols=_model.getDynaClassFor(rows.get(i)).getPrimaryKeyProperties();
-          Column[] primaryKeysCols = table.getPrimaryKeyColumns();
-          Object[] primaryKeyA = new Object[primaryKeysCols.length];
-          for (int j = 0; j < primaryKeyA.length; j++) {
-            primaryKeyA[j] = rows.get(i).get(primaryKeysCols[j].getName());
-          }
-          for (int j = 0; j < primaryKeys.length && found; j++) {
-            if ((primaryKeys[j] == null && primaryKeyA[j] != null)
-                || (primaryKeys[j] != null && primaryKeyA[j] == null)
-                || !primaryKeys[j].toString().equals(primaryKeyA[j].toString())) {
-              found = false;
-            }
-          }
-          i++;
-        }
+        DynaBean row = findRow(table, rows, primaryKeys);
+        boolean found = row != null;
         if (found) {
-          Object currentValue = rows.get(i - 1).get(column.getName());
+          Object currentValue = row.get(column.getName());
           if (!(oldValue == null && currentValue == null)
               && ((oldValue == null && currentValue != null)
                   || (oldValue != null && currentValue == null)
@@ -169,12 +191,15 @@ public class DatabaseData {
               return false;
             }
           }
-          rows.get(i - 1).set(column.getName(), newValue);
+          row.set(column.getName(), newValue);
+          if (column.isPrimaryKey()) {
+            primaryKeyIndexes.remove(table.getName().toUpperCase());
+          }
           changeDone = true;
         } else {
           String error = "We didn't found the row that we wanted to change. Table:["
               + table.getName() + "] PK[: ";
-          for (i = 0; i < primaryKeys.length; i++) {
+          for (int i = 0; i < primaryKeys.length; i++) {
             if (i > 0) {
               error += ",";
             }
@@ -190,25 +215,29 @@ public class DatabaseData {
 
   public boolean changeRowInReverse(Table table, Column column, Object primaryKeys, Object oldValue,
       Object newValue) {
-    Vector<DynaBean> rows = getRowsFromTable(table.getName());
-    int i = 0;
-    boolean found = false;
+    Vector<DynaBean> rows = _databaseBeans.get(table.getName().toUpperCase());
     boolean changeDone = true;
     if (rows == null) {
       // we return true in this case, because this means that the row for this change doesn't belong
       // to the module being exported
       return true;
     }
-    while (i < rows.size() && !found) {
-      Column[] primaryKeysCols = table.getPrimaryKeyColumns();
-      Object primaryKeyA = rows.get(i).get(primaryKeysCols[0].getName());
-      if (primaryKeys.toString().equals(primaryKeyA.toString())) {
-        found = true;
+    DynaBean row = null;
+    Column[] primaryKeysCols = table.getPrimaryKeyColumns();
+    if (primaryKeysCols.length == 1) {
+      row = findRow(table, rows, new Object[] { primaryKeys });
+    } else {
+      // only the first primary key column is compared
+      for (DynaBean candidate : getRowsFromTable(table.getName())) {
+        Object primaryKeyA = candidate.get(primaryKeysCols[0].getName());
+        if (primaryKeys.toString().equals(primaryKeyA.toString())) {
+          row = candidate;
+          break;
+        }
       }
-      i++;
     }
-    if (found) {
-      Object currentValue = rows.get(i - 1).get(column.getName());
+    if (row != null) {
+      Object currentValue = row.get(column.getName());
       if (!(newValue == null && currentValue == null) && ((newValue == null && currentValue != null)
           || (newValue != null && currentValue == null)
           || (!currentValue.toString().equals(newValue.toString())))) {
@@ -216,14 +245,150 @@ public class DatabaseData {
         // we expected
         changeDone = false;
       } else {
-        rows.get(i - 1).set(column.getName(), oldValue);
+        row.set(column.getName(), oldValue);
+        if (column.isPrimaryKey()) {
+          primaryKeyIndexes.remove(table.getName().toUpperCase());
+        }
         changeDone = true;
       }
     }
     return changeDone;
   }
 
+  /**
+   * Returns the row of the table with the given primary key values, compared using their string
+   * representation, or null if there is no such row.
+   */
+  private DynaBean findRow(Table table, Vector<DynaBean> rows, Object[] primaryKeys) {
+    Column[] primaryKeysCols = table.getPrimaryKeyColumns();
+    if (primaryKeys.length == primaryKeysCols.length) {
+      for (DynaBean candidate : getPrimaryKeyIndex(table, rows).get(toStrings(primaryKeys))) {
+        if (hasPrimaryKey(candidate, primaryKeysCols, primaryKeys)) {
+          return candidate;
+        }
+      }
+      return null;
+    }
+    // partial primary key, it cannot be looked up in the index
+    for (DynaBean candidate : getRowsFromTable(table.getName())) {
+      if (hasPrimaryKey(candidate, primaryKeysCols, primaryKeys)) {
+        return candidate;
+      }
+    }
+    return null;
+  }
+
+  private static boolean hasPrimaryKey(DynaBean row, Column[] primaryKeysCols,
+      Object[] primaryKeys) {
+    for (int j = 0; j < primaryKeys.length; j++) {
+      Object primaryKeyA = row.get(primaryKeysCols[j].getName());
+      if (primaryKeys[j] == null ? primaryKeyA != null
+          : primaryKeyA == null || !primaryKeys[j].toString().equals(primaryKeyA.toString())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns the index of the rows of a table by primary key. It is built again if the rows were
+   * modified without using the methods of this class.
+   */
+  private PrimaryKeyIndex getPrimaryKeyIndex(Table table, Vector<DynaBean> rows) {
+    String tableName = table.getName().toUpperCase();
+    PrimaryKeyIndex index = primaryKeyIndexes.get(tableName);
+    if (index == null || !index.isUpToDate(rows)) {
+      // removed rows must not be indexed again
+      getRowsFromTable(tableName);
+      index = new PrimaryKeyIndex(table, rows);
+      primaryKeyIndexes.put(tableName, index);
+    }
+    return index;
+  }
+
+  private static List<String> getPrimaryKeyValues(Table table, DynaBean row) {
+    Column[] primaryKeysCols = table.getPrimaryKeyColumns();
+    Object[] values = new Object[primaryKeysCols.length];
+    for (int i = 0; i < primaryKeysCols.length; i++) {
+      values[i] = row.get(primaryKeysCols[i].getName());
+    }
+    return toStrings(values);
+  }
+
+  private static List<String> toStrings(Object[] values) {
+    List<String> strings = new ArrayList<String>(values.length);
+    for (Object value : values) {
+      strings.add(value == null ? null : value.toString());
+    }
+    return strings;
+  }
+
+  /** Rows of a table by the string representation of their primary key values */
+  private static class PrimaryKeyIndex {
+    private final Vector<DynaBean> rows;
+    private int rowCount;
+    private final Map<List<String>, List<DynaBean>> rowsByPrimaryKey;
+
+    private PrimaryKeyIndex(Table table, Vector<DynaBean> rows) {
+      this.rows = rows;
+      rowsByPrimaryKey = new HashMap<List<String>, List<DynaBean>>(rows.size() * 2);
+      for (DynaBean row : rows) {
+        put(getPrimaryKeyValues(table, row), row);
+      }
+      rowCount = rows.size();
+    }
+
+    private boolean isUpToDate(Vector<DynaBean> currentRows) {
+      return rows == currentRows && rowCount == currentRows.size();
+    }
+
+    /** Returns the rows with the given primary key, in the same order they have in the table */
+    private List<DynaBean> get(List<String> primaryKey) {
+      List<DynaBean> found = rowsByPrimaryKey.get(primaryKey);
+      return found == null ? Collections.<DynaBean> emptyList() : found;
+    }
+
+    /** Adds a row that was appended to the table */
+    private void add(Table table, Vector<DynaBean> currentRows, DynaBean row) {
+      if (rows == currentRows && rowCount + 1 == currentRows.size()) {
+        put(getPrimaryKeyValues(table, row), row);
+        rowCount++;
+      }
+    }
+
+    /**
+     * Removes a row that will be removed from the table. It is still counted until it is taken out
+     * of the vector.
+     */
+    private void remove(List<String> primaryKey, DynaBean row) {
+      List<DynaBean> sameKey = get(primaryKey);
+      for (int i = 0; i < sameKey.size(); i++) {
+        if (sameKey.get(i) == row) {
+          sameKey.remove(i);
+          return;
+        }
+      }
+    }
+
+    /** Updates the row count after the removed rows were taken out of the vector */
+    private void rowsRemoved(Vector<DynaBean> currentRows, int previousRowCount) {
+      if (rows == currentRows && rowCount == previousRowCount) {
+        rowCount = currentRows.size();
+      }
+    }
+
+    private void put(List<String> primaryKey, DynaBean row) {
+      List<DynaBean> sameKey = rowsByPrimaryKey.get(primaryKey);
+      if (sameKey == null) {
+        sameKey = new ArrayList<DynaBean>(1);
+        rowsByPrimaryKey.put(primaryKey, sameKey);
+      }
+      sameKey.add(row);
+    }
+  }
+
   public void reorderAllTables() {
+    primaryKeyIndexes.clear();
     for (int i = 0; i < _model.getTableCount(); i++) {
       DataToArraySink.sortArray(_model, getRowsFromTable(_model.getTable(i).getName()));
     }
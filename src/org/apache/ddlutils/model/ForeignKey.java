@@ -19,6 +19,7 @@ package org.apache.ddlutils.model;
  * under the License.
  */
 
+import java.io.Serializable;
 import java.sql.DatabaseMetaData;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -32,7 +33,10 @@ import org.apache.commons.lang3.builder.HashCodeBuilder;
  * 
  * @version $Revision: 504014 $
  */
-public class ForeignKey implements ConstraintObject, Cloneable {
+public class ForeignKey implements ConstraintObject, Cloneable, Serializable {
+  /** Unique ID for serialization purposes. */
+  private static final long serialVersionUID = 5182566278188489250L;
+
   /** The name of the foreign key, may be <code>null</code>. */
   private String _name;
   /** The target table. */
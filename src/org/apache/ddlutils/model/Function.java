@@ -19,6 +19,7 @@ package org.apache.ddlutils.model;
  * under the License.
  */
 
+import java.io.Serializable;
 import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -34,7 +35,10 @@ import org.apache.ddlutils.translation.Translation;
  * 
  * @version $Revision$
  */
-public class Function implements StructureObject, Cloneable {
+public class Function implements StructureObject, Cloneable, Serializable {
+  /** Unique ID for serialization purposes. */
+  private static final long serialVersionUID = 6141899282130050574L;
+
   public enum Volatility {
     VOLATILE, STABLE, IMMUTABLE;
 
@@ -19,6 +19,7 @@
 
 package org.apache.ddlutils.model;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
@@ -31,7 +32,9 @@ import org.apache.commons.lang3.builder.HashCodeBuilder;
  * 
  * @version $Revision$
  */
-public class MaterializedView implements StructureObject, Cloneable {
+public class MaterializedView implements StructureObject, Cloneable, Serializable {
+  /** Unique ID for serialization purposes. */
+  private static final long serialVersionUID = 7796433115593736539L;
 
   private View view;
 
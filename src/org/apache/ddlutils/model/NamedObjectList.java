@@ -0,0 +1,195 @@
+/*
+ ************************************************************************************
+ * Copyright (C) 2026 Openbravo S.L.U.
+ * Licensed under the Apache Software License version 2.0
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to  in writing,  software  distributed
+ * under the License is distributed  on  an  "AS IS"  BASIS,  WITHOUT  WARRANTIES  OR
+ * CONDITIONS OF ANY KIND, either  express  or  implied.  See  the  License  for  the
+ * specific language governing permissions and limitations under the License.
+ ************************************************************************************
+ */
+
+package org.apache.ddlutils.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * List of model objects that can be looked up by name without iterating over all of them. The
+ * objects are indexed by a case insensitive key, the index is built on demand and it is rebuilt
+ * after the list is modified or when a lookup finds that an object of the list changed its key.
+ *
+ * The same key, typically the object name, must be used in all the lookups of a list.
+ */
+class NamedObjectList<T> extends ArrayList<T> {
+  /** Unique ID for serialization purposes. */
+  private static final long serialVersionUID = 6143542713004418213L;
+
+  private transient volatile NameIndex<T> index;
+
+  /**
+   * Finds the first object whose name is equal to the given one.
+   *
+   * @param name
+   *          the name of the object
+   * @param caseSensitive
+   *          whether case matters for the names
+   * @param nameOf
+   *          returns the name of an object
+   */
+  T find(String name, boolean caseSensitive, java.util.function.Function<T, String> nameOf) {
+    if (name == null) {
+      return null;
+    }
+    if (caseSensitive) {
+      return find(name, nameOf, object -> name.equals(nameOf.apply(object)));
+    }
+    return find(name, nameOf, object -> name.equalsIgnoreCase(nameOf.apply(object)));
+  }
+
+  /**
+   * Finds the first object that satisfies the given condition. Only the objects whose key is equal,
+   * ignoring case, to the given one are checked.
+   *
+   * @param key
+   *          the key of the object, if it is null all the objects are checked
+   * @param keyOf
+   *          returns the key of an object
+   * @param matches
+   *          the condition the object must satisfy, it can only be satisfied by objects with the
+   *          given key
+   */
+  T find(String key, java.util.function.Function<T, String> keyOf, Predicate<T> matches) {
+    if (key == null) {
+      for (T object : this) {
+        if (matches.test(object)) {
+          return object;
+        }
+      }
+      return null;
+    }
+    NameIndex<T> currentIndex = index;
+    if (currentIndex == null || currentIndex.modCount != modCount) {
+      currentIndex = buildIndex(keyOf);
+    } else {
+      // objects are renamed without the list knowing it, so the index is checked before trusting
+      // its result: a candidate with a different key or a miss after a rename requires a rebuild
+      boolean valid = true;
+      for (IndexEntry<T> entry : currentIndex.get(key)) {
+        if (keyOf.apply(entry.object) != entry.key) {
+          valid = false;
+          break;
+        }
+        if (matches.test(entry.object)) {
+          return entry.object;
+        }
+      }
+      if (valid && currentIndex.isUpToDate(this, keyOf)) {
+        return null;
+      }
+      currentIndex = buildIndex(keyOf);
+    }
+    for (IndexEntry<T> entry : currentIndex.get(key)) {
+      if (matches.test(entry.object)) {
+        return entry.object;
+      }
+    }
+    return null;
+  }
+
+  private NameIndex<T> buildIndex(java.util.function.Function<T, String> keyOf) {
+    NameIndex<T> newIndex = new NameIndex<T>(this, keyOf, modCount);
+    index = newIndex;
+    return newIndex;
+  }
+
+  @Override
+  public Object clone() {
+    @SuppressWarnings("unchecked")
+    NamedObjectList<T> result = (NamedObjectList<T>) super.clone();
+    result.index = null;
+    return result;
+  }
+
+  /**
+   * Returns the key used in the index for a name. Two names get the same key if they are equal
+   * ignoring case, as in {@link String#equalsIgnoreCase(String)}.
+   */
+  private static String getKey(String name) {
+    StringBuilder key = new StringBuilder(name.length());
+    for (int i = 0; i < name.length();) {
+      int codePoint = name.codePointAt(i);
+      key.appendCodePoint(Character.toLowerCase(Character.toUpperCase(codePoint)));
+      i += Character.charCount(codePoint);
+    }
+    return key.toString();
+  }
+
+  /** An indexed object together with the key it had when the index was built */
+  private static class IndexEntry<T> {
+    private final T object;
+    private final String key;
+
+    private IndexEntry(T object, String key) {
+      this.object = object;
+      this.key = key;
+    }
+  }
+
+  /** Objects of a list by key, in the same order they have in the list */
+  private static class NameIndex<T> {
+    private final Map<String, List<IndexEntry<T>>> objectsByKey;
+    /** Keys of the objects when the index was built, in list order */
+    private final String[] keys;
+    private final int modCount;
+
+    private NameIndex(List<T> objects, java.util.function.Function<T, String> keyOf, int modCount) {
+      this.modCount = modCount;
+      keys = new String[objects.size()];
+      objectsByKey = new HashMap<String, List<IndexEntry<T>>>(objects.size() * 2);
+      for (int i = 0; i < keys.length; i++) {
+        T object = objects.get(i);
+        String name = keyOf.apply(object);
+        keys[i] = name;
+        if (name == null) {
+          continue;
+        }
+        String key = getKey(name);
+        IndexEntry<T> entry = new IndexEntry<T>(object, name);
+        List<IndexEntry<T>> sameKey = objectsByKey.get(key);
+        if (sameKey == null) {
+          objectsByKey.put(key, Collections.singletonList(entry));
+        } else {
+          if (sameKey.size() == 1) {
+            sameKey = new ArrayList<IndexEntry<T>>(sameKey);
+            objectsByKey.put(key, sameKey);
+          }
+          sameKey.add(entry);
+        }
+      }
+    }
+
+    private List<IndexEntry<T>> get(String key) {
+      List<IndexEntry<T>> objects = objectsByKey.get(getKey(key));
+      return objects == null ? Collections.<IndexEntry<T>> emptyList() : objects;
+    }
+
+    /**
+     * Checks that no object of the list changed its key since the index was built. Keys are
+     * compared by reference, as renaming an object always sets a new string.
+     */
+    private boolean isUpToDate(List<T> objects, java.util.function.Function<T, String> keyOf) {
+      for (int i = 0; i < keys.length; i++) {
+        if (keyOf.apply(objects.get(i)) != keys[i]) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+}
@@ -19,6 +19,8 @@ package org.apache.ddlutils.model;
  * under the License.
  */
 
+import java.io.Serializable;
+
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 
@@ -27,7 +29,9 @@ import org.apache.commons.lang3.builder.HashCodeBuilder;
  * @author adrianromero Created on 16 de julio de 2007, 12:31
  * 
  */
-public class Parameter extends ValueObject implements Cloneable {
+public class Parameter extends ValueObject implements Cloneable, Serializable {
+  /** Unique ID for serialization purposes. */
+  private static final long serialVersionUID = 3924815160150147117L;
 
   public final static int MODE_NONE = 0;
   public final static int MODE_IN = 1;
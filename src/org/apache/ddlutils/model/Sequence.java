@@ -19,6 +19,8 @@ package org.apache.ddlutils.model;
  * under the License.
  */
 
+import java.io.Serializable;
+
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 
@@ -27,7 +29,9 @@ import org.apache.commons.lang3.builder.HashCodeBuilder;
  * 
  * @version $Revision$
  */
-public class Sequence implements StructureObject, Cloneable {
+public class Sequence implements StructureObject, Cloneable, Serializable {
+  /** Unique ID for serialization purposes. */
+  private static final long serialVersionUID = 7892679975238224029L;
 
   /** The name of the sequence, may be <code>null</code>. */
   private String _name;
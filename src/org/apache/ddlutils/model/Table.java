@@ -57,11 +57,11 @@ public class Table implements StructureObject, Serializable, Cloneable {
   /** The table's type as read from the database. */
   private String _type = null;
   /** The columns in this table. */
-  private ArrayList _columns = new ArrayList();
+  private NamedObjectList<Column> _columns = new NamedObjectList<Column>();
   /** The foreign keys associated to this table. */
-  private ArrayList _foreignKeys = new ArrayList();
+  private NamedObjectList<ForeignKey> _foreignKeys = new NamedObjectList<ForeignKey>();
   /** The indices applied to this table. */
-  private ArrayList _indices = new ArrayList();
+  private NamedObjectList<Index> _indices = new NamedObjectList<Index>();
   /** The uniques applied to this table. */
   private ArrayList _uniques = new ArrayList();
   /** The constraint checks applied to this table. */
@@ -631,20 +631,7 @@ public class Table implements StructureObject, Serializable, Cloneable {
    * @return The column or <code>null</code> if there is no such column
    */
   public Column findColumn(String name, boolean caseSensitive) {
-    for (Iterator it = _columns.iterator(); it.hasNext();) {
-      Column column = (Column) it.next();
-
-      if (caseSensitive) {
-        if (column.getName().equals(name)) {
-          return column;
-        }
-      } else {
-        if (column.getName().equalsIgnoreCase(name)) {
-          return column;
-        }
-      }
-    }
-    return null;
+    return _columns.find(name, caseSensitive, Column::getName);
   }
 
   /**
@@ -688,20 +675,7 @@ public class Table implements StructureObject, Serializable, Cloneable {
    * @return The index or <code>null</code> if there is no such index
    */
   public Index findIndex(String name, boolean caseSensitive) {
-    for (int idx = 0; idx < getIndexCount(); idx++) {
-      Index index = getIndex(idx);
-
-      if (caseSensitive) {
-        if (index.getName().equals(name)) {
-          return index;
-        }
-      } else {
-        if (index.getName().equalsIgnoreCase(name)) {
-          return index;
-        }
-      }
-    }
-    return null;
+    return _indices.find(name, caseSensitive, Index::getName);
   }
 
   /**
@@ -712,14 +686,11 @@ public class Table implements StructureObject, Serializable, Cloneable {
    * @return The found foreign key
    */
   public ForeignKey findForeignKey(ForeignKey key) {
-    for (int idx = 0; idx < getForeignKeyCount(); idx++) {
-      ForeignKey fk = getForeignKey(idx);
-
-      if (fk.equals(key)) {
-        return fk;
-      }
+    if (key == null) {
+      return null;
     }
-    return null;
+    return _foreignKeys.find(key.getForeignTableName(), ForeignKey::getForeignTableName,
+        fk -> fk.equals(key));
   }
 
   /**
@@ -732,14 +703,11 @@ public class Table implements StructureObject, Serializable, Cloneable {
    * @return The found foreign key
    */
   public ForeignKey findForeignKey(ForeignKey key, boolean caseSensitive) {
-    for (int idx = 0; idx < getForeignKeyCount(); idx++) {
-      ForeignKey fk = getForeignKey(idx);
-
-      if ((caseSensitive && fk.equals(key)) || (!caseSensitive && fk.equalsIgnoreCase(key))) {
-        return fk;
-      }
+    if (key == null) {
+      return null;
     }
-    return null;
+    return _foreignKeys.find(key.getForeignTableName(), ForeignKey::getForeignTableName,
+        fk -> caseSensitive ? fk.equals(key) : fk.equalsIgnoreCase(key));
   }
 
   /**
@@ -1036,17 +1004,17 @@ public class Table implements StructureObject, Serializable, Cloneable {
     result._name = _name;
     result._primaryKey = _primaryKey;
     result._type = _type;
-    result._columns = new ArrayList();
+    result._columns = new NamedObjectList<Column>();
     for (int i = 0; i < _columns.size(); i++) {
-      result._columns.add(((Column) _columns.get(i)).clone());
+      result._columns.add((Column) ((Column) _columns.get(i)).clone());
     }
-    result._foreignKeys = new ArrayList();
+    result._foreignKeys = new NamedObjectList<ForeignKey>();
     for (int i = 0; i < _foreignKeys.size(); i++) {
-      result._foreignKeys.add(((ForeignKey) _foreignKeys.get(i)).clone());
+      result._foreignKeys.add((ForeignKey) ((ForeignKey) _foreignKeys.get(i)).clone());
     }
-    result._indices = new ArrayList();
+    result._indices = new NamedObjectList<Index>();
     for (int i = 0; i < _indices.size(); i++) {
-      result._indices.add(((Index) _indices.get(i)).clone());
+      result._indices.add((Index) ((Index) _indices.get(i)).clone());
     }
     result._uniques = new ArrayList();
     for (int i = 0; i < _uniques.size(); i++) {
@@ -1166,16 +1134,16 @@ public class Table implements StructureObject, Serializable, Cloneable {
   public void mergeWith(Table table) {
     try {
       for (int i = 0; i < table._columns.size(); i++) {
-        this._columns.add(((Column) table._columns.get(i)).clone());
+        this._columns.add((Column) ((Column) table._columns.get(i)).clone());
       }
       for (int i = 0; i < table._foreignKeys.size(); i++) {
-        this._foreignKeys.add(((ForeignKey) table._foreignKeys.get(i)).clone());
+        this._foreignKeys.add((ForeignKey) ((ForeignKey) table._foreignKeys.get(i)).clone());
       }
       for (int i = 0; i < table._indices.size(); i++) {
         if (findIndex(((Index) table._indices.get(i)).getName()) != null) {
           removeIndex(findIndex(((Index) table._indices.get(i)).getName()));
         }
-        this._indices.add(((Index) table._indices.get(i)).clone());
+        this._indices.add((Index) ((Index) table._indices.get(i)).clone());
       }
       for (int i = 0; i < table._uniques.size(); i++) {
         if (findUnique(((Unique) table._uniques.get(i)).getName()) != null) {
@@ -19,6 +19,8 @@ package org.apache.ddlutils.model;
  * under the License.
  */
 
+import java.io.Serializable;
+
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.ddlutils.translation.NullTranslation;
@@ -29,7 +31,9 @@ import org.apache.ddlutils.translation.Translation;
  * 
  * @version $Revision$
  */
-public class Trigger implements StructureObject, Cloneable {
+public class Trigger implements StructureObject, Cloneable, Serializable {
+  /** Unique ID for serialization purposes. */
+  private static final long serialVersionUID = 3448201831624389024L;
 
   public static final int FIRES_BEFORE = 0;
   public static final int FIRES_AFTER = 1;
@@ -55,7 +59,7 @@ public class Trigger implements StructureObject, Cloneable {
   private String _body;
   private String _originalBody;
   /** The translation object used to translate the trigger body */
-  private Translation _translation = new NullTranslation();
+  private transient Translation _translation = new NullTranslation();
 
   /** Creates a new instance of Trigger */
   public Trigger() {
@@ -12,6 +12,7 @@
 
 package org.apache.ddlutils.model;
 
+import java.io.Serializable;
 import java.math.BigDecimal;
 import java.sql.Date;
 import java.sql.Time;
@@ -27,13 +28,15 @@ import org.apache.ddlutils.util.Jdbc3Utils;
  * 
  * @author adrian
  */
-public abstract class ValueObject implements Cloneable {
+public abstract class ValueObject implements Cloneable, Serializable {
+  /** Unique ID for serialization purposes. */
+  private static final long serialVersionUID = 5267831866643488763L;
 
   /** The JDBC type code, one of the constants in {@link java.sql.Types}. */
   protected int _typeCode;
   /** The default value. */
   protected String _defaultValue;
-  protected Translation _translation = new NullTranslation();
+  protected transient Translation _translation = new NullTranslation();
 
   public ValueObject() {
     _typeCode = Types.VARCHAR;
@@ -14,6 +14,7 @@ package org.apache.ddlutils.platform;
 
 import java.sql.Connection;
 import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.Callable;
 
 import org.apache.commons.logging.Log;
@@ -31,7 +32,7 @@ public class ConcurrentSqlEvaluator implements Callable<Integer> {
   private final static Log log = LogFactory.getLog(ConcurrentSqlEvaluator.class);
 
   private SQLBatchEvaluator evaluator;
-  private String sql;
+  private List<String> sql;
   private JdbcSupport dbConPool;
   private boolean continueOnError;
 
@@ -48,6 +49,22 @@ public class ConcurrentSqlEvaluator implements Callable<Integer> {
    */
   public ConcurrentSqlEvaluator(SQLBatchEvaluator evaluator, String sql, JdbcSupport dbConPool,
       boolean continueOnError) {
+    this(evaluator, Arrays.asList(sql), dbConPool, continueOnError);
+  }
+
+  /**
+   * 
+   * @param evaluator
+   *          SQLBatchEvaluator to process the sql
+   * @param sql
+   *          sql statements to execute in the same connection, in the given order
+   * @param dbConPool
+   *          DB connection pool to borrow the connection from
+   * @param continueOnError
+   *          should an exception be thrown if sql fails
+   */
+  public ConcurrentSqlEvaluator(SQLBatchEvaluator evaluator, List<String> sql,
+      JdbcSupport dbConPool, boolean continueOnError) {
     this.evaluator = evaluator;
     this.sql = sql;
     this.dbConPool = dbConPool;
@@ -65,7 +82,7 @@ public class ConcurrentSqlEvaluator implements Callable<Integer> {
     try {
       con = dbConPool.borrowConnection();
       log.debug("[" + Thread.currentThread().getName() + "] - executing " + sql);
-      return evaluator.evaluateBatch(con, Arrays.asList(sql), continueOnError, 0);
+      return evaluator.evaluateBatch(con, sql, continueOnError, 0);
     } catch (Exception e) {
       log.error("Error while executing " + sql, e);
       return 1;
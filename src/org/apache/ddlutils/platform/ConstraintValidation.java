@@ -0,0 +1,44 @@
+/*
+ ************************************************************************************
+ * Copyright (C) 2026 Openbravo S.L.U.
+ * Licensed under the Apache Software License version 2.0
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to  in writing,  software  distributed
+ * under the License is distributed  on  an  "AS IS"  BASIS,  WITHOUT  WARRANTIES  OR
+ * CONDITIONS OF ANY KIND, either  express  or  implied.  See  the  License  for  the
+ * specific language governing permissions and limitations under the License.
+ ************************************************************************************
+ */
+
+package org.apache.ddlutils.platform;
+
+/**
+ * Validation of a constraint that was created without validating the existing rows. If the
+ * validation fails, the constraint is dropped, so it is not kept in the database as it would not
+ * have been created validating it.
+ */
+public class ConstraintValidation {
+  private final String constraintName;
+  private final String validationSql;
+  private final String dropSql;
+
+  public ConstraintValidation(String constraintName, String validationSql, String dropSql) {
+    this.constraintName = constraintName;
+    this.validationSql = validationSql;
+    this.dropSql = dropSql;
+  }
+
+  public String getConstraintName() {
+    return constraintName;
+  }
+
+  /** Statement validating the existing rows */
+  public String getValidationSql() {
+    return validationSql;
+  }
+
+  /** Statement dropping the constraint, executed when its validation fails */
+  public String getDropSql() {
+    return dropSql;
+  }
+}
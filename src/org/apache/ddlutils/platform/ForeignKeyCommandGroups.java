@@ -0,0 +1,127 @@
+/*
+ ************************************************************************************
+ * Copyright (C) 2026 Openbravo S.L.U.
+ * Licensed under the Apache Software License version 2.0
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to  in writing,  software  distributed
+ * under the License is distributed  on  an  "AS IS"  BASIS,  WITHOUT  WARRANTIES  OR
+ * CONDITIONS OF ANY KIND, either  express  or  implied.  See  the  License  for  the
+ * specific language governing permissions and limitations under the License.
+ ************************************************************************************
+ */
+
+package org.apache.ddlutils.platform;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.ddlutils.model.ForeignKey;
+import org.apache.ddlutils.model.Table;
+
+/**
+ * Groups the statements creating foreign keys by the table they are defined in, so each group can
+ * be executed concurrently with the rest of them.
+ *
+ * Creating a foreign key locks both the table it is defined in and the referenced one. To prevent
+ * deadlocks, tables whose foreign keys reference each other, directly or through other tables, are
+ * kept in the same group.
+ */
+public class ForeignKeyCommandGroups {
+  private final Map<String, TableNode> tables = new LinkedHashMap<>();
+  private List<List<String>> groups;
+  private List<TableNode> stack;
+  private int index;
+
+  /**
+   * Adds the statements creating foreign keys of a table. Tables without statements are ignored.
+   */
+  public void add(Table table, List<String> commands) {
+    if (commands.isEmpty()) {
+      return;
+    }
+    String key = table.getName().toUpperCase();
+    TableNode node = tables.get(key);
+    if (node == null) {
+      node = new TableNode(table, tables.size());
+      tables.put(key, node);
+    }
+    node.commands.addAll(commands);
+  }
+
+  /**
+   * Returns the groups of statements. The statements of each group must be executed in order in a
+   * single connection.
+   */
+  public List<List<String>> getGroups() {
+    groups = new ArrayList<>();
+    stack = new ArrayList<>();
+    index = 0;
+    for (TableNode node : tables.values()) {
+      node.index = -1;
+    }
+    for (TableNode node : tables.values()) {
+      if (node.index == -1) {
+        visit(node);
+      }
+    }
+    return groups;
+  }
+
+  /** Tarjan's algorithm to find the strongly connected components of the references graph */
+  private void visit(TableNode node) {
+    node.index = index;
+    node.lowLink = index;
+    index++;
+    stack.add(node);
+    node.onStack = true;
+
+    for (ForeignKey fk : node.table.getForeignKeys()) {
+      String referencedTable = fk.getForeignTableName();
+      TableNode referenced = referencedTable == null ? null
+          : tables.get(referencedTable.toUpperCase());
+      if (referenced == null) {
+        continue;
+      }
+      if (referenced.index == -1) {
+        visit(referenced);
+        node.lowLink = Math.min(node.lowLink, referenced.lowLink);
+      } else if (referenced.onStack) {
+        node.lowLink = Math.min(node.lowLink, referenced.index);
+      }
+    }
+
+    if (node.lowLink == node.index) {
+      List<TableNode> component = new ArrayList<>();
+      TableNode member;
+      do {
+        member = stack.remove(stack.size() - 1);
+        member.onStack = false;
+        component.add(member);
+      } while (member != node);
+
+      // keep the statements in the same order they were added
+      component.sort((n1, n2) -> Integer.compare(n1.position, n2.position));
+      List<String> group = new ArrayList<>();
+      for (TableNode table : component) {
+        group.addAll(table.commands);
+      }
+      groups.add(group);
+    }
+  }
+
+  private static class TableNode {
+    private final Table table;
+    private final int position;
+    private final List<String> commands = new ArrayList<>();
+    private int index;
+    private int lowLink;
+    private boolean onStack;
+
+    private TableNode(Table table, int position) {
+      this.table = table;
+      this.position = position;
+    }
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ ************************************************************************************
+ * Copyright (C) 2026 Openbravo S.L.U.
+ * Licensed under the Apache Software License version 2.0
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to  in writing,  software  distributed
+ * under the License is distributed  on  an  "AS IS"  BASIS,  WITHOUT  WARRANTIES  OR
+ * CONDITIONS OF ANY KIND, either  express  or  implied.  See  the  License  for  the
+ * specific language governing permissions and limitations under the License.
+ ************************************************************************************
+ */
+
+package org.apache.ddlutils.platform;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Cheap summary of the database catalog used to detect which objects changed since a model was
+ * read. It keeps a hash per table and per function plus a single hash for the rest of objects
+ * (views, materialized views, sequences and triggers), which are always reloaded if it changes.
+ *
+ * @see ModelSnapshot
+ */
+public class ModelFingerprint implements Serializable {
+  /** Unique ID for serialization purposes. */
+  private static final long serialVersionUID = 2906154235317463528L;
+
+  private Map<String, String> tables = new HashMap<>();
+  private Map<String, String> functions = new HashMap<>();
+  private String otherObjects;
+
+  public void addTable(String tableName, String hash) {
+    tables.put(tableName, hash);
+  }
+
+  public void addFunction(String functionName, String hash) {
+    functions.put(functionName, hash);
+  }
+
+  public void setOtherObjects(String hash) {
+    otherObjects = hash;
+  }
+
+  /** Returns true if the given table didn't change between both fingerprints */
+  public boolean isTableUnchanged(ModelFingerprint previous, String tableName) {
+    String hash = tables.get(tableName);
+    return hash != null && hash.equals(previous.tables.get(tableName));
+  }
+
+  /**
+   * Returns true if the given function didn't change between both fingerprints. Functions are also
+   * read from their "0" overloaded version, so it is checked as well.
+   */
+  public boolean isFunctionUnchanged(ModelFingerprint previous, String functionName) {
+    String hash = functions.get(functionName);
+    return hash != null && hash.equals(previous.functions.get(functionName))
+        && Objects.equals(functions.get(functionName + "0"),
+            previous.functions.get(functionName + "0"));
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (!(obj instanceof ModelFingerprint)) {
+      return false;
+    }
+    ModelFingerprint other = (ModelFingerprint) obj;
+    return tables.equals(other.tables) && functions.equals(other.functions)
+        && Objects.equals(otherObjects, other.otherObjects);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(tables, functions, otherObjects);
+  }
+}
@@ -12,10 +12,12 @@
 
 package org.apache.ddlutils.platform;
 
+import java.io.File;
 import java.sql.Connection;
 import java.sql.SQLException;
 
 import org.apache.commons.logging.Log;
+import org.apache.ddlutils.Platform;
 import org.apache.ddlutils.model.Database;
 
 /**
@@ -43,4 +45,33 @@ public interface ModelLoader {
   /** Defines how many threads can be used to execute parallelizable tasks */
   public void setMaxThreads(int threads);
 
+  /**
+   * Defines whether the tables should be read from catalog with one set-based query per object
+   * kind (columns, checks, foreign keys...) instead of querying it table by table. Loaders not
+   * supporting it keep reading table by table.
+   */
+  public void setBulkLoading(boolean bulkLoading);
+
+  /**
+   * Defines whether tables should be read concurrently in up to max threads, each of them using its
+   * own connection borrowed from the platform set in {@link #setPlatform(Platform)}.
+   */
+  public void setParallelLoading(boolean parallelLoading);
+
+  /** Sets the platform this loader reads from, used to borrow additional connections */
+  public void setPlatform(Platform platform);
+
+  /**
+   * Sets the file where the model read from database is kept to be reused in following loads. Only
+   * the objects that changed in the catalog since the snapshot was taken are read again. Loaders
+   * not able to compute a catalog fingerprint always read the whole model.
+   */
+  public void setModelSnapshotFile(File modelSnapshotFile);
+
+  /**
+   * Keeps the model read in the last load as snapshot for the following ones. It should be invoked
+   * once the process that loaded the model has finished successfully.
+   */
+  public void saveModelSnapshot();
+
 }
@@ -13,8 +13,11 @@
 package org.apache.ddlutils.platform;
 
 import java.io.BufferedReader;
+import java.io.File;
 import java.io.IOException;
 import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -22,10 +25,19 @@ import java.sql.SQLException;
 import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.commons.logging.Log;
+import org.apache.ddlutils.DdlUtilsException;
+import org.apache.ddlutils.Platform;
 import org.apache.ddlutils.model.Check;
 import org.apache.ddlutils.model.Column;
 import org.apache.ddlutils.model.Database;
@@ -96,6 +108,16 @@ public abstract class ModelLoaderBase implements ModelLoader {
 
   private boolean onlyLoadTableColumns = false;
   private int maxThreads = 1;
+  private boolean bulkLoading = false;
+  private boolean parallelLoading = false;
+  private Platform platform;
+  private File modelSnapshotFile;
+  private File pendingSnapshotFile;
+  private ModelSnapshot reusableSnapshot;
+  private ModelFingerprint currentFingerprint;
+
+  /** Number of chunks each thread gets on average when reading tables in parallel */
+  private static final int TABLE_CHUNKS_PER_THREAD = 4;
 
   /** Creates a new instance of BasicModelLoader */
   public ModelLoaderBase() {
@@ -119,6 +141,9 @@ public abstract class ModelLoaderBase implements ModelLoader {
 
       initMetadataSentences();
 
+      if (modelSnapshotFile != null && _prefix == null && !onlyLoadTableColumns) {
+        return readDatabaseUsingSnapshot(doPlSqlStandardization);
+      }
       return readDatabase(doPlSqlStandardization);
 
     } finally {
@@ -189,11 +214,60 @@ public abstract class ModelLoaderBase implements ModelLoader {
     return readDatabase(doPlSqlStandardization);
   }
 
+  /**
+   * Reads the model reusing from the snapshot file the tables and functions that did not change
+   * since it was taken. The model read is written in a temporary file that replaces the snapshot
+   * when {@link #saveModelSnapshot()} is invoked.
+   */
+  private Database readDatabaseUsingSnapshot(boolean doPlSqlStandardization) throws SQLException {
+    long t = System.currentTimeMillis();
+    ModelFingerprint fingerprint = readModelFingerprint();
+    if (fingerprint == null) {
+      return readDatabase(doPlSqlStandardization);
+    }
+    _log.info("Computed catalog fingerprint in " + (System.currentTimeMillis() - t) + " ms");
+
+    String loadKey = getClass().getName() + "|" + doPlSqlStandardization + "|"
+        + _filter.getClass().getName() + "|" + _filter;
+    ModelSnapshot snapshot = ModelSnapshot.read(modelSnapshotFile, loadKey, _log);
+    pendingSnapshotFile = null;
+    if (snapshot != null && fingerprint.equals(snapshot.getFingerprint())) {
+      _log.info("Catalog did not change since model snapshot " + modelSnapshotFile
+          + " was taken, reusing it");
+      return snapshot.getModel();
+    }
+
+    Database db;
+    reusableSnapshot = snapshot;
+    currentFingerprint = fingerprint;
+    try {
+      db = readDatabase(doPlSqlStandardization);
+    } finally {
+      reusableSnapshot = null;
+      currentFingerprint = null;
+    }
+
+    // model is written now because callers can modify it once it is returned
+    File tmpFile = new File(modelSnapshotFile.getPath() + ".tmp");
+    if (new ModelSnapshot(loadKey, fingerprint, db).write(tmpFile, _log)) {
+      pendingSnapshotFile = tmpFile;
+    }
+    return db;
+  }
+
+  /**
+   * Computes the fingerprint of the catalog to detect which objects changed since a model snapshot
+   * was taken. Loaders not supporting it return null, in which case snapshots are not used.
+   */
+  protected ModelFingerprint readModelFingerprint() throws SQLException {
+    return null;
+  }
+
   protected Database readDatabase(boolean doPlSqlStandardization) throws SQLException {
     Database db = new Database();
     db.setName(readName());
     _log.info("Reading tables...");
-    Collection tables = readTables();
+    Collection tables = reusableSnapshot == null ? readTables() : readTablesReusingSnapshot();
     Iterator it = tables.iterator();
     ArrayList filteredTables = new ArrayList();
     while (it.hasNext()) {
@@ -217,7 +291,8 @@ public abstract class ModelLoaderBase implements ModelLoader {
       _log.info("Reading triggers...");
       db.addTriggers(readTriggers());
       _log.info("Reading functions...");
-      db.addFunctions(readFunctions());
+      db.addFunctions(
+          reusableSnapshot == null ? readFunctions() : readFunctionsReusingSnapshot());
     }
 
     _log.info("Sorting foreign keys, indexes and checks...");
@@ -229,6 +304,59 @@ public abstract class ModelLoaderBase implements ModelLoader {
     return db;
   }
 
+  private Collection readTablesReusingSnapshot() throws SQLException {
+    Map<String, Table> snapshotTables = new HashMap<>();
+    for (Table table : reusableSnapshot.getModel().getTables()) {
+      snapshotTables.put(table.getName(), table);
+    }
+
+    List<Table> tables = new ArrayList<>();
+    int readTables = 0;
+    for (Object name : readTableNames()) {
+      String tableName = (String) name;
+      Table table = snapshotTables.get(tableName);
+      if (table == null
+          || !currentFingerprint.isTableUnchanged(reusableSnapshot.getFingerprint(), tableName)) {
+        _log.debug("Table " + tableName + " changed since model snapshot");
+        table = readTable(tableName, true);
+        readTables++;
+      }
+      tables.add(table);
+    }
+    _log.info("Reused " + (tables.size() - readTables) + " tables from model snapshot, "
+        + readTables + " tables read from database");
+    return tables;
+  }
+
+  @SuppressWarnings("unchecked")
+  private Collection readFunctionsReusingSnapshot() throws SQLException {
+    Map<String, Function> snapshotFunctions = new HashMap<>();
+    for (Function function : reusableSnapshot.getModel().getFunctions()) {
+      snapshotFunctions.put(function.getName(), function);
+    }
+
+    List<Function> functions = new ArrayList<>();
+    int readFunctions = 0;
+    for (String name : (List<String>) readList(_stmt_listfunctions, r -> r.getString(1))) {
+      String functionName = name.toUpperCase();
+      Function function = snapshotFunctions.get(functionName);
+      if (function == null || !currentFingerprint
+          .isFunctionUnchanged(reusableSnapshot.getFingerprint(), functionName)) {
+        _log.debug("Function " + functionName + " changed since model snapshot");
+        function = readFunction(name);
+        readFunctions++;
+      } else if (function.getOriginalBody() != null) {
+        // standardization depends on all the functions, so it is done again starting from the
+        // body as it was read from database
+        function.setBody(function.getOriginalBody());
+      }
+      functions.add(function);
+    }
+    _log.info("Reused " + (functions.size() - readFunctions) + " functions from model snapshot, "
+        + readFunctions + " functions read from database");
+    return functions;
+  }
+
   protected void addTablesToCorrectPlace(Database db, Collection tables) {
     Iterator it = tables.iterator();
     while (it.hasNext()) {
@@ -244,6 +372,9 @@ public abstract class ModelLoaderBase implements ModelLoader {
   }
 
   protected Collection readTables() throws SQLException {
+    if (parallelLoading && getMaxThreads() > 1 && platform != null) {
+      return readTablesInParallel();
+    }
     return readList(_stmt_listtables, new RowConstructor() {
       @Override
       public Object getRow(ResultSet r) throws SQLException {
@@ -253,6 +384,103 @@ public abstract class ModelLoaderBase implements ModelLoader {
     });
   }
 
+  /**
+   * Reads all tables splitting them in chunks that are loaded concurrently, each chunk is read by a
+   * new loader instance with its own connection and prepared statements. The returned tables keep
+   * the same order they would have if they were read sequentially.
+   */
+  @SuppressWarnings("unchecked")
+  private Collection readTablesInParallel() throws SQLException {
+    long t = System.currentTimeMillis();
+    List<String> tableNames = readTableNames();
+    int numOfThreads = Math.min(getMaxThreads(), tableNames.size());
+    if (numOfThreads <= 1) {
+      return readTableChunk(this, tableNames);
+    }
+
+    int numOfChunks = Math.min(numOfThreads * TABLE_CHUNKS_PER_THREAD, tableNames.size());
+    int chunkSize = (tableNames.size() + numOfChunks - 1) / numOfChunks;
+    List<Callable<List<Table>>> tasks = new ArrayList<>();
+    for (int i = 0; i < tableNames.size(); i += chunkSize) {
+      final List<String> chunk = tableNames.subList(i, Math.min(i + chunkSize, tableNames.size()));
+      tasks.add(() -> readTableChunkWithNewConnection(chunk));
+    }
+
+    List<Table> tables = new ArrayList<>(tableNames.size());
+    ExecutorService executor = Executors.newFixedThreadPool(numOfThreads);
+    try {
+      // futures are returned in the same order as tasks, so tables are kept sorted by name
+      for (Future<List<Table>> chunkTables : executor.invokeAll(tasks)) {
+        tables.addAll(chunkTables.get());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new DdlUtilsException("Interrupted while reading tables", e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof SQLException) {
+        throw (SQLException) cause;
+      } else if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new DdlUtilsException("Error reading tables", cause);
+    } finally {
+      executor.shutdown();
+    }
+
+    _log.info("Read " + tables.size() + " tables in " + tasks.size() + " chunks using "
+        + numOfThreads + " threads in " + (System.currentTimeMillis() - t) + " ms");
+    return tables;
+  }
+
+  private List<Table> readTableChunkWithNewConnection(List<String> tableNames)
+      throws SQLException {
+    ModelLoaderBase worker = createWorker();
+    Connection connection = platform.borrowConnection();
+    try {
+      worker._connection = connection;
+      worker.initMetadataSentences();
+      try {
+        return readTableChunk(worker, tableNames);
+      } finally {
+        worker.closeMetadataSentences();
+      }
+    } finally {
+      platform.returnConnection(connection);
+    }
+  }
+
+  private static List<Table> readTableChunk(ModelLoaderBase loader, List<String> tableNames)
+      throws SQLException {
+    List<Table> tables = new ArrayList<>(tableNames.size());
+    for (String tableName : tableNames) {
+      loader._log.debug("Table " + tableName);
+      tables.add(loader.readTable(tableName, true));
+    }
+    return tables;
+  }
+
+  /**
+   * Creates a new loader, configured as this one, to be used to read tables in a separate thread.
+   * As loaders keep state while reading each table, instances cannot be shared among threads.
+   */
+  protected ModelLoaderBase createWorker() {
+    ModelLoaderBase worker;
+    try {
+      worker = getClass().getDeclaredConstructor().newInstance();
+    } catch (ReflectiveOperationException e) {
+      throw new DdlUtilsException("Could not create model loader " + getClass().getName(), e);
+    }
+    worker._filter = _filter;
+    worker._log = _log;
+    worker._prefix = _prefix;
+    worker._loadCompleteTables = _loadCompleteTables;
+    worker._moduleId = _moduleId;
+    worker.onlyLoadTableColumns = onlyLoadTableColumns;
+    worker.platform = platform;
+    return worker;
+  }
+
   protected List readTableNames() throws SQLException {
 
     return readList(_stmt_listtables, new RowConstructor() {
@@ -918,6 +1146,27 @@ public abstract class ModelLoaderBase implements ModelLoader {
     }
   }
 
+  @Override
+  public void setModelSnapshotFile(File modelSnapshotFile) {
+    this.modelSnapshotFile = modelSnapshotFile;
+  }
+
+  @Override
+  public void saveModelSnapshot() {
+    if (pendingSnapshotFile == null) {
+      return;
+    }
+    try {
+      Files.move(pendingSnapshotFile.toPath(), modelSnapshotFile.toPath(),
+          StandardCopyOption.REPLACE_EXISTING);
+      _log.info("Saved model snapshot in " + modelSnapshotFile);
+    } catch (IOException e) {
+      _log.warn("Could not save model snapshot " + modelSnapshotFile + ": " + e.getMessage());
+    } finally {
+      pendingSnapshotFile = null;
+    }
+  }
+
   public boolean isOnlyLoadTableColumns() {
     return onlyLoadTableColumns;
   }
@@ -954,4 +1203,23 @@ public abstract class ModelLoaderBase implements ModelLoader {
   protected int getMaxThreads() {
     return maxThreads;
   }
+
+  @Override
+  public void setBulkLoading(boolean bulkLoading) {
+    this.bulkLoading = bulkLoading;
+  }
+
+  protected boolean isBulkLoading() {
+    return bulkLoading;
+  }
+
+  @Override
+  public void setParallelLoading(boolean parallelLoading) {
+    this.parallelLoading = parallelLoading;
+  }
+
+  @Override
+  public void setPlatform(Platform platform) {
+    this.platform = platform;
+  }
 }
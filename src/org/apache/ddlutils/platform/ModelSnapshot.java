@@ -0,0 +1,103 @@
+/*
+ ************************************************************************************
+ * Copyright (C) 2026 Openbravo S.L.U.
+ * Licensed under the Apache Software License version 2.0
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to  in writing,  software  distributed
+ * under the License is distributed  on  an  "AS IS"  BASIS,  WITHOUT  WARRANTIES  OR
+ * CONDITIONS OF ANY KIND, either  express  or  implied.  See  the  License  for  the
+ * specific language governing permissions and limitations under the License.
+ ************************************************************************************
+ */
+
+package org.apache.ddlutils.platform;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+
+import org.apache.commons.logging.Log;
+import org.apache.ddlutils.model.Database;
+
+/**
+ * Model read from database together with the {@link ModelFingerprint} of the catalog at the time
+ * it was read. It is stored in disk so following loads can reuse the objects that didn't change.
+ *
+ * @see ModelLoaderBase#setModelSnapshotFile(File)
+ */
+public class ModelSnapshot implements Serializable {
+  /** Unique ID for serialization purposes. */
+  private static final long serialVersionUID = -4305187342601986512L;
+
+  private String loadKey;
+  private ModelFingerprint fingerprint;
+  private Database model;
+
+  /**
+   * @param loadKey
+   *          identifies the options the model was loaded with, snapshots are only reused when
+   *          loading with the same options
+   */
+  public ModelSnapshot(String loadKey, ModelFingerprint fingerprint, Database model) {
+    this.loadKey = loadKey;
+    this.fingerprint = fingerprint;
+    this.model = model;
+  }
+
+  public String getLoadKey() {
+    return loadKey;
+  }
+
+  public ModelFingerprint getFingerprint() {
+    return fingerprint;
+  }
+
+  public Database getModel() {
+    return model;
+  }
+
+  /**
+   * Reads the snapshot stored in file. Returns null if there is no snapshot, it cannot be read or
+   * it was loaded with different options than the ones in loadKey.
+   */
+  public static ModelSnapshot read(File file, String loadKey, Log log) {
+    if (!file.exists()) {
+      return null;
+    }
+    try (ObjectInputStream in = new ObjectInputStream(
+        new BufferedInputStream(new FileInputStream(file)))) {
+      ModelSnapshot snapshot = (ModelSnapshot) in.readObject();
+      if (!loadKey.equals(snapshot.loadKey)) {
+        log.info("Model snapshot " + file + " was taken with different options, ignoring it");
+        return null;
+      }
+      return snapshot;
+    } catch (IOException | ClassNotFoundException | ClassCastException e) {
+      log.warn("Could not read model snapshot " + file + ", ignoring it: " + e.getMessage());
+      return null;
+    }
+  }
+
+  /** Writes this snapshot in file, returns false if it could not be written. */
+  public boolean write(File file, Log log) {
+    File dir = file.getAbsoluteFile().getParentFile();
+    if (dir != null) {
+      dir.mkdirs();
+    }
+    try (ObjectOutputStream out = new ObjectOutputStream(
+        new BufferedOutputStream(new FileOutputStream(file)))) {
+      out.writeObject(this);
+      return true;
+    } catch (IOException e) {
+      log.warn("Could not write model snapshot " + file + ": " + e.getMessage());
+      file.delete();
+      return false;
+    }
+  }
+}
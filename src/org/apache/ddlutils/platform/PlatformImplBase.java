@@ -45,16 +45,20 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 import java.util.Vector;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.commons.beanutils.DynaBean;
 import org.apache.commons.beanutils.PropertyUtils;
@@ -76,7 +80,6 @@ import org.apache.ddlutils.alteration.ColumnDataChange;
 import org.apache.ddlutils.alteration.ColumnRequiredChange;
 import org.apache.ddlutils.alteration.ColumnSizeChange;
 import org.apache.ddlutils.alteration.ModelChange;
-import org.apache.ddlutils.alteration.ModelComparator;
 import org.apache.ddlutils.alteration.RemoveCheckChange;
 import org.apache.ddlutils.alteration.RemoveIndexChange;
 import org.apache.ddlutils.alteration.RemoveRowChange;
@@ -115,6 +118,12 @@ public abstract class PlatformImplBase extends JdbcSupport implements Platform {
   /** The log for this platform. */
   private static final Log _log = LogFactory.getLog(PlatformImplBase.class);
 
+  private static final int DEFAULT_DATA_CHANGES_BATCH_SIZE = 1000;
+
+  private static final int DEFAULT_SET_BASED_DATA_CHANGES_THRESHOLD = 5000;
+
+  private static final int DEFAULT_QUERY_FETCH_SIZE = 1000;
+
   /** The platform info. */
   private PlatformInfo _info = new PlatformInfo();
   /** The sql builder for this platform. */
@@ -142,6 +151,16 @@ public abstract class PlatformImplBase extends JdbcSupport implements Platform {
 
   private int maxThreads = 0;
 
+  private int dataChangesBatchSize = 0;
+
+  private int setBasedDataChangesThreshold = 0;
+
+  private int queryFetchSize = 0;
+
+  private boolean concurrentConstraintValidation = false;
+  private boolean combinedOnCreateDefaults = false;
+  private boolean concurrentTableStructureChanges = false;
+
   /**
    * {@inheritDoc}
    */
@@ -187,6 +206,7 @@ public abstract class PlatformImplBase extends JdbcSupport implements Platform {
    */
   protected void setModelLoader(ModelLoader modelLoader) {
     _modelLoader = modelLoader;
+    _modelLoader.setPlatform(this);
   }
 
   /**
@@ -409,15 +429,55 @@ public abstract class PlatformImplBase extends JdbcSupport implements Platform {
       }
     }
 
-    boolean wasLoggingSuccessCommands = batchEvaluator.isLogInfoSucessCommands();
-    batchEvaluator.setLogInfoSucessCommands(false);
-
-    ExecutorService executor = Executors.newFixedThreadPool(numOfThreads);
     List<ConcurrentSqlEvaluator> tasks = new ArrayList<>();
     for (String command : commands) {
       tasks.add(new ConcurrentSqlEvaluator(batchEvaluator, command, this, continueOnError));
     }
+    return evaluateConcurrently(tasks, numOfThreads, commands.size(), sql);
+  }
+
+  /**
+   * Executes groups of statements concurrently. The statements of each group are executed in order
+   * in the same connection, so groups must not conflict among them, for example because each one
+   * only locks a different table.
+   * 
+   * If there is a single group or only one thread can be used, all the statements are executed as
+   * a batch in the given connection.
+   * 
+   * @return number of errors
+   */
+  protected int evaluateConcurrentBatch(Connection connection, List<List<String>> commandGroups,
+      boolean continueOnError) throws DatabaseOperationException {
+    int numOfThreads = Math.min(getMaxThreads(), commandGroups.size());
+    if (numOfThreads <= 1 || !batchEvaluator.isDBEvaluator()) {
+      List<String> commands = new ArrayList<>();
+      for (List<String> group : commandGroups) {
+        commands.addAll(group);
+      }
+      return evaluateBatchRealBatch(connection, commands, continueOnError);
+    }
+
+    int numOfCommands = 0;
+    List<ConcurrentSqlEvaluator> tasks = new ArrayList<>();
+    for (List<String> group : commandGroups) {
+      tasks.add(new ConcurrentSqlEvaluator(batchEvaluator, group, this, continueOnError));
+      numOfCommands += group.size();
+    }
+    int errors = evaluateConcurrently(tasks, numOfThreads, numOfCommands,
+        "of " + commandGroups.size() + " groups");
+    if (errors > 0 && !continueOnError) {
+      throw new DatabaseOperationException(
+          "Error while executing SQL: " + errors + " command(s) failed");
+    }
+    return errors;
+  }
+
+  private int evaluateConcurrently(List<? extends Callable<Integer>> tasks, int numOfThreads,
+      int numOfCommands, String description) {
+    boolean wasLoggingSuccessCommands = batchEvaluator.isLogInfoSucessCommands();
+    batchEvaluator.setLogInfoSucessCommands(false);
 
+    ExecutorService executor = Executors.newFixedThreadPool(numOfThreads);
     int errors = 0;
     try {
       for (Future<Integer> executionErrors : executor.invokeAll(tasks)) {
@@ -425,7 +485,7 @@ public abstract class PlatformImplBase extends JdbcSupport implements Platform {
       }
     } catch (InterruptedException | ExecutionException e1) {
       errors += 1;
-      _log.error("Error executing concurrent batch " + sql, e1);
+      _log.error("Error executing concurrent batch " + description, e1);
     } finally {
       executor.shutdown();
       try {
@@ -437,11 +497,92 @@ public abstract class PlatformImplBase extends JdbcSupport implements Platform {
     }
 
     batchEvaluator.setLogInfoSucessCommands(wasLoggingSuccessCommands);
-    _log.info("Executed " + commands.size() + " SQL commnand(s) in " + numOfThreads + " threads "
+    _log.info("Executed " + numOfCommands + " SQL commnand(s) in " + numOfThreads + " threads "
         + (errors == 0 ? "successfully" : ("with " + errors + " errors")));
     return errors;
   }
 
+  /**
+   * Validates the constraints that were created without validating the existing rows since the
+   * last validation. Constraints of different tables are validated concurrently, logging the time
+   * taken by each of them. Constraints failing the validation are dropped.
+   * 
+   * @return number of constraints failing the validation
+   */
+  protected int validateConstraints(Connection connection, boolean continueOnError)
+      throws DatabaseOperationException {
+    List<List<ConstraintValidation>> validations = getSqlBuilder().getConstraintValidations();
+    if (validations.isEmpty()) {
+      return 0;
+    }
+
+    int numOfConstraints = 0;
+    List<ConstraintValidator> tasks = new ArrayList<>();
+    for (List<ConstraintValidation> tableValidations : validations) {
+      tasks.add(new ConstraintValidator(tableValidations));
+      numOfConstraints += tableValidations.size();
+    }
+    _log.info("Validating " + numOfConstraints + " constraints...");
+
+    int errors = 0;
+    if (!batchEvaluator.isDBEvaluator()) {
+      for (ConstraintValidator task : tasks) {
+        errors += task.validate(connection);
+      }
+    } else {
+      int numOfThreads = Math.min(getMaxThreads(), tasks.size());
+      errors = evaluateConcurrently(tasks, numOfThreads, numOfConstraints,
+          "validating constraints");
+    }
+    if (errors > 0 && !continueOnError) {
+      throw new DatabaseOperationException(
+          "Error while validating constraints: " + errors + " constraint(s) failed");
+    }
+    return errors;
+  }
+
+  /** Validates in a single connection the constraints of a table */
+  private class ConstraintValidator implements Callable<Integer> {
+    private final List<ConstraintValidation> validations;
+
+    private ConstraintValidator(List<ConstraintValidation> validations) {
+      this.validations = validations;
+    }
+
+    @Override
+    public Integer call() {
+      Connection con = null;
+      try {
+        con = borrowConnection();
+        return validate(con);
+      } catch (Exception e) {
+        _log.error("Error while validating constraints", e);
+        return 1;
+      } finally {
+        returnConnection(con);
+      }
+    }
+
+    private int validate(Connection con) {
+      int errors = 0;
+      for (ConstraintValidation validation : validations) {
+        long t = System.currentTimeMillis();
+        // failures are always evaluated as continue on error to drop the failed constraint
+        if (batchEvaluator.evaluateBatch(con, Arrays.asList(validation.getValidationSql()), true,
+            0) == 0) {
+          _log.info("Validated constraint " + validation.getConstraintName() + " in "
+              + (System.currentTimeMillis() - t) + " ms");
+        } else {
+          errors++;
+          _log.info("Validation of constraint " + validation.getConstraintName() + " failed in "
+              + (System.currentTimeMillis() - t) + " ms, dropping it");
+          batchEvaluator.evaluateBatch(con, Arrays.asList(validation.getDropSql()), true, 0);
+        }
+      }
+      return errors;
+    }
+  }
+
   private List<String> getCommands(String sql) {
     List<String> commands = new ArrayList<>();
     SqlTokenizer tokenizer = new SqlTokenizer(sql);
@@ -698,9 +839,7 @@ public abstract class PlatformImplBase extends JdbcSupport implements Platform {
   public void alterTables(Connection connection, Database currentModel, Database desiredModel,
       boolean continueOnError) throws DatabaseOperationException {
 
-    ModelComparator comparator = new ModelComparator(getPlatformInfo(),
-        isDelimitedIdentifierModeOn());
-    List<ModelChange> changes = comparator.compare(currentModel, desiredModel);
+    List<ModelChange> changes = getSqlBuilder().getModelChanges(currentModel, desiredModel);
     prepareDatabaseForAlter(connection, currentModel, desiredModel, changes);
     doAlterTables(connection, currentModel, desiredModel, continueOnError, changes);
   }
@@ -739,22 +878,116 @@ public abstract class PlatformImplBase extends JdbcSupport implements Platform {
   private void doAlterTables(Connection connection, Database currentModel, Database desiredModel,
       boolean continueOnError, List<ModelChange> changes) {
     String sql = null;
+    List<String> tableStructureChanges = null;
+    String sqlAfterTableStructureChanges = null;
 
+    // tables are changed concurrently only if enabled and they can be changed in different
+    // connections
+    boolean concurrent = isConcurrentTableStructureChanges() && getMaxThreads() > 1
+        && batchEvaluator.isDBEvaluator();
+    SqlBuilder sqlBuilder = getSqlBuilder();
     try {
       StringWriter buffer = new StringWriter();
-      getSqlBuilder().setWriter(buffer);
-      getSqlBuilder().alterDatabase(currentModel, desiredModel, null, changes);
+      sqlBuilder.setWriter(buffer);
+      sqlBuilder.setConcurrentTableStructureChanges(concurrent);
+      sqlBuilder.alterDatabase(currentModel, desiredModel, null, changes);
       sql = buffer.toString();
-      if (connection == null) {
-        evaluateBatch(sql, continueOnError);
-      } else {
-        evaluateBatch(connection, sql, continueOnError);
-      }
+      tableStructureChanges = sqlBuilder.getTableStructureChanges();
+      sqlAfterTableStructureChanges = sqlBuilder.getStatementsAfterTableStructureChanges();
     } catch (IOException ex) {
       // won't happen because we're using a string writer
+      return;
+    } finally {
+      sqlBuilder.setConcurrentTableStructureChanges(false);
+    }
+
+    if (connection == null) {
+      evaluateBatch(sql, continueOnError);
+    } else {
+      evaluateBatch(connection, sql, continueOnError);
+    }
+    if (!concurrent) {
+      return;
+    }
+    evaluateTableStructureChanges(connection, tableStructureChanges, continueOnError);
+    if (connection == null) {
+      evaluateBatch(sqlAfterTableStructureChanges, continueOnError);
+    } else {
+      evaluateBatch(connection, sqlAfterTableStructureChanges, continueOnError);
     }
   }
 
+  /**
+   * Executes the statements changing the structure of each table, using a different connection for
+   * each table up to the maximum number of threads.
+   * 
+   * If a statement fails and the execution must not continue, for example because a critical
+   * statement recreating a table failed, the tables not started yet are not changed and the
+   * exception is thrown once the ones being changed are finished.
+   */
+  private void evaluateTableStructureChanges(Connection connection,
+      List<String> tableStructureChanges, boolean continueOnError) {
+    int numOfThreads = Math.min(getMaxThreads(), tableStructureChanges.size());
+    if (numOfThreads <= 1) {
+      for (String tableSql : tableStructureChanges) {
+        if (connection == null) {
+          evaluateBatch(tableSql, continueOnError);
+        } else {
+          evaluateBatch(connection, tableSql, continueOnError);
+        }
+      }
+      return;
+    }
+
+    long t = System.currentTimeMillis();
+    _log.info("Changing the structure of " + tableStructureChanges.size() + " tables using "
+        + numOfThreads + " threads...");
+    AtomicBoolean aborted = new AtomicBoolean(false);
+    ExecutorService executor = Executors.newFixedThreadPool(numOfThreads);
+    List<Future<Integer>> results = new ArrayList<>(tableStructureChanges.size());
+    for (final String tableSql : tableStructureChanges) {
+      results.add(executor.submit(() -> {
+        if (aborted.get()) {
+          // tables not started yet are not changed after a failure
+          return 0;
+        }
+        Connection con = borrowConnection();
+        try {
+          return evaluateBatch(con, tableSql, continueOnError);
+        } catch (RuntimeException e) {
+          aborted.set(true);
+          throw e;
+        } finally {
+          returnConnection(con);
+        }
+      }));
+    }
+    executor.shutdown();
+
+    int errors = 0;
+    RuntimeException failure = null;
+    for (Future<Integer> result : results) {
+      try {
+        errors += result.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new DatabaseOperationException("Interrupted while changing the tables", e);
+      } catch (ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (failure == null) {
+          failure = cause instanceof RuntimeException ? (RuntimeException) cause
+              : new DatabaseOperationException("Error while changing the tables", cause);
+        }
+      }
+    }
+    if (failure != null) {
+      throw failure;
+    }
+    _log.info("Changed the structure of " + tableStructureChanges.size() + " tables "
+        + (errors == 0 ? "successfully" : ("with " + errors + " errors")) + " in "
+        + (System.currentTimeMillis() - t) + " ms");
+  }
+
   /**
    * @deprecated should receive ad
    */
@@ -796,6 +1029,11 @@ public abstract class PlatformImplBase extends JdbcSupport implements Platform {
 
   }
 
+  @Override
+  public List<TableRecreation> getTableRecreations(Database currentModel, Database desiredModel) {
+    return getSqlBuilder().getTableRecreations(currentModel, desiredModel);
+  }
+
   public boolean alterTablesPostScript(Connection connection, Database currentModel,
       Database desiredModel, boolean continueOnError, List<ModelChange> changes, Database fullModel,
       OBDataset ad) throws DatabaseOperationException {
@@ -807,11 +1045,14 @@ public abstract class PlatformImplBase extends JdbcSupport implements Platform {
       StringWriter buffer = new StringWriter();
 
       sqlBuilder.setWriter(buffer);
+      sqlBuilder.setDeferredConstraintValidation(isConcurrentConstraintValidation());
       newIndexes = sqlBuilder.alterDatabasePostScript(currentModel, desiredModel, null, changes,
           fullModel, ad);
       sql = buffer.toString();
     } catch (IOException ex) {
       // won't happen because we're using a string writer
+    } finally {
+      sqlBuilder.setDeferredConstraintValidation(false);
     }
     _ignoreWarns = false;
     int numErrors = evaluateBatch(connection, sql, continueOnError);
@@ -828,6 +1069,7 @@ public abstract class PlatformImplBase extends JdbcSupport implements Platform {
       sql = buffer.toString();
       numErrors += evaluateConcurrentBatch(sql, continueOnError);
     }
+    numErrors += validateConstraints(connection, continueOnError);
 
     if (numErrors > 0) {
       return false;
@@ -876,7 +1118,42 @@ public abstract class PlatformImplBase extends JdbcSupport implements Platform {
   public void alterData(Connection connection, Database model, Vector<Change> changes)
       throws DatabaseOperationException {
     _log.info("Updating Application Dictionary data...");
+    if (!batchEvaluator.isDBEvaluator()) {
+      // not working with actual db -> statements are evaluated one by one
+      alterDataByRow(connection, model, changes);
+      return;
+    }
 
+    // changes are sorted by kind (removals, updates and insertions) and, within each kind, by
+    // table. Consecutive changes of the same kind and table are sent together in batches, so the
+    // order in which the changes are applied to each table is kept.
+    long t = System.currentTimeMillis();
+    DataChangesBatches batches = new DataChangesBatches(connection, model);
+    try {
+      for (List<Change> tableChanges : groupByKindAndTable(changes)) {
+        batches.addTableChanges(tableChanges);
+      }
+      batches.execute();
+    } catch (SQLException ex) {
+      throw new DatabaseOperationException(batches.getErrorMessage(ex), ex);
+    } finally {
+      batches.close();
+    }
+
+    for (Entry<String, DataChangesStats> tableStats : batches.statsByTable.entrySet()) {
+      DataChangesStats stats = tableStats.getValue();
+      _log.info("  " + tableStats.getKey() + ": " + stats.rows[DataChangeKind.DELETE.ordinal()]
+          + " rows removed, " + stats.rows[DataChangeKind.UPDATE.ordinal()] + " updated, "
+          + stats.rows[DataChangeKind.INSERT.ordinal()] + " inserted. Took " + stats.time
+          + " ms");
+    }
+    _log.info("Applied " + changes.size() + " data changes in " + batches.statsByTable.size()
+        + " tables. Took " + (System.currentTimeMillis() - t) + " ms");
+  }
+
+  /** Applies the data changes executing a statement for each changed row */
+  private void alterDataByRow(Connection connection, Database model, Vector<Change> changes)
+      throws DatabaseOperationException {
     // ColumnDataChanges are individual column changes, let's group them per row to update them
     // altogether. Note they're already sorted by row.
     List<ColumnDataChange> rowDataChanges = new ArrayList<>();
@@ -916,6 +1193,351 @@ public abstract class PlatformImplBase extends JdbcSupport implements Platform {
     evaluateBatch(connection, sql, false);
   }
 
+  /**
+   * Splits the data changes in lists of consecutive changes of the same kind and table. Changes
+   * other than row insertions, removals or updates are ignored.
+   */
+  private static List<List<Change>> groupByKindAndTable(List<Change> changes) {
+    List<List<Change>> groups = new ArrayList<>();
+    List<Change> group = null;
+    DataChangeKind groupKind = null;
+    String groupTable = null;
+    for (Change change : changes) {
+      DataChangeKind kind = DataChangeKind.of(change);
+      if (kind == null) {
+        continue;
+      }
+      String tableName = getTableName(change);
+      if (group == null || kind != groupKind || !tableName.equalsIgnoreCase(groupTable)) {
+        group = new ArrayList<>();
+        groups.add(group);
+        groupKind = kind;
+        groupTable = tableName;
+      }
+      group.add(change);
+    }
+    return groups;
+  }
+
+  private static String getTableName(Change change) {
+    if (change instanceof ColumnDataChange) {
+      return ((ColumnDataChange) change).getTablename();
+    } else if (change instanceof AddRowChange) {
+      return ((AddRowChange) change).getTable().getName();
+    }
+    return ((RemoveRowChange) change).getTable().getName();
+  }
+
+  /**
+   * Applies using set based statements, instead of a statement for each row, all the changes of
+   * the same kind in a table: row insertions, removals or column updates. It is invoked for
+   * tables with at least {@link #getSetBasedDataChangesThreshold()} changes of a kind, the
+   * default implementation does not support it.
+   * 
+   * If the changes cannot be applied, none of them must be kept in the database, they are applied
+   * again row by row so the failing row is reported.
+   * 
+   * @param connection
+   *          The connection to the database
+   * @param model
+   *          The database model
+   * @param table
+   *          The changed table
+   * @param changes
+   *          The changes of the table, sorted as they would be applied row by row
+   * @return the number of changed rows or -1 if the changes were not applied
+   */
+  protected int alterTableData(Connection connection, Database model, Table table,
+      List<Change> changes) {
+    return -1;
+  }
+
+  private enum DataChangeKind {
+    DELETE("deleting from"), UPDATE("updating in"), INSERT("inserting into");
+
+    private final String action;
+
+    private DataChangeKind(String action) {
+      this.action = action;
+    }
+
+    private static DataChangeKind of(Change change) {
+      if (change instanceof RemoveRowChange) {
+        return DELETE;
+      } else if (change instanceof ColumnDataChange) {
+        return UPDATE;
+      } else if (change instanceof AddRowChange) {
+        return INSERT;
+      }
+      return null;
+    }
+  }
+
+  /** Rows changed in a table and the time spent changing them */
+  private static class DataChangesStats {
+    private int[] rows = new int[DataChangeKind.values().length];
+    private long time;
+  }
+
+  /** Sets the parameters of a row in a statement */
+  private interface RowParameters {
+    void set(PreparedStatement statement) throws SQLException;
+  }
+
+  /**
+   * Keeps the batch of the changes being applied, which is executed when a change of a different
+   * kind or table is added.
+   */
+  private class DataChangesBatches {
+    private final Connection connection;
+    private final Database model;
+    private final Map<String, DataChangesStats> statsByTable = new LinkedHashMap<>();
+    private DataChangesBatch current;
+
+    private DataChangesBatches(Connection connection, Database model) {
+      this.connection = connection;
+      this.model = model;
+    }
+
+    /**
+     * Adds all the changes of the same kind in a table. They are applied using set based
+     * statements if there are enough of them and the platform supports it.
+     */
+    private void addTableChanges(List<Change> tableChanges)
+        throws SQLException, DatabaseOperationException {
+      Change firstChange = tableChanges.get(0);
+      if (tableChanges.size() >= getSetBasedDataChangesThreshold()) {
+        execute();
+        Table table = model.findTable(getTableName(firstChange));
+        long t = System.currentTimeMillis();
+        int rows = alterTableData(connection, model, table, tableChanges);
+        if (rows >= 0) {
+          DataChangesStats stats = getStats(table);
+          stats.rows[DataChangeKind.of(firstChange).ordinal()] += rows;
+          stats.time += System.currentTimeMillis() - t;
+          return;
+        }
+      }
+
+      // ColumnDataChanges are individual column changes, let's group them per row to update them
+      // altogether. Note they're already sorted by row.
+      List<ColumnDataChange> rowDataChanges = new ArrayList<>();
+      for (Change change : tableChanges) {
+        if (change instanceof ColumnDataChange) {
+          ColumnDataChange updateChange = (ColumnDataChange) change;
+          if (!rowDataChanges.isEmpty()
+              && !updateChange.getPkRow().equals(rowDataChanges.get(0).getPkRow())) {
+            addRowUpdate(rowDataChanges);
+          }
+          rowDataChanges.add(updateChange);
+        } else if (change instanceof AddRowChange) {
+          addRowInsertion(((AddRowChange) change).getRow());
+        } else {
+          addRowDeletion((RemoveRowChange) change);
+        }
+      }
+      addRowUpdate(rowDataChanges);
+    }
+
+    /** Returns the batch where changes of the given kind for a table must be added */
+    private DataChangesBatch getBatch(DataChangeKind kind, Table table) throws SQLException {
+      if (current != null && current.kind == kind
+          && current.table.getName().equalsIgnoreCase(table.getName())) {
+        return current;
+      }
+      execute();
+      current = new DataChangesBatch(connection, kind, table, getStats(table));
+      return current;
+    }
+
+    private DataChangesStats getStats(Table table) {
+      DataChangesStats stats = statsByTable.get(table.getName());
+      if (stats == null) {
+        stats = new DataChangesStats();
+        statsByTable.put(table.getName(), stats);
+      }
+      return stats;
+    }
+
+    /** Adds the update of a row with the given column changes and clears them */
+    private void addRowUpdate(List<ColumnDataChange> changes) throws SQLException {
+      if (changes.isEmpty()) {
+        return;
+      }
+      Table table = model.findTable(changes.get(0).getTablename());
+      DataChangesBatch batch = getBatch(DataChangeKind.UPDATE, table);
+      String sql = getSqlBuilder().getUpdateSql(table,
+          getUpdateParameters(table, changes, batch.date), true);
+      batch.addRow(sql, statement -> setUpdateParameters(statement, table, changes, batch.date));
+      changes.clear();
+    }
+
+    private void addRowInsertion(DynaBean dynaBean)
+        throws SQLException, DatabaseOperationException {
+      SqlDynaClass dynaClass = model.getDynaClassFor(dynaBean);
+      SqlDynaProperty[] properties = getPropertiesForInsertion(model, dynaClass, dynaBean);
+      Column[] autoIncrColumns = getRelevantIdentityColumns(model, dynaClass, dynaBean);
+      if ((properties.length == 0) && (autoIncrColumns.length == 0)) {
+        _log.warn("Cannot insert instances of type " + dynaClass
+            + " because it has no usable properties");
+        return;
+      }
+
+      Table table = model.findTable(dynaClass.getTableName());
+      DataChangesBatch batch = getBatch(DataChangeKind.INSERT, table);
+      if (autoIncrColumns.length > 0) {
+        // the generated values are read after inserting each row, the rows added before are
+        // inserted first to keep their order
+        batch.executePendingRows();
+        insert(connection, model, dynaBean);
+        batch.stats.rows[DataChangeKind.INSERT.ordinal()]++;
+        return;
+      }
+      String sql = createInsertSql(model, dynaClass, properties, null);
+      batch.addRow(sql,
+          statement -> setInsertParameters(statement, table, properties, dynaBean, batch.date));
+    }
+
+    private void addRowDeletion(RemoveRowChange change) throws SQLException {
+      Table table = change.getTable();
+      Column pk = table.getPrimaryKeyColumns()[0];
+      String pkValue = change.getRow().get(pk.getName()).toString();
+      Map<String, Object> pkValues = new HashMap<>();
+      pkValues.put(pk.getName(), pkValue);
+
+      DataChangesBatch batch = getBatch(DataChangeKind.DELETE, table);
+      String sql = getSqlBuilder().getDeleteSql(table, pkValues, true);
+      batch.addRow(sql, statement -> setObject(statement, 1, pkValue, pk));
+    }
+
+    /** Executes the changes pending to be sent to the database */
+    private void execute() throws SQLException {
+      if (current != null) {
+        current.execute();
+        current = null;
+      }
+    }
+
+    private void close() {
+      if (current != null) {
+        current.close();
+      }
+    }
+
+    /**
+     * Returns the message of an error executing the current batch. Some drivers only include the
+     * cause of the error in the next exception.
+     */
+    private String getErrorMessage(SQLException ex) {
+      String message = ex.getMessage();
+      if (ex.getNextException() != null) {
+        message += " " + ex.getNextException().getMessage();
+      }
+      if (current == null) {
+        return "Error while updating the database: " + message;
+      }
+      return "Error while " + current.kind.action + " the database table "
+          + current.table.getName() + ": " + message;
+    }
+  }
+
+  /**
+   * Changes of the same kind in a table which are sent to the database in batches of
+   * {@link #getDataChangesBatchSize()} rows. Rows whose statements differ, like the updates of
+   * different columns, are added to different prepared statements. A batch is executed before
+   * adding a row to a different statement, so rows are changed in the same order they are added.
+   */
+  private class DataChangesBatch {
+    private final Connection connection;
+    private final DataChangeKind kind;
+    private final Table table;
+    private final DataChangesStats stats;
+    private final Timestamp date;
+    private final Map<String, PreparedStatement> statements = new LinkedHashMap<>();
+    private final long start = System.currentTimeMillis();
+    private PreparedStatement pendingStatement;
+    private int pendingRows;
+    private boolean closed;
+
+    private DataChangesBatch(Connection connection, DataChangeKind kind, Table table,
+        DataChangesStats stats) throws SQLException {
+      this.connection = connection;
+      this.kind = kind;
+      this.table = table;
+      this.stats = stats;
+      this.date = getDateStatement(connection);
+      if (kind == DataChangeKind.UPDATE) {
+        beforeUpdate(connection, table);
+      }
+    }
+
+    private void addRow(String sql, RowParameters parameters) throws SQLException {
+      PreparedStatement statement = statements.get(sql);
+      if (statement == null) {
+        if (_log.isDebugEnabled()) {
+          _log.debug("Starting new batch with SQL: " + sql);
+        }
+        statement = connection.prepareStatement(sql);
+        statements.put(sql, statement);
+      }
+      if (statement != pendingStatement) {
+        executePendingRows();
+        pendingStatement = statement;
+      }
+      parameters.set(statement);
+      statement.addBatch();
+      stats.rows[kind.ordinal()]++;
+      pendingRows++;
+      if (pendingRows >= getDataChangesBatchSize()) {
+        executePendingRows();
+      }
+    }
+
+    private void executePendingRows() throws SQLException {
+      if (pendingRows == 0) {
+        return;
+      }
+      int[] counts = pendingStatement.executeBatch();
+      pendingRows = 0;
+      if (kind == DataChangeKind.DELETE) {
+        // as when deleting row by row, missing rows are not reported
+        return;
+      }
+      for (int count : counts) {
+        if (count != 1 && count != Statement.SUCCESS_NO_INFO) {
+          _log.warn("Attempted to change a single row while " + kind.action + " table "
+              + table.getName() + " but changed " + count + " row(s)");
+        }
+      }
+    }
+
+    /** Executes the rows pending to be sent to the database and closes the statements */
+    private void execute() throws SQLException {
+      if (closed) {
+        return;
+      }
+      try {
+        executePendingRows();
+        if (kind == DataChangeKind.UPDATE) {
+          afterUpdate(connection, table);
+        }
+      } finally {
+        close();
+      }
+    }
+
+    private void close() {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      for (PreparedStatement statement : statements.values()) {
+        closeStatement(statement);
+      }
+      stats.time += System.currentTimeMillis() - start;
+    }
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -1306,6 +1928,31 @@ public abstract class PlatformImplBase extends JdbcSupport implements Platform {
     }
   }
 
+  @Override
+  public Statement createStreamingStatement(Connection connection) throws SQLException {
+    Statement statement = connection.createStatement();
+    // some drivers, like PostgreSQL one, only use the fetch size inside a transaction
+    connection.setAutoCommit(false);
+    statement.setFetchSize(getQueryFetchSize());
+    return statement;
+  }
+
+  @Override
+  public void endStreaming(Connection connection, boolean autoCommit) {
+    if (!autoCommit) {
+      // the transaction was already open, it is kept for the caller
+      return;
+    }
+    try {
+      if (!connection.isClosed()) {
+        connection.rollback();
+        connection.setAutoCommit(true);
+      }
+    } catch (SQLException ex) {
+      _log.error("Error ending the transaction used to read rows", ex);
+    }
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -1512,7 +2159,7 @@ public abstract class PlatformImplBase extends JdbcSupport implements Platform {
    *          The bean
    * @return The properties
    */
-  private SqlDynaProperty[] getPropertiesForInsertion(Database model, SqlDynaClass dynaClass,
+  protected SqlDynaProperty[] getPropertiesForInsertion(Database model, SqlDynaClass dynaClass,
       final DynaBean bean) {
     SqlDynaProperty[] properties = dynaClass.getSqlDynaProperties();
 
@@ -1684,33 +2331,7 @@ public abstract class PlatformImplBase extends JdbcSupport implements Platform {
 
       statement = connection.prepareStatement(insertSql);
 
-      int sqlIndex = 1;
-      for (int idx = 0; idx < properties.length; idx++) {
-        if (table.findColumn(properties[idx].getName()) != null) {
-          String propName = properties[idx].getName();
-          Object propValue = dynaBean.get(propName);
-          boolean valuePresent = (propValue != null);
-          // if we have a value in the xml -> just use it
-          if (valuePresent) {
-            setObject(statement, sqlIndex++, dynaBean, properties[idx]); // idx + 1
-            continue;
-          }
-          // if value is missing handle the 4 audit columns specially
-          if (properties[idx].getName().equalsIgnoreCase("UPDATED")
-              || properties[idx].getName().equalsIgnoreCase("CREATED")) {
-            setStatementParameterValue(statement, sqlIndex++,
-                properties[idx].getColumn().getTypeCode(), date);
-          } else if (properties[idx].getName().equalsIgnoreCase("UPDATEDBY")
-              || properties[idx].getName().equalsIgnoreCase("CREATEDBY")) {
-            setStatementParameterValue(statement, sqlIndex++,
-                properties[idx].getColumn().getTypeCode(), "0");
-          } else {
-            setObject(statement, sqlIndex++, dynaBean, properties[idx]); // idx + 1
-          }
-        } else {
-          _log.debug("Rejected column: " + properties[idx].getName());
-        }
-      }
+      setInsertParameters(statement, table, properties, dynaBean, date);
 
       int count = statement.executeUpdate();
 
@@ -1792,6 +2413,41 @@ public abstract class PlatformImplBase extends JdbcSupport implements Platform {
     return new Timestamp(new Date().getTime());
   }
 
+  /**
+   * Sets the parameters of an insert statement built for the given properties. The audit columns
+   * without value in the bean are set with the given date and the System user.
+   */
+  private void setInsertParameters(PreparedStatement statement, Table table,
+      SqlDynaProperty[] properties, DynaBean dynaBean, Timestamp date) throws SQLException {
+    int sqlIndex = 1;
+    for (int idx = 0; idx < properties.length; idx++) {
+      if (table.findColumn(properties[idx].getName()) != null) {
+        String propName = properties[idx].getName();
+        Object propValue = dynaBean.get(propName);
+        boolean valuePresent = (propValue != null);
+        // if we have a value in the xml -> just use it
+        if (valuePresent) {
+          setObject(statement, sqlIndex++, dynaBean, properties[idx]); // idx + 1
+          continue;
+        }
+        // if value is missing handle the 4 audit columns specially
+        if (properties[idx].getName().equalsIgnoreCase("UPDATED")
+            || properties[idx].getName().equalsIgnoreCase("CREATED")) {
+          setStatementParameterValue(statement, sqlIndex++,
+              properties[idx].getColumn().getTypeCode(), date);
+        } else if (properties[idx].getName().equalsIgnoreCase("UPDATEDBY")
+            || properties[idx].getName().equalsIgnoreCase("CREATEDBY")) {
+          setStatementParameterValue(statement, sqlIndex++,
+              properties[idx].getColumn().getTypeCode(), "0");
+        } else {
+          setObject(statement, sqlIndex++, dynaBean, properties[idx]); // idx + 1
+        }
+      } else {
+        _log.debug("Rejected column: " + properties[idx].getName());
+      }
+    }
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -1843,34 +2499,7 @@ public abstract class PlatformImplBase extends JdbcSupport implements Platform {
       try {
         Table table = model.findTable(dynaClass.getTableName());
         Timestamp date = getDateStatement(connection);
-        int sqlIndex = 1;
-        for (int idx = 0; idx < properties.length; idx++) {
-          if (table.findColumn(properties[idx].getName()) != null) {
-            String propName = properties[idx].getName();
-            Object propValue = dynaBean.get(propName);
-            boolean valuePresent = (propValue != null);
-            // if we have a value in the xml -> just use it
-            if (valuePresent) {
-              setObject(statement, sqlIndex++, dynaBean, properties[idx]); // idx + 1
-              continue;
-            }
-            // if value is missing handle the 4 audit columns specially
-            if (properties[idx].getName().equalsIgnoreCase("UPDATED")
-                || properties[idx].getName().equalsIgnoreCase("CREATED")) {
-              setStatementParameterValue(statement, sqlIndex++,
-                  properties[idx].getColumn().getTypeCode(), date);
-            } else if (properties[idx].getName().equalsIgnoreCase("UPDATEDBY")
-                || properties[idx].getName().equalsIgnoreCase("CREATEDBY")) {
-              setStatementParameterValue(statement, sqlIndex++,
-                  properties[idx].getColumn().getTypeCode(), "0");
-            } else {
-              setObject(statement, sqlIndex++, dynaBean, properties[idx]); // idx + 1
-            }
-          } else {
-            _log.debug("Rejected column: " + properties[idx].getName());
-          }
-
-        }
+        setInsertParameters(statement, table, properties, dynaBean, date);
         statement.addBatch();
         addedStmts++;
       } catch (SQLException ex) {
@@ -2051,24 +2680,9 @@ public abstract class PlatformImplBase extends JdbcSupport implements Platform {
       return;
     }
 
-    ColumnDataChange firstChange = changes.get(0);
-    Table table = model.findTable(firstChange.getTablename());
-    String pkColumn = table.getPrimaryKeyColumns()[0].getName();
-    Object pkValue = firstChange.getPkRow();
-
-    Map<String, Object> params = new HashMap<>();
-    params.put(pkColumn, firstChange.getPkRow());
+    Table table = model.findTable(changes.get(0).getTablename());
     Timestamp now = getDateStatement(connection);
-    if (table.findColumn("UPDATED") != null) {
-      params.put("UPDATED", now);
-    }
-    if (table.findColumn("UPDATEDBY") != null) {
-      params.put("UPDATEDBY", "0");
-    }
-
-    for (ColumnDataChange change : changes) {
-      params.put(change.getColumnname(), change.getNewValue());
-    }
+    Map<String, Object> params = getUpdateParameters(table, changes, now);
 
     String sql = getSqlBuilder().getUpdateSql(table, params, batchEvaluator.isDBEvaluator());
     PreparedStatement statement = null;
@@ -2087,30 +2701,7 @@ public abstract class PlatformImplBase extends JdbcSupport implements Platform {
       beforeUpdate(connection, table);
 
       statement = connection.prepareStatement(sql);
-      int sqlIndex = 1;
-      for (Column col : table.getColumns()) {
-        String colName = col.getName();
-        if (colName.equalsIgnoreCase("UPDATED")) {
-          setObject(statement, sqlIndex++, now, col);
-        } else if (colName.equalsIgnoreCase("UPDATEDBY")) {
-          setObject(statement, sqlIndex++, "0", col);
-        } else {
-          for (ColumnDataChange change : changes) {
-            if (!colName.equalsIgnoreCase(change.getColumnname())) {
-              continue;
-            }
-            if (colName.equalsIgnoreCase("CREATEDBY")) {
-              setObject(statement, sqlIndex++, "0", col);
-            } else if (colName.equalsIgnoreCase("CREATED")) {
-              setObject(statement, sqlIndex++, now, col);
-            } else {
-              setObject(statement, sqlIndex++, change.getNewValue(), col);
-            }
-          }
-        }
-      }
-
-      setObject(statement, sqlIndex++, pkValue, table.getPrimaryKeyColumns()[0]);
+      setUpdateParameters(statement, table, changes, now);
       statement.executeUpdate();
 
       afterUpdate(connection, table);
@@ -2123,6 +2714,59 @@ public abstract class PlatformImplBase extends JdbcSupport implements Platform {
     }
   }
 
+  /**
+   * Returns the column values used to build the update of a row: its primary key, the columns
+   * changed in it and the audit columns that are always updated.
+   */
+  private Map<String, Object> getUpdateParameters(Table table, List<ColumnDataChange> changes,
+      Timestamp now) {
+    Map<String, Object> params = new HashMap<>();
+    params.put(table.getPrimaryKeyColumns()[0].getName(), changes.get(0).getPkRow());
+    if (table.findColumn("UPDATED") != null) {
+      params.put("UPDATED", now);
+    }
+    if (table.findColumn("UPDATEDBY") != null) {
+      params.put("UPDATEDBY", "0");
+    }
+
+    for (ColumnDataChange change : changes) {
+      params.put(change.getColumnname(), change.getNewValue());
+    }
+    return params;
+  }
+
+  /**
+   * Sets the parameters of the update of a row built with the values returned by
+   * {@link #getUpdateParameters(Table, List, Timestamp)}.
+   */
+  private void setUpdateParameters(PreparedStatement statement, Table table,
+      List<ColumnDataChange> changes, Timestamp now) throws SQLException {
+    int sqlIndex = 1;
+    for (Column col : table.getColumns()) {
+      String colName = col.getName();
+      if (colName.equalsIgnoreCase("UPDATED")) {
+        setObject(statement, sqlIndex++, now, col);
+      } else if (colName.equalsIgnoreCase("UPDATEDBY")) {
+        setObject(statement, sqlIndex++, "0", col);
+      } else {
+        for (ColumnDataChange change : changes) {
+          if (!colName.equalsIgnoreCase(change.getColumnname())) {
+            continue;
+          }
+          if (colName.equalsIgnoreCase("CREATEDBY")) {
+            setObject(statement, sqlIndex++, "0", col);
+          } else if (colName.equalsIgnoreCase("CREATED")) {
+            setObject(statement, sqlIndex++, now, col);
+          } else {
+            setObject(statement, sqlIndex++, change.getNewValue(), col);
+          }
+        }
+      }
+    }
+
+    setObject(statement, sqlIndex++, changes.get(0).getPkRow(), table.getPrimaryKeyColumns()[0]);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -2514,10 +3158,12 @@ public abstract class PlatformImplBase extends JdbcSupport implements Platform {
       throws DatabaseOperationException {
     _log.info("Enabling Foreign Keys...");
     try {
-      StringWriter buffer = new StringWriter();
-      getSqlBuilder().setWriter(buffer);
+      ForeignKeyCommandGroups fkCommands = new ForeignKeyCommandGroups();
+      getSqlBuilder().setDeferredConstraintValidation(isConcurrentConstraintValidation());
       for (int i = 0; i < model.getTableCount(); i++) {
         Table table = model.getTable(i);
+        StringWriter buffer = new StringWriter();
+        getSqlBuilder().setWriter(buffer);
         for (int j = 0; j < table.getForeignKeyCount(); j++) {
           ForeignKey fk = table.getForeignKey(j);
           String tableReferencedByForeignKey = fk.getForeignTableName();
@@ -2528,8 +3174,12 @@ public abstract class PlatformImplBase extends JdbcSupport implements Platform {
             getSqlBuilder().writeExternalForeignKeyCreateStmt(model, table, fk);
           }
         }
+        addForeignKeyCommands(fkCommands, table, buffer.toString());
       }
-      int numErrors = evaluateBatchRealBatch(connection, buffer.toString(), continueOnError);
+      getSqlBuilder().setDeferredConstraintValidation(false);
+      int numErrors = evaluateConcurrentBatch(connection, fkCommands.getGroups(),
+          continueOnError);
+      numErrors += validateConstraints(connection, continueOnError);
       if (numErrors > 0) {
         return false;
       }
@@ -2537,9 +3187,20 @@ public abstract class PlatformImplBase extends JdbcSupport implements Platform {
     } catch (Exception e) {
       e.printStackTrace();
       throw new DatabaseOperationException("Error while enabling foreign key ", e);
+    } finally {
+      getSqlBuilder().setDeferredConstraintValidation(false);
     }
   }
 
+  /**
+   * Adds the statements in sql, creating FKs of the given table, to the groups to be executed
+   * concurrently
+   */
+  protected void addForeignKeyCommands(ForeignKeyCommandGroups fkCommands, Table table,
+      String sql) {
+    fkCommands.add(table, getCommands(sql));
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -3438,6 +4099,7 @@ public abstract class PlatformImplBase extends JdbcSupport implements Platform {
       StringWriter buffer = new StringWriter();
 
       getSqlBuilder().setWriter(buffer);
+      getSqlBuilder().setDeferredConstraintValidation(isConcurrentConstraintValidation());
       for (int i = 0; i < database.getTableCount(); i++) {
         Table table = database.getTable(i);
         boolean enable = false;
@@ -3462,9 +4124,13 @@ public abstract class PlatformImplBase extends JdbcSupport implements Platform {
           getSqlBuilder().enableAllChecks(table);
         }
       }
+      getSqlBuilder().setDeferredConstraintValidation(false);
       evaluateBatchRealBatch(connection, buffer.toString(), true);
+      validateConstraints(connection, true);
     } catch (Exception e) {
       e.printStackTrace();
+    } finally {
+      getSqlBuilder().setDeferredConstraintValidation(false);
     }
   }
 
@@ -3503,6 +4169,7 @@ public abstract class PlatformImplBase extends JdbcSupport implements Platform {
         // than new column definition, then onCreateDefault should be executed.
         // On install.source ad is null, we execute onCreateDefault always in this case
         boolean isADTable = ad == null || ad.getTable(table.getName()) != null;
+        List<Column> columns = new ArrayList<>();
         for (int j = 0; j < table.getColumnCount(); j++) {
           Column column = table.getColumn(j);
           if (!isADTable && column.isRequired() && column.isSameDefaultAndOCD()) {
@@ -3516,10 +4183,11 @@ public abstract class PlatformImplBase extends JdbcSupport implements Platform {
               && (!database.isDeferredDefault(table, column) || nonLiteralDeferredOnCreateDefault))
               && column.isRequired() && column.getOnCreateDefault() != null) {
             if (validateOnCreateDefault(connection, column.getOnCreateDefault(), table)) {
-              getSqlBuilder().executeOnCreateDefault(table, null, column, false, isADTable);
+              columns.add(column);
             }
           }
         }
+        getSqlBuilder().executeOnCreateDefaults(table, columns, isADTable);
       }
       evaluateBatch(connection, buffer.toString(), true);
     } catch (Exception e) {
@@ -3642,4 +4310,73 @@ public abstract class PlatformImplBase extends JdbcSupport implements Platform {
     }
     return maxThreads;
   }
+
+  @Override
+  public void setSetBasedDataChangesThreshold(int threshold) {
+    setBasedDataChangesThreshold = threshold;
+  }
+
+  @Override
+  public int getSetBasedDataChangesThreshold() {
+    if (setBasedDataChangesThreshold < 1) {
+      setBasedDataChangesThreshold = DEFAULT_SET_BASED_DATA_CHANGES_THRESHOLD;
+    }
+    return setBasedDataChangesThreshold;
+  }
+
+  @Override
+  public void setConcurrentConstraintValidation(boolean concurrentConstraintValidation) {
+    this.concurrentConstraintValidation = concurrentConstraintValidation;
+  }
+
+  @Override
+  public boolean isConcurrentConstraintValidation() {
+    return concurrentConstraintValidation;
+  }
+
+  @Override
+  public void setCombinedOnCreateDefaults(boolean combinedOnCreateDefaults) {
+    this.combinedOnCreateDefaults = combinedOnCreateDefaults;
+  }
+
+  @Override
+  public boolean isCombinedOnCreateDefaults() {
+    return combinedOnCreateDefaults;
+  }
+
+  @Override
+  public void setConcurrentTableStructureChanges(boolean concurrentTableStructureChanges) {
+    this.concurrentTableStructureChanges = concurrentTableStructureChanges;
+  }
+
+  @Override
+  public boolean isConcurrentTableStructureChanges() {
+    return concurrentTableStructureChanges;
+  }
+
+  @Override
+  public void setDataChangesBatchSize(int batchSize) {
+    dataChangesBatchSize = batchSize;
+  }
+
+  @Override
+  public int getDataChangesBatchSize() {
+    if (dataChangesBatchSize < 1) {
+      dataChangesBatchSize = DEFAULT_DATA_CHANGES_BATCH_SIZE;
+    }
+    return dataChangesBatchSize;
+  }
+
+  @Override
+  public void setQueryFetchSize(int fetchSize) {
+    queryFetchSize = fetchSize;
+  }
+
+  @Override
+  public int getQueryFetchSize() {
+    if (queryFetchSize < 1) {
+      queryFetchSize = DEFAULT_QUERY_FETCH_SIZE;
+    }
+    return queryFetchSize;
+  }
 }
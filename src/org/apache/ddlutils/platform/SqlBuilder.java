@@ -20,6 +20,7 @@ package org.apache.ddlutils.platform;
  */
 
 import java.io.IOException;
+import java.io.StringWriter;
 import java.io.Writer;
 import java.lang.reflect.Method;
 import java.rmi.server.UID;
@@ -32,7 +33,9 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -75,7 +78,7 @@ import org.apache.ddlutils.alteration.ColumnRequiredChange;
 import org.apache.ddlutils.alteration.ColumnSizeChange;
 import org.apache.ddlutils.alteration.ContainsSearchIndexInformationChange;
 import org.apache.ddlutils.alteration.ModelChange;
-import org.apache.ddlutils.alteration.ModelComparator;
+import org.apache.ddlutils.alteration.ModelChangeSet;
 import org.apache.ddlutils.alteration.PartialIndexInformationChange;
 import org.apache.ddlutils.alteration.PrimaryKeyChange;
 import org.apache.ddlutils.alteration.RemoveCheckChange;
@@ -178,6 +181,13 @@ public abstract class SqlBuilder {
   protected ArrayList<String> recreatedFKs = new ArrayList<String>();
   protected ArrayList<String> recreatedPKs = new ArrayList<String>();
   private List<String> droppedFKs = new ArrayList<String>();
+  private boolean deferredConstraintValidation = false;
+  private Map<String, List<ConstraintValidation>> constraintValidations = new LinkedHashMap<>();
+  private ModelChangeSet modelChangeSet;
+  private boolean concurrentTableStructureChanges = false;
+  private Writer sharedStatementsWriter;
+  private List<String> tableStructureChanges = new ArrayList<String>();
+  private StringWriter statementsAfterTableStructureChanges;
 
   private String forcedRecreation = "";
 
@@ -528,15 +538,8 @@ public abstract class SqlBuilder {
       createFunction(database.getFunction(idx));
     }
 
-    // Write the views
-    for (int idx = 0; idx < database.getViewCount(); idx++) {
-      createView(database.getView(idx));
-    }
-
-    // Write the materialized views
-    for (MaterializedView materializedView : database.getMaterializedViews()) {
-      createMaterializedView(materializedView);
-    }
+    // Write the views and materialized views
+    createViews(database);
 
     // Write the triggers
     for (int idx = 0; idx < database.getTriggerCount(); idx++) {
@@ -562,9 +565,7 @@ public abstract class SqlBuilder {
   public void alterDatabase(Database currentModel, Database desiredModel, CreationParameters params)
       throws IOException {
 
-    ModelComparator comparator = new ModelComparator(getPlatformInfo(),
-        getPlatform().isDelimitedIdentifierModeOn());
-    List<ModelChange> changes = comparator.compare(currentModel, desiredModel);
+    List<ModelChange> changes = getModelChanges(currentModel, desiredModel);
 
     alterDatabase(currentModel, desiredModel, params, changes);
   }
@@ -587,9 +588,7 @@ public abstract class SqlBuilder {
    */
   public void prepareDatabaseForAlter(Database currentModel, Database desiredModel,
       CreationParameters params) throws IOException {
-    ModelComparator comparator = new ModelComparator(getPlatformInfo(),
-        getPlatform().isDelimitedIdentifierModeOn());
-    List<ModelChange> changes = comparator.compare(currentModel, desiredModel);
+    List<ModelChange> changes = getModelChanges(currentModel, desiredModel);
     prepareDatabaseForAlter(currentModel, desiredModel, params, changes);
   }
 
@@ -632,6 +631,31 @@ public abstract class SqlBuilder {
       desiredModel.getTrigger(i).setTranslation(_PLSQLTriggerTranslation);
     }
     processChanges(currentModel, desiredModel, changes, params, false);
+    // the current model has been modified
+    invalidateModelChanges();
+  }
+
+  /**
+   * Returns the changes needed to transform the current model into the desired one. The changes of
+   * the last pair of models are kept, so the different phases altering the same models share them.
+   * See {@link ModelChangeSet}.
+   */
+  public List<ModelChange> getModelChanges(Database currentModel, Database desiredModel) {
+    if (modelChangeSet == null || !modelChangeSet.isFor(currentModel, desiredModel)) {
+      modelChangeSet = new ModelChangeSet(getPlatformInfo(),
+          getPlatform().isDelimitedIdentifierModeOn(), currentModel, desiredModel);
+    }
+    return modelChangeSet.getChanges();
+  }
+
+  /**
+   * Discards the changes kept by {@link #getModelChanges(Database, Database)}. It must be invoked
+   * when the models are modified, so they are compared again.
+   */
+  public void invalidateModelChanges() {
+    if (modelChangeSet != null) {
+      modelChangeSet.invalidate();
+    }
   }
 
   public void alterData(Database model, Vector<Change> changes) throws IOException {
@@ -750,9 +774,7 @@ public abstract class SqlBuilder {
   public List alterDatabaseRecreatePKs(Database currentModel, Database desiredModel,
       CreationParameters params) throws IOException {
 
-    ModelComparator comparator = new ModelComparator(getPlatformInfo(),
-        getPlatform().isDelimitedIdentifierModeOn());
-    List changes = comparator.compare(currentModel, desiredModel);
+    List changes = getModelChanges(currentModel, desiredModel);
     Predicate predicate = new MultiInstanceofPredicate(new Class[] { RemovePrimaryKeyChange.class,
         AddPrimaryKeyChange.class, PrimaryKeyChange.class, RemoveColumnChange.class,
         AddColumnChange.class, ColumnOrderChange.class, ColumnAutoIncrementChange.class,
@@ -834,11 +856,13 @@ public abstract class SqlBuilder {
       }
       recreated = willBeRecreated(currentTable, changesOfTable);
 
+      Table changedTable = null;
+      List<Column> onCreateDefaultColumns = new ArrayList<Column>();
       for (int j = 0; j < newColumns.size(); j++) {
         AddColumnChange change = newColumns.get(j);
         Table table = change.getChangedTable();
         if (table.getName().equalsIgnoreCase(currentTable.getName())) {
-          Table tempTable = getTemporaryTableFor(desiredModel, change.getChangedTable());
+          changedTable = table;
           Column changedNewColumn = change.getNewColumn();
 
           boolean isADTable = ad == null || ad.getTable(table.getName()) != null;
@@ -846,12 +870,15 @@ public abstract class SqlBuilder {
           if (changedNewColumn.getOnCreateDefault() != null
               && (isADTable || !desiredModel.isDeferredDefault(table, changedNewColumn))
               && (!changedNewColumn.isRequired() || !changedNewColumn.isSameDefaultAndOCD())) {
-            executeOnCreateDefault(table, tempTable, change.getNewColumn(), recreated, true);
+            onCreateDefaultColumns.add(changedNewColumn);
           }
           writeColumnCommentStmt(currentModel, change.getChangedTable(), change.getNewColumn(),
               true);
         }
       }
+      if (!onCreateDefaultColumns.isEmpty()) {
+        executeOnCreateDefaults(changedTable, onCreateDefaultColumns, true);
+      }
       if (recreated) {
         recreatedTables.add(currentTable.getName());
         if (newColumn) {
@@ -888,13 +915,7 @@ public abstract class SqlBuilder {
       }
     }
 
-    for (int i = 0; i < desiredModel.getViewCount(); i++) {
-      createView(desiredModel.getView(i));
-    }
-
-    for (MaterializedView materializedView : desiredModel.getMaterializedViews()) {
-      createMaterializedView(materializedView);
-    }
+    createViews(desiredModel);
 
     // We will now recreate the unchanged foreign keys
     ListOrderedMap changesPerTable = new ListOrderedMap();
@@ -954,6 +975,8 @@ public abstract class SqlBuilder {
         processChange(currentModel, desiredModel, params, ((AddCheckChange) change));
       }
     }
+    // the current model has been modified
+    invalidateModelChanges();
 
     return newIndexes;
   }
@@ -994,6 +1017,77 @@ public abstract class SqlBuilder {
     }
   }
 
+  /**
+   * Sets the onCreateDefault values of the given columns of a table. If combined onCreateDefaults
+   * are enabled and supported by the platform, the values of all the columns are set with a single
+   * statement, so the table is updated only once. This is not done if the onCreateDefault of a
+   * column references any of the other columns, as it would not see their new values.
+   * 
+   * @param onlyForNullRows
+   *          whether only the rows with a null value in the column are updated
+   */
+  public void executeOnCreateDefaults(Table table, List<Column> columns, boolean onlyForNullRows)
+      throws IOException {
+    List<Column> columnsWithDefault = new ArrayList<Column>();
+    Set<String> columnNames = new HashSet<String>();
+    for (Column column : columns) {
+      if (StringUtils.isNotEmpty(column.getOnCreateDefault())) {
+        columnsWithDefault.add(column);
+        columnNames.add(column.getName().toUpperCase());
+      }
+    }
+
+    boolean combined = columnsWithDefault.size() > 1 && isCombinedOnCreateDefaultsSupported()
+        && getPlatform().isCombinedOnCreateDefaults();
+    for (int i = 0; i < columnsWithDefault.size() && combined; i++) {
+      Set<String> identifiers = ViewDependencies
+          .getIdentifiers(columnsWithDefault.get(i).getOnCreateDefault());
+      identifiers.remove(columnsWithDefault.get(i).getName().toUpperCase());
+      identifiers.retainAll(columnNames);
+      combined = identifiers.isEmpty();
+    }
+
+    if (!combined) {
+      for (Column column : columnsWithDefault) {
+        executeOnCreateDefault(table, null, column, false, onlyForNullRows);
+      }
+      return;
+    }
+
+    print("UPDATE " + table.getName() + " SET ");
+    for (int i = 0; i < columnsWithDefault.size(); i++) {
+      Column column = columnsWithDefault.get(i);
+      if (i > 0) {
+        print(", ");
+      }
+      if (onlyForNullRows) {
+        print(column.getName() + "=CASE WHEN " + column.getName() + " IS NULL THEN ("
+            + column.getOnCreateDefault() + ") ELSE " + column.getName() + " END");
+      } else {
+        print(column.getName() + "=(" + column.getOnCreateDefault() + ")");
+      }
+    }
+    if (onlyForNullRows) {
+      print(" WHERE ");
+      for (int i = 0; i < columnsWithDefault.size(); i++) {
+        if (i > 0) {
+          print(" OR ");
+        }
+        print(columnsWithDefault.get(i).getName() + " IS NULL");
+      }
+    }
+    println();
+    printEndOfStatement();
+  }
+
+  /**
+   * Whether the onCreateDefault values of several columns can be set in a single statement, see
+   * {@link #executeOnCreateDefaults(Table, List, boolean)}.
+   */
+  protected boolean isCombinedOnCreateDefaultsSupported() {
+    return false;
+  }
+
   public void executeOnCreateDefault(Table table, Table tempTable, Column col, boolean recreated,
       boolean onlyForNullRows) throws IOException {
     String pk = "";
@@ -1151,6 +1245,13 @@ public abstract class SqlBuilder {
         CollectionUtils.select(changes, predicate),
         CollectionUtils.select(changes, predicatetriggers));
 
+    if (concurrentTableStructureChanges) {
+      // the rest of statements can depend on the changed tables, so they are kept apart to be
+      // executed once all of them have been changed
+      statementsAfterTableStructureChanges = new StringWriter();
+      setWriter(statementsAfterTableStructureChanges);
+    }
+
     // 4th pass: adding tables
     applyForSelectedChanges(changes, new Class[] { AddTableChange.class }, callbackClosure);
 
@@ -1167,7 +1268,19 @@ public abstract class SqlBuilder {
 
     applyForSelectedChanges(changes, new Class[] { AddFunctionChange.class }, callbackClosure);
 
-    applyForSelectedChanges(changes, new Class[] { AddViewChange.class }, callbackClosure);
+    // views are created after the ones they depend on
+    List<View> newViews = new ArrayList<View>();
+    Map<View, AddViewChange> viewChanges = new IdentityHashMap<View, AddViewChange>();
+    for (ModelChange change : changes) {
+      if (change instanceof AddViewChange) {
+        newViews.add(((AddViewChange) change).getNewView());
+        viewChanges.put(((AddViewChange) change).getNewView(), (AddViewChange) change);
+      }
+    }
+    for (View view : ViewDependencies.sort(newViews)) {
+      callbackClosure.execute(viewChanges.get(view));
+    }
+    changes.removeIf(change -> change instanceof AddViewChange);
 
     applyForSelectedChanges(changes, new Class[] { AddTriggerChange.class }, callbackClosure);
 
@@ -1775,9 +1888,29 @@ public abstract class SqlBuilder {
       Map.Entry entry = (Map.Entry) tableChangeIt.next();
       Table targetTable = desiredModel.findTable((String) entry.getKey(), caseSensitive);
 
-      processTableStructureChanges(copyOfCurrentModel, desiredModel, (String) entry.getKey(),
-          params == null ? null : params.getParametersFor(targetTable), (List) entry.getValue(),
-          unchangedTriggers);
+      if (!concurrentTableStructureChanges) {
+        processTableStructureChanges(copyOfCurrentModel, desiredModel, (String) entry.getKey(),
+            params == null ? null : params.getParametersFor(targetTable), (List) entry.getValue(),
+            unchangedTriggers);
+        continue;
+      }
+
+      // the statements of each table are kept apart, except the ones affecting other tables which
+      // are written before all of them
+      sharedStatementsWriter = getWriter();
+      StringWriter tableWriter = new StringWriter();
+      setWriter(tableWriter);
+      try {
+        processTableStructureChanges(copyOfCurrentModel, desiredModel, (String) entry.getKey(),
+            params == null ? null : params.getParametersFor(targetTable), (List) entry.getValue(),
+            unchangedTriggers);
+      } finally {
+        setWriter(sharedStatementsWriter);
+        sharedStatementsWriter = null;
+      }
+      if (tableWriter.getBuffer().length() > 0) {
+        tableStructureChanges.add(tableWriter.toString());
+      }
     }
   }
 
@@ -1892,7 +2025,12 @@ public abstract class SqlBuilder {
     // there are changes that cannot be processed without table recreation, let's recreate the
     // whole table
 
-    // drop FKs to recreated table
+    // drop FKs to recreated table, they lock other tables so they are written apart when the
+    // tables are changed concurrently
+    Writer tableWriter = getWriter();
+    if (sharedStatementsWriter != null) {
+      setWriter(sharedStatementsWriter);
+    }
     int numTablesInOldModel = currentModel.getTableCount();
     for (int i = 0; i < numTablesInOldModel; i++) {
       Table oldTable = currentModel.getTable(i);
@@ -1913,6 +2051,7 @@ public abstract class SqlBuilder {
         droppedFKs.add(oldFk.getName());
       }
     }
+    setWriter(tableWriter);
 
     // read unchanged triggers
     List<Trigger> triggers = new ArrayList<Trigger>();
@@ -3933,10 +4072,75 @@ public abstract class SqlBuilder {
       print(")");
       writeForeignKeyOnUpdateOption(key);
       writeForeignKeyOnDeleteOption(key);
+      writeConstraintValidationOption(table, getForeignKeyName(table, key));
       printEndOfStatement();
     }
   }
 
+  /**
+   * Writes the option to create a foreign key or check constraint without validating the existing
+   * rows, if deferred constraint validation is enabled and the platform supports it. In that case
+   * the constraint validation must be added with
+   * {@link #addConstraintValidation(Table, ConstraintValidation)}.
+   * 
+   * @param table
+   *          The table of the constraint
+   * @param constraintName
+   *          The name of the constraint
+   */
+  protected void writeConstraintValidationOption(Table table, String constraintName)
+      throws IOException {
+  }
+
+  /**
+   * Keeps the validation of a constraint created without validating the existing rows, to be
+   * executed afterwards.
+   */
+  protected void addConstraintValidation(Table table, ConstraintValidation validation) {
+    String tableName = table.getName().toUpperCase();
+    List<ConstraintValidation> validations = constraintValidations.get(tableName);
+    if (validations == null) {
+      validations = new ArrayList<ConstraintValidation>();
+      constraintValidations.put(tableName, validations);
+    }
+    validations.add(validation);
+  }
+
+  /**
+   * Returns the validations of the constraints created without validating the existing rows since
+   * the last invocation, grouped by table.
+   */
+  public List<List<ConstraintValidation>> getConstraintValidations() {
+    List<List<ConstraintValidation>> validations = new ArrayList<List<ConstraintValidation>>(
+        constraintValidations.values());
+    constraintValidations.clear();
+    return validations;
+  }
+
+  /**
+   * Returns the statements changing the structure of each table, including their recreation,
+   * written apart since the last invocation because concurrent table structure changes are
+   * enabled. The statements of each table are independent from the rest of tables.
+   */
+  public List<String> getTableStructureChanges() {
+    List<String> changes = tableStructureChanges;
+    tableStructureChanges = new ArrayList<String>();
+    return changes;
+  }
+
+  /**
+   * Returns the statements written after the table structure changes when concurrent table
+   * structure changes are enabled, which must be executed once all the tables have been changed.
+   */
+  public String getStatementsAfterTableStructureChanges() {
+    if (statementsAfterTableStructureChanges == null) {
+      return "";
+    }
+    String sql = statementsAfterTableStructureChanges.toString();
+    statementsAfterTableStructureChanges = null;
+    return sql;
+  }
+
   /**
    * Writes the On Update option of the given foreign key.
    * 
@@ -4054,6 +4258,7 @@ public abstract class SqlBuilder {
         print(" CHECK (");
         print(check.getCondition());
         print(")");
+        writeConstraintValidationOption(table, getConstraintObjectName(check));
 
         printEndOfStatement();
       }
@@ -4171,6 +4376,26 @@ public abstract class SqlBuilder {
     }
   }
 
+  /**
+   * Writes the views and materialized views of the model, each one after the views it depends on
+   * so they can be created in a single pass.
+   * 
+   * @param database
+   *          The database model
+   */
+  protected void createViews(Database database) throws IOException {
+    List<StructureObject> views = new ArrayList<StructureObject>();
+    views.addAll(Arrays.asList(database.getViews()));
+    views.addAll(database.getMaterializedViews());
+    for (StructureObject view : ViewDependencies.sort(views)) {
+      if (view instanceof MaterializedView) {
+        createMaterializedView((MaterializedView) view);
+      } else {
+        createView((View) view);
+      }
+    }
+  }
+
   /**
    * Writes the given view .
    * 
@@ -4917,23 +5142,83 @@ public abstract class SqlBuilder {
     return requiresRecreation(table, changes, false);
   }
 
+  /**
+   * Returns the tables that would be recreated to transform the current model into the desired one,
+   * with the reasons why their changes cannot be applied to the existing tables. Neither the models
+   * nor the database are modified, so it can be used to check the impact of an update before
+   * executing it.
+   */
+  public List<TableRecreation> getTableRecreations(Database currentModel, Database desiredModel) {
+    boolean caseSensitive = getPlatform().isDelimitedIdentifierModeOn();
+    Map<String, List<TableChange>> changesPerTable = new LinkedHashMap<>();
+    Predicate predicate = new MultiInstanceofPredicate(new Class[] { RemovePrimaryKeyChange.class,
+        AddPrimaryKeyChange.class, PrimaryKeyChange.class, RemoveColumnChange.class,
+        AddColumnChange.class, ColumnOrderChange.class, ColumnAutoIncrementChange.class,
+        ColumnDefaultValueChange.class, ColumnOnCreateDefaultValueChange.class,
+        ColumnRequiredChange.class, ColumnDataTypeChange.class, ColumnSizeChange.class });
+    for (ModelChange change : getModelChanges(currentModel, desiredModel)) {
+      if (!predicate.evaluate(change)) {
+        continue;
+      }
+      String name = ((TableChange) change).getChangedTable().getName();
+      if (!caseSensitive) {
+        name = name.toUpperCase();
+      }
+      List<TableChange> tableChanges = changesPerTable.get(name);
+      if (tableChanges == null) {
+        tableChanges = new ArrayList<>();
+        changesPerTable.put(name, tableChanges);
+      }
+      tableChanges.add((TableChange) change);
+    }
+
+    List<TableRecreation> recreations = new ArrayList<>();
+    for (Map.Entry<String, List<TableChange>> entry : changesPerTable.entrySet()) {
+      Table table = desiredModel.findTable(entry.getKey(), caseSensitive);
+      if (table == null) {
+        continue;
+      }
+      List<String> reasons = getRecreationReasons(table, entry.getValue());
+      if (!reasons.isEmpty()) {
+        recreations.add(new TableRecreation(table.getName(), reasons));
+      }
+    }
+    return recreations;
+  }
+
   /** Checks whether table requires recreation base on the changes that require */
   private boolean requiresRecreation(Table table, List<TableChange> changes,
       boolean logRecreation) {
+    List<String> reasons = getRecreationReasons(table, changes);
+    if (logRecreation && !reasons.isEmpty()) {
+      if (isRecreationForced(table)) {
+        _log.info(
+            "Table " + table.getName() + " will be recreated because it is forced by parameter");
+      } else {
+        _log.info("Table " + table.getName() + " will be recreated because of these changes");
+        for (String reason : reasons) {
+          _log.info("       " + reason);
+        }
+      }
+    }
+    return !reasons.isEmpty();
+  }
+
+  /**
+   * Returns the descriptions of the changes that cannot be applied to the existing table, or an
+   * empty list if the table does not need to be recreated.
+   */
+  private List<String> getRecreationReasons(Table table, List<TableChange> changes) {
+    List<String> reasons = new ArrayList<String>();
     if (changes == null || changes.isEmpty()) {
-      return false;
+      return reasons;
     }
 
     if (isRecreationForced(table)) {
-      if (logRecreation) {
-        _log.info(
-            "Table " + table.getName() + " will be recreated because it is forced by parameter");
-      }
-      return true;
+      reasons.add("Recreation forced by parameter");
+      return reasons;
     }
 
-    boolean recreationRequired = false;
-    List<TableChange> unsupportedChanges = new ArrayList<TableChange>();
     for (TableChange change : changes) {
       boolean changeRequiresRecreation = true;
       Method m = null;
@@ -4950,19 +5235,10 @@ public abstract class SqlBuilder {
         changeRequiresRecreation = requiresRecreation(change);
       }
       if (changeRequiresRecreation) {
-        recreationRequired = true;
-        unsupportedChanges.add(change);
-      }
-    }
-
-    if (logRecreation && recreationRequired) {
-      _log.info("Table " + table.getName() + " will be recreated because of these changes");
-      for (Object recChange : unsupportedChanges) {
-        _log.info("       " + recChange);
+        reasons.add(String.valueOf(change));
       }
     }
-
-    return recreationRequired;
+    return reasons;
   }
 
   private boolean isRecreationForced(Table table) {
@@ -5277,4 +5553,29 @@ public abstract class SqlBuilder {
   public void setForcedRecreation(String forcedRecreation) {
     this.forcedRecreation = forcedRecreation;
   }
+
+  /**
+   * Whether foreign keys and check constraints are created without validating the existing rows,
+   * keeping the statements to validate them afterwards. See
+   * {@link #getConstraintValidations()}.
+   */
+  public boolean isDeferredConstraintValidation() {
+    return deferredConstraintValidation;
+  }
+
+  public void setDeferredConstraintValidation(boolean deferredConstraintValidation) {
+    this.deferredConstraintValidation = deferredConstraintValidation;
+  }
+
+  /**
+   * Whether the statements changing the structure of each table are written apart, so tables can
+   * be changed concurrently. See {@link #getTableStructureChanges()}.
+   */
+  public boolean isConcurrentTableStructureChanges() {
+    return concurrentTableStructureChanges;
+  }
+
+  public void setConcurrentTableStructureChanges(boolean concurrentTableStructureChanges) {
+    this.concurrentTableStructureChanges = concurrentTableStructureChanges;
+  }
 }
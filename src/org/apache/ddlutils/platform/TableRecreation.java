@@ -0,0 +1,43 @@
+/*
+ ************************************************************************************
+ * Copyright (C) 2026 Openbravo S.L.U.
+ * Licensed under the Apache Software License version 2.0
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to  in writing,  software  distributed
+ * under the License is distributed  on  an  "AS IS"  BASIS,  WITHOUT  WARRANTIES  OR
+ * CONDITIONS OF ANY KIND, either  express  or  implied.  See  the  License  for  the
+ * specific language governing permissions and limitations under the License.
+ ************************************************************************************
+ */
+
+package org.apache.ddlutils.platform;
+
+import java.util.List;
+
+/**
+ * A table that would be recreated to apply the changes of its structure, together with the
+ * reasons why these changes cannot be applied to the existing table.
+ */
+public class TableRecreation {
+  private final String tableName;
+  private final List<String> reasons;
+
+  public TableRecreation(String tableName, List<String> reasons) {
+    this.tableName = tableName;
+    this.reasons = reasons;
+  }
+
+  public String getTableName() {
+    return tableName;
+  }
+
+  /** Descriptions of the changes that require to recreate the table */
+  public List<String> getReasons() {
+    return reasons;
+  }
+
+  @Override
+  public String toString() {
+    return tableName + ": " + reasons;
+  }
+}
@@ -0,0 +1,168 @@
+/*
+ ************************************************************************************
+ * Copyright (C) 2026 Openbravo S.L.U.
+ * Licensed under the Apache Software License version 2.0
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to  in writing,  software  distributed
+ * under the License is distributed  on  an  "AS IS"  BASIS,  WITHOUT  WARRANTIES  OR
+ * CONDITIONS OF ANY KIND, either  express  or  implied.  See  the  License  for  the
+ * specific language governing permissions and limitations under the License.
+ ************************************************************************************
+ */
+
+package org.apache.ddlutils.platform;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import org.apache.ddlutils.model.MaterializedView;
+import org.apache.ddlutils.model.StructureObject;
+import org.apache.ddlutils.model.View;
+
+/**
+ * Sorts views and materialized views so each one is created after the views it depends on. The
+ * dependencies are obtained from the names of other views referenced in their statements.
+ *
+ * Views are kept in their original order unless a dependency requires to move them. Views that
+ * are part of a dependency cycle, which cannot be created anyway, are placed at the end in their
+ * original order.
+ */
+public class ViewDependencies {
+
+  private ViewDependencies() {
+  }
+
+  /**
+   * Returns the given views and materialized views sorted by their dependencies.
+   */
+  public static <T extends StructureObject> List<T> sort(Collection<T> views) {
+    List<T> sorted = new ArrayList<>(views.size());
+    if (views.size() < 2) {
+      sorted.addAll(views);
+      return sorted;
+    }
+
+    List<T> viewList = new ArrayList<>(views);
+    Map<String, Integer> positions = new HashMap<>();
+    for (int i = 0; i < viewList.size(); i++) {
+      String name = viewList.get(i).getName();
+      if (name != null) {
+        positions.putIfAbsent(name.toUpperCase(), i);
+      }
+    }
+
+    // number of views each view depends on and views depending on each view
+    int[] pendingDependencies = new int[viewList.size()];
+    List<List<Integer>> dependants = new ArrayList<>(viewList.size());
+    for (int i = 0; i < viewList.size(); i++) {
+      dependants.add(new ArrayList<Integer>());
+    }
+    for (int i = 0; i < viewList.size(); i++) {
+      for (String identifier : getIdentifiers(getStatement(viewList.get(i)))) {
+        Integer dependency = positions.get(identifier);
+        if (dependency != null && dependency != i) {
+          pendingDependencies[i]++;
+          dependants.get(dependency).add(i);
+        }
+      }
+    }
+
+    PriorityQueue<Integer> ready = new PriorityQueue<>();
+    for (int i = 0; i < viewList.size(); i++) {
+      if (pendingDependencies[i] == 0) {
+        ready.add(i);
+      }
+    }
+    boolean[] added = new boolean[viewList.size()];
+    while (!ready.isEmpty()) {
+      int i = ready.poll();
+      added[i] = true;
+      sorted.add(viewList.get(i));
+      for (int dependant : dependants.get(i)) {
+        if (--pendingDependencies[dependant] == 0) {
+          ready.add(dependant);
+        }
+      }
+    }
+
+    for (int i = 0; i < viewList.size(); i++) {
+      if (!added[i]) {
+        sorted.add(viewList.get(i));
+      }
+    }
+    return sorted;
+  }
+
+  private static String getStatement(StructureObject view) {
+    if (view instanceof View) {
+      return ((View) view).getStatement();
+    } else if (view instanceof MaterializedView) {
+      return ((MaterializedView) view).getStatement();
+    }
+    return null;
+  }
+
+  /**
+   * Returns in upper case the identifiers of a SQL statement, both quoted and unquoted ones, skipping
+   * string literals and comments.
+   */
+  static Set<String> getIdentifiers(String sql) {
+    Set<String> identifiers = new HashSet<>();
+    if (sql == null) {
+      return identifiers;
+    }
+    int length = sql.length();
+    int pos = 0;
+    while (pos < length) {
+      char c = sql.charAt(pos);
+      if (c == '\'') {
+        pos = skipQuoted(sql, pos, '\'');
+      } else if (c == '"') {
+        int end = skipQuoted(sql, pos, '"');
+        identifiers.add(sql.substring(pos + 1, Math.max(pos + 1, end - 1)).toUpperCase());
+        pos = end;
+      } else if (c == '-' && pos + 1 < length && sql.charAt(pos + 1) == '-') {
+        int end = sql.indexOf('\n', pos);
+        pos = end == -1 ? length : end + 1;
+      } else if (c == '/' && pos + 1 < length && sql.charAt(pos + 1) == '*') {
+        int end = sql.indexOf("*/", pos + 2);
+        pos = end == -1 ? length : end + 2;
+      } else if (isIdentifierPart(c)) {
+        int start = pos;
+        while (pos < length && isIdentifierPart(sql.charAt(pos))) {
+          pos++;
+        }
+        identifiers.add(sql.substring(start, pos).toUpperCase());
+      } else {
+        pos++;
+      }
+    }
+    return identifiers;
+  }
+
+  /** Returns the position after the closing quote, quotes are escaped by doubling them */
+  private static int skipQuoted(String sql, int start, char quote) {
+    int pos = start + 1;
+    while (pos < sql.length()) {
+      if (sql.charAt(pos) == quote) {
+        if (pos + 1 < sql.length() && sql.charAt(pos + 1) == quote) {
+          pos += 2;
+          continue;
+        }
+        return pos + 1;
+      }
+      pos++;
+    }
+    return sql.length();
+  }
+
+  private static boolean isIdentifierPart(char c) {
+    return Character.isLetterOrDigit(c) || c == '_' || c == '$' || c == '#';
+  }
+}
@@ -390,6 +390,7 @@ public class OraclePlatform extends PlatformImplBase {
       Database fullDatabase) {
     List<StructureObject> inconsistentObjects = new ArrayList<>();
     PostgrePLSQLStandarization.generateOutPatterns(fullDatabase);
+    PostgrePLSQLStandarization rules = new PostgrePLSQLStandarization(fullDatabase);
     PostgrePLSQLFunctionTranslation funcTrans = new PostgrePLSQLFunctionTranslation(fullDatabase);
     for (int i = 0; i < database.getFunctionCount(); i++) {
       int indF = -1;
@@ -400,8 +401,8 @@ public class OraclePlatform extends PlatformImplBase {
           break;
         }
       }
-      PostgrePLSQLFunctionStandarization funcStand = new PostgrePLSQLFunctionStandarization(
-          fullDatabase, indF);
+      PostgrePLSQLFunctionStandarization funcStand = new PostgrePLSQLFunctionStandarization(rules,
+          fullDatabase.getFunction(indF));
       LiteralFilter litFilter1 = new LiteralFilter();
       CommentFilter comFilter1 = new CommentFilter();
       LiteralFilter litFilter2 = new LiteralFilter();
@@ -438,8 +439,8 @@ public class OraclePlatform extends PlatformImplBase {
           break;
         }
       }
-      PostgrePLSQLTriggerStandarization triggerStand = new PostgrePLSQLTriggerStandarization(
-          fullDatabase, indF);
+      PostgrePLSQLTriggerStandarization triggerStand = new PostgrePLSQLTriggerStandarization(rules,
+          fullDatabase.getTrigger(indF));
       if (trg.getOriginalBody() != null) {
         LiteralFilter litFilter1 = new LiteralFilter();
         CommentFilter comFilter1 = new CommentFilter();
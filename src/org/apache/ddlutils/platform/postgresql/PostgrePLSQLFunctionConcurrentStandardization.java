@@ -32,10 +32,17 @@ class PostgrePLSQLFunctionConcurrentStandardization implements Runnable {
 
   private Database db;
   private int idx;
+  private PostgrePLSQLStandarization rules;
 
-  PostgrePLSQLFunctionConcurrentStandardization(Database db, int idx) {
+  /**
+   * @param rules
+   *          standardization rules for db, shared by all the objects standardized concurrently
+   */
+  PostgrePLSQLFunctionConcurrentStandardization(Database db, int idx,
+      PostgrePLSQLStandarization rules) {
     this.db = db;
     this.idx = idx;
+    this.rules = rules;
   }
 
   @Override
@@ -45,7 +52,7 @@ class PostgrePLSQLFunctionConcurrentStandardization implements Runnable {
 
     f.setOriginalBody(f.getBody());
     PostgrePLSQLFunctionStandarization functionStandarization = new PostgrePLSQLFunctionStandarization(
-        db, idx);
+        rules, f);
     String body = f.getBody();
 
     LiteralFilter litFilter = new LiteralFilter();
@@ -1,20 +1,31 @@
 package org.apache.ddlutils.platform.postgresql;
 
+import java.util.regex.Pattern;
+
 import org.apache.ddlutils.model.Database;
+import org.apache.ddlutils.model.Function;
 import org.apache.ddlutils.translation.ReplacePatTranslation;
 
 public class PostgrePLSQLFunctionStandarization extends PostgrePLSQLStandarization {
+  private static final Pattern END_PATTERN = Pattern.compile("\\s*END\\s*$");
 
   public PostgrePLSQLFunctionStandarization(Database database, int numFunction) {
-    super(database);
+    this(new PostgrePLSQLStandarization(database), database.getFunction(numFunction));
+  }
+
+  /**
+   * Creates the standardization for a function extending the rules shared by all the functions in
+   * the database, which are not recompiled.
+   */
+  public PostgrePLSQLFunctionStandarization(PostgrePLSQLStandarization rules, Function function) {
+    super(rules);
 
-    append(new ReplacePatTranslation("\\s*END\\s*$",
-        "\nEND " + database.getFunction(numFunction).getName()));
+    append(new ReplacePatTranslation(END_PATTERN, "\nEND " + function.getName()));
 
-    for (int i = 0; i < patternsOutFunctions.size(); i++) {
+    for (int i = 0; i < outFunctionPatterns.size(); i++) {
       // if(body.contains(outFunctions.get(i)))
       // append(patternsOutFunctions.get(outFunctions.get(i)));
-      append(patternsOutFunctions.get(i));
+      append(outFunctionPatterns.get(i));
     }
   }
 
@@ -12,7 +12,7 @@
 
 package org.apache.ddlutils.platform.postgresql;
 
-import java.sql.Types;
+import java.util.List;
 import java.util.Vector;
 
 import org.apache.ddlutils.model.Database;
@@ -24,12 +24,30 @@ import org.apache.ddlutils.translation.ReplaceOutFunctionParams;
 import org.apache.ddlutils.translation.ReplacePatTranslation;
 import org.apache.ddlutils.translation.ReplaceStrTranslation;
 
+/**
+ * Translations standardizing PL code read from PostgreSQL. Translations are stateless, so a single
+ * instance can be built for a database and shared by the threads standardizing its functions and
+ * triggers, each of them extending it with the object specific translations.
+ */
 public class PostgrePLSQLStandarization extends CombinedTranslation {
 
   static Vector<String> outFunctions = new Vector<String>();
   static Vector<ByLineTranslation> patternsOutFunctions = new Vector<ByLineTranslation>();
 
+  /** Patterns for functions with out parameters at the time this instance was created */
+  protected final List<ByLineTranslation> outFunctionPatterns;
+
+  /**
+   * Creates a new instance with the same translations as rules, which is not modified by the
+   * translations appended to this one.
+   */
+  protected PostgrePLSQLStandarization(PostgrePLSQLStandarization rules) {
+    super(rules);
+    outFunctionPatterns = rules.outFunctionPatterns;
+  }
+
   public PostgrePLSQLStandarization(Database database) {
+    outFunctionPatterns = patternsOutFunctions;
 
     // Numeric Type
     append(new ReplaceStrTranslation(" NUMERIC,", " NUMBER,"));
@@ -98,14 +116,7 @@ public class PostgrePLSQLStandarization extends CombinedTranslation {
 
     append(new ReplacePatTranslation("[Tt][Oo]_[Dd][Aa][Tt][Ee]\\([Nn][Oo][Ww]\\(\\)\\)", "now()"));
 
-    for (int i = 0; i < database.getFunctionCount(); i++) {
-      if (database.getFunction(i).getTypeCode() == Types.NULL) {
-        append(new ReplacePatTranslation(
-            "[Pp][Ee][Rr][Ff][Oo][Rr][Mm][\\s|\\t]*"
-                + generateStringPat(database.getFunction(i).getName()) + "[\\s]*\\(",
-            database.getFunction(i).getName() + "("));
-      }
-    }
+    append(new ReplacePerformCallsTranslation(database));
 
     // Special functions created in pre-script
     append(new ReplacePatTranslation("(?i)perform[\\s|\\t]*AD_Enable_Triggers[\\s]*\\(",
@@ -159,19 +170,6 @@ public class PostgrePLSQLStandarization extends CombinedTranslation {
     append(new ReplacePatTranslation("RAISE '(.*)'", "RAISE NO_DATA_FOUND"));
   }
 
-  private String generateStringPat(String in) {
-    String out = "";
-    for (int i = 0; i < in.length(); i++) {
-      if (in.charAt(i) == '_') {
-        out = out + "[" + in.charAt(i) + "]";
-      } else {
-        out = out + "[" + in.substring(i, i + 1).toLowerCase()
-            + in.substring(i, i + 1).toUpperCase() + "]";
-      }
-    }
-    return out;
-  }
-
   public static void generateOutPatterns(Database database) {
     patternsOutFunctions = new Vector<>();
     for (int i = 0; i < database.getFunctionCount(); i++) {
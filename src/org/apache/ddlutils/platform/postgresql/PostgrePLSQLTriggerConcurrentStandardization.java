@@ -32,10 +32,17 @@ class PostgrePLSQLTriggerConcurrentStandardization implements Runnable {
 
   private Database db;
   private int idx;
+  private PostgrePLSQLStandarization rules;
 
-  PostgrePLSQLTriggerConcurrentStandardization(Database db, int idx) {
+  /**
+   * @param rules
+   *          standardization rules for db, shared by all the objects standardized concurrently
+   */
+  PostgrePLSQLTriggerConcurrentStandardization(Database db, int idx,
+      PostgrePLSQLStandarization rules) {
     this.db = db;
     this.idx = idx;
+    this.rules = rules;
   }
 
   @Override
@@ -44,7 +51,7 @@ class PostgrePLSQLTriggerConcurrentStandardization implements Runnable {
     log.debug("Standardizing trigger: " + trg.getName());
     trg.setOriginalBody(trg.getBody());
     PostgrePLSQLTriggerStandarization triggerStandarization = new PostgrePLSQLTriggerStandarization(
-        db, idx);
+        rules, trg);
     String body = trg.getBody();
 
     LiteralFilter litFilter = new LiteralFilter();
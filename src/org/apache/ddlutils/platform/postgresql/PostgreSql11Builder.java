@@ -0,0 +1,74 @@
+/*
+ ************************************************************************************
+ * Copyright (C) 2026 Openbravo S.L.U.
+ * Licensed under the Apache Software License version 2.0
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to  in writing,  software  distributed
+ * under the License is distributed  on  an  "AS IS"  BASIS,  WITHOUT  WARRANTIES  OR
+ * CONDITIONS OF ANY KIND, either  express  or  implied.  See  the  License  for  the
+ * specific language governing permissions and limitations under the License.
+ ************************************************************************************
+ */
+package org.apache.ddlutils.platform.postgresql;
+
+import static org.apache.ddlutils.model.TypeMap.CHAR;
+import static org.apache.ddlutils.model.TypeMap.CLOB;
+import static org.apache.ddlutils.model.TypeMap.DECIMAL;
+import static org.apache.ddlutils.model.TypeMap.NCHAR;
+import static org.apache.ddlutils.model.TypeMap.NVARCHAR;
+import static org.apache.ddlutils.model.TypeMap.VARCHAR;
+
+import java.io.IOException;
+
+import org.apache.ddlutils.Platform;
+import org.apache.ddlutils.alteration.ColumnDataTypeChange;
+import org.apache.ddlutils.alteration.ColumnSizeChange;
+import org.apache.ddlutils.model.TypeMap;
+
+/**
+ * The SQL Builder for PostgreSQL 11 and later. It applies more column changes to the existing
+ * tables instead of recreating them: text and numeric columns can be converted to any text type,
+ * text columns can be made shorter and the precision and scale of numeric columns can be changed.
+ * The values are converted by the ALTER COLUMN TYPE statement, which fails if any of them does not
+ * fit in the new type, as copying them into a recreated table would do.
+ */
+public class PostgreSql11Builder extends PostgreSqlBuilder {
+
+  public PostgreSql11Builder(Platform platform) {
+    super(platform);
+  }
+
+  @Override
+  protected boolean isInPlaceTypeChange(ColumnDataTypeChange change) {
+    if (super.isInPlaceTypeChange(change)) {
+      return true;
+    }
+    String oldType = TypeMap.getJdbcTypeName(change.getChangedColumn().getTypeCode());
+    String newType = TypeMap.getJdbcTypeName(change.getNewTypeCode());
+    return (isTextType(oldType) || DECIMAL.equals(oldType))
+        && (CLOB.equals(newType) || isTextType(newType));
+  }
+
+  /** Numbers are converted to text as they are written by PostgreSQL, without any format */
+  @Override
+  protected String getTypeConversion(ColumnDataTypeChange change) throws IOException {
+    if (!DECIMAL.equals(TypeMap.getJdbcTypeName(change.getChangedColumn().getTypeCode()))) {
+      return null;
+    }
+    return getDelimitedIdentifier(getColumnName(change.getChangedColumn())) + "::text";
+  }
+
+  @Override
+  protected boolean isInPlaceSizeChange(ColumnSizeChange change) {
+    if (super.isInPlaceSizeChange(change)) {
+      return true;
+    }
+    String type = TypeMap.getJdbcTypeName(change.getChangedColumn().getTypeCode());
+    return isTextType(type) || DECIMAL.equals(type);
+  }
+
+  private boolean isTextType(String type) {
+    return VARCHAR.equals(type) || NVARCHAR.equals(type) || CHAR.equals(type)
+        || NCHAR.equals(type);
+  }
+}
@@ -21,6 +21,7 @@ public class PostgreSql11Platform extends PostgreSqlPlatform {
    */
   public PostgreSql11Platform() {
     super();
+    setSqlBuilder(new PostgreSql11Builder(this));
     setModelLoader(new PostgreSql11ModelLoader());
   }
 
@@ -21,6 +21,7 @@ public class PostgreSql16Platform extends PostgreSqlPlatform {
    */
   public PostgreSql16Platform() {
     super();
+    setSqlBuilder(new PostgreSql11Builder(this));
     setModelLoader(new PostgreSql16ModelLoader());
   }
 
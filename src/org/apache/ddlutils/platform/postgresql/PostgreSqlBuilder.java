@@ -47,6 +47,7 @@ import org.apache.ddlutils.model.Table;
 import org.apache.ddlutils.model.Trigger;
 import org.apache.ddlutils.model.TypeMap;
 import org.apache.ddlutils.model.View;
+import org.apache.ddlutils.platform.ConstraintValidation;
 import org.apache.ddlutils.platform.SqlBuilder;
 import org.apache.ddlutils.translation.CommentFilter;
 import org.apache.ddlutils.translation.LiteralFilter;
@@ -877,6 +878,11 @@ public class PostgreSqlBuilder extends SqlBuilder {
     printEndOfStatement();
   }
 
+  @Override
+  protected boolean isCombinedOnCreateDefaultsSupported() {
+    return true;
+  }
+
   public void executeOnCreateDefault(Table table, Table tempTable, Column col, boolean recreated)
       throws IOException {
     String pk = "";
@@ -964,6 +970,20 @@ public class PostgreSqlBuilder extends SqlBuilder {
     }
   }
 
+  @Override
+  protected void writeConstraintValidationOption(Table table, String constraintName)
+      throws IOException {
+    if (isDeferredConstraintValidation()) {
+      // the constraint is added to the catalog without scanning the table, the validation only
+      // takes a SHARE UPDATE EXCLUSIVE lock, so it does not block reads nor writes
+      print(" NOT VALID");
+      String alterTable = "ALTER TABLE " + getDelimitedIdentifier(getStructureObjectName(table));
+      String constraint = " CONSTRAINT " + getDelimitedIdentifier(constraintName);
+      addConstraintValidation(table, new ConstraintValidation(constraintName,
+          alterTable + " VALIDATE" + constraint, alterTable + " DROP" + constraint));
+    }
+  }
+
   @Override
   protected void disableAllChecks(Table table) throws IOException {
 
@@ -1069,7 +1089,7 @@ public class PostgreSqlBuilder extends SqlBuilder {
 
   /** Returns {@code true} if table requires to be recreated */
   public boolean requiresRecreation(ColumnDataTypeChange change) {
-    boolean supportedChange = isCommentChange(change) || isAllowedChange(change);
+    boolean supportedChange = isCommentChange(change) || isInPlaceTypeChange(change);
     return !supportedChange;
   }
 
@@ -1086,7 +1106,11 @@ public class PostgreSqlBuilder extends SqlBuilder {
     return varcharToNVarchar || charToNchar;
   }
 
-  private boolean isAllowedChange(ColumnDataTypeChange change) {
+  /**
+   * Returns {@code true} if the type of the column can be changed with an ALTER COLUMN TYPE
+   * statement, which by default is only done for text columns converted to CLOB
+   */
+  protected boolean isInPlaceTypeChange(ColumnDataTypeChange change) {
     String oldType = TypeMap.getJdbcTypeName(change.getChangedColumn().getTypeCode());
     String newType = TypeMap.getJdbcTypeName(change.getNewTypeCode());
     boolean wasTxtType = (NVARCHAR.equals(oldType) || VARCHAR.equals(oldType)
@@ -1102,22 +1126,45 @@ public class PostgreSqlBuilder extends SqlBuilder {
       Column modifiedColumn = currentModel.findTable(change.getChangedTable().getName())
           .findColumn(change.getChangedColumn().getName());
       writeColumnCommentStmt(desiredModel, change.getChangedTable(), modifiedColumn, false);
-    } else if (isAllowedChange(change)) {
+    } else if (isInPlaceTypeChange(change)) {
+      String conversion = getTypeConversion(change);
       change.apply(currentModel, getPlatform().isDelimitedIdentifierModeOn());
       Table table = currentModel.findTable(change.getChangedTable().getName());
       Column column = table.findColumn(change.getChangedColumn().getName());
+      // the size of the column can change together with its type, the desired one is used to
+      // convert the values only once
+      Column desiredColumn = desiredModel.findTable(table.getName()).findColumn(column.getName());
       print("ALTER TABLE " + table.getName() + " ALTER COLUMN ");
 
       printIdentifier(getColumnName(column));
       print(" TYPE ");
-      print(getSqlType(column));
+      print(getSqlType(desiredColumn != null ? desiredColumn : column));
+      if (conversion != null) {
+        print(" USING " + conversion);
+      }
 
       printEndOfStatement();
     }
   }
 
+  /**
+   * Returns the expression used to convert the values of a column whose type is changed in place,
+   * or null if the default conversion of PostgreSQL is used
+   */
+  protected String getTypeConversion(ColumnDataTypeChange change) throws IOException {
+    return null;
+  }
+
   /** Returns {@code true} if table requires to be recreated */
   public boolean requiresRecreation(ColumnSizeChange change) {
+    return !isInPlaceSizeChange(change);
+  }
+
+  /**
+   * Returns {@code true} if the size of the column can be changed with an ALTER COLUMN TYPE
+   * statement, which by default is only done when the column is made longer
+   */
+  protected boolean isInPlaceSizeChange(ColumnSizeChange change) {
     boolean supportedChange = canResizeType(change.getChangedColumn().getTypeCode());
     boolean madeLonger;
     String type = TypeMap.getJdbcTypeName(change.getChangedColumn().getTypeCode());
@@ -1137,10 +1184,10 @@ public class PostgreSqlBuilder extends SqlBuilder {
       madeLonger = change.getOldSize() <= change.getNewSize();
     }
 
-    return !(supportedChange && madeLonger);
+    return supportedChange && madeLonger;
   }
 
-  private boolean canResizeType(int typeCode) {
+  protected boolean canResizeType(int typeCode) {
     String type = TypeMap.getJdbcTypeName(typeCode);
     switch (type) {
       case NVARCHAR:
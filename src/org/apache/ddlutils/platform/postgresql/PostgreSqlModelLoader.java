@@ -21,9 +21,12 @@ import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.StringTokenizer;
 import java.util.Vector;
 import java.util.concurrent.ExecutorService;
@@ -33,6 +36,7 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.apache.commons.lang3.StringUtils;
+import org.apache.ddlutils.model.Column;
 import org.apache.ddlutils.model.Database;
 import org.apache.ddlutils.model.ForeignKey;
 import org.apache.ddlutils.model.Function;
@@ -44,6 +48,7 @@ import org.apache.ddlutils.model.Sequence;
 import org.apache.ddlutils.model.Table;
 import org.apache.ddlutils.model.Unique;
 import org.apache.ddlutils.platform.InvalidRowException;
+import org.apache.ddlutils.platform.ModelFingerprint;
 import org.apache.ddlutils.platform.ModelLoaderBase;
 import org.apache.ddlutils.platform.RowConstructor;
 import org.apache.ddlutils.platform.RowFiller;
@@ -74,6 +79,11 @@ public class PostgreSqlModelLoader extends ModelLoaderBase {
 
   private static final int FUNCTION_BASED_COLUMN_INDEX_POSITION = 0;
 
+  private static final Pattern NVARCHAR_COMMENT = Pattern.compile("--OBTG:NVARCHAR--");
+  private static final Pattern NCHAR_COMMENT = Pattern.compile("--OBTG:NCHAR--");
+  private static final Pattern ONCREATEDEFAULT_COMMENT = Pattern
+      .compile("--OBTG:ONCREATEDEFAULT:(.*)--");
+
   /** Creates a new instance of PostgreSqlModelLoader */
   public PostgreSqlModelLoader() {
   }
@@ -104,17 +114,19 @@ public class PostgreSqlModelLoader extends ModelLoaderBase {
     _log.info(
         "Starting function trigger and view standardization in " + getMaxThreads() + " threads");
     PostgrePLSQLStandarization.generateOutPatterns(db);
+    // rules are compiled once and shared by all threads
+    PostgrePLSQLStandarization rules = new PostgrePLSQLStandarization(db);
 
     ExecutorService executor = Executors.newFixedThreadPool(getMaxThreads());
 
     int functionCnt = db.getFunctionCount();
     for (int i = 0; i < functionCnt; i++) {
-      executor.execute(new PostgrePLSQLFunctionConcurrentStandardization(db, i));
+      executor.execute(new PostgrePLSQLFunctionConcurrentStandardization(db, i, rules));
     }
 
     int trgCnt = db.getTriggerCount();
     for (int i = 0; i < trgCnt; i++) {
-      executor.execute(new PostgrePLSQLTriggerConcurrentStandardization(db, i));
+      executor.execute(new PostgrePLSQLTriggerConcurrentStandardization(db, i, rules));
     }
 
     int viewCnt = db.getViewCount();
@@ -737,27 +749,447 @@ public class PostgreSqlModelLoader extends ModelLoaderBase {
           commentCol = r.getString(1);
         }
       });
-      if (commentCol != null && !commentCol.equals("")) {
-        Pattern pat = Pattern.compile("--OBTG:NVARCHAR--");
-        Matcher match = pat.matcher(commentCol);
-        if (match.find()) {
-          t.getColumn(i).setTypeCode(ExtTypes.NVARCHAR);
-        }
-        Pattern pat2 = Pattern.compile("--OBTG:NCHAR--");
-        Matcher match2 = pat2.matcher(commentCol);
-        if (match2.find()) {
-          t.getColumn(i).setTypeCode(ExtTypes.NCHAR);
+      applyColumnComment(t.getColumn(i), commentCol);
+    }
+
+    return t;
+  }
+
+  @SuppressWarnings("rawtypes")
+  @Override
+  protected Collection readTables() throws SQLException {
+    if (!isBulkLoading() || _prefix != null) {
+      return super.readTables();
+    }
+    return readTablesInBulk();
+  }
+
+  /**
+   * Reads all the tables in the current schema querying the catalog once per object kind instead
+   * of once per table. The resulting tables are the same ones that would be obtained by invoking
+   * {@link #readTable(String, boolean)} for each of them.
+   */
+  private Collection<Table> readTablesInBulk() throws SQLException {
+    long t = System.currentTimeMillis();
+
+    // tables are kept by their real name (in the same case as in database)
+    final Map<String, Table> tables = new LinkedHashMap<>();
+    String sql = "SELECT UPPER(c.relname), c.relname FROM pg_class c"
+        + " JOIN pg_namespace n ON n.oid = c.relnamespace"
+        + " WHERE n.nspname = current_schema() AND c.relkind IN ('r', 'p')"
+        + _filter.getExcludeFilterWhereClause("c.relname", _filter.getExcludedTables(), false)
+        + " ORDER BY UPPER(c.relname)";
+    fillBulkList(sql, r -> {
+      Table table = new Table();
+      table.setName(r.getString(1));
+      tables.put(r.getString(2), table);
+    });
+    logBulkPhase("tables", tables.size(), t);
+
+    Map<String, List<String>> pkColumns = readPrimaryKeysInBulk(tables);
+    readColumnsInBulk(tables, pkColumns);
+    readChecksInBulk(tables);
+    readForeignKeysInBulk(tables);
+    readIndexesInBulk(tables);
+    readUniquesInBulk(tables);
+
+    _log.info("Read " + tables.size() + " tables in bulk in " + (System.currentTimeMillis() - t)
+        + " ms");
+    return tables.values();
+  }
+
+  /**
+   * Sets the primary key name of the tables, returning the primary key columns per table real name
+   */
+  private Map<String, List<String>> readPrimaryKeysInBulk(final Map<String, Table> tables)
+      throws SQLException {
+    long t = System.currentTimeMillis();
+    final Map<String, List<String>> pkColumns = new HashMap<>();
+    final Map<String, String> pkNames = new HashMap<>();
+
+    String sql = "SELECT t.relname, con.conname, upper(a.attname::text) FROM pg_constraint con"
+        + " JOIN pg_class t ON t.oid = con.conrelid"
+        + " JOIN pg_namespace n ON n.oid = t.relnamespace"
+        + " JOIN pg_attribute a ON a.attrelid = con.conrelid AND a.attnum = ANY (con.conkey)"
+        + " WHERE con.contype = 'p' AND n.nspname = current_schema()"
+        + " ORDER BY t.relname, a.attnum::integer";
+    fillBulkList(sql, r -> {
+      String tableRealName = r.getString(1);
+      if (!tables.containsKey(tableRealName)) {
+        return;
+      }
+      pkNames.put(tableRealName, r.getString(2));
+      pkColumns.computeIfAbsent(tableRealName, k -> new ArrayList<>()).add(r.getString(3));
+    });
+
+    for (Map.Entry<String, Table> entry : tables.entrySet()) {
+      Table table = entry.getValue();
+      String pkName = pkNames.containsKey(entry.getKey())
+          ? pkNames.get(entry.getKey()).toUpperCase()
+          : "";
+      if (!pkName.isEmpty() && _filter.isConstraintExcluded(pkName)) {
+        _log.debug("Excluding primary key constraint: " + pkName + " for table " + table.getName());
+        continue;
+      }
+      table.setPrimaryKey(pkName);
+    }
+    logBulkPhase("primary keys", pkNames.size(), t);
+    return pkColumns;
+  }
+
+  private void readColumnsInBulk(final Map<String, Table> tables,
+      Map<String, List<String>> pkColumns) throws SQLException {
+    long t = System.currentTimeMillis();
+    final Map<String, List<Column>> columns = new HashMap<>();
+    final Map<String, List<String>> comments = new HashMap<>();
+    final Set<String> tablesWithVisibleColumns = new HashSet<>();
+
+    // same columns as the ones in _stmt_listcolumns so that readColumn can be reused, table name,
+    // column comment and information schema visibility are appended at the end
+    String sql = "SELECT UPPER(a.ATTNAME::TEXT), UPPER(t.TYPNAME::TEXT),"
+        + " CASE t.TYPNAME WHEN 'varchar'::name THEN a.atttypmod - 4"
+        + "   WHEN 'bpchar'::name THEN a.atttypmod - 4 ELSE NULL::integer END,"
+        + " CASE t.TYPNAME WHEN 'bytea'::name THEN 4000 WHEN 'text'::name THEN 4000"
+        + "   WHEN 'oid'::name THEN 4000"
+        + "   ELSE CASE a.ATTLEN WHEN -1 THEN a.ATTTYPMOD - 4 ELSE a.ATTLEN END END,"
+        + " CASE t.typname WHEN 'bytea'::name THEN 4000 WHEN 'text'::name THEN 4000"
+        + "   WHEN 'oid'::name THEN 4000"
+        + "   ELSE CASE atttypmod WHEN -1 THEN 0 ELSE coalesce(numeric_precision, 0) END END,"
+        + " coalesce(numeric_scale, 0), not a.attnotnull,"
+        + " CASE a.atthasdef WHEN true THEN (SELECT pg_get_expr(adbin, adrelid) FROM pg_attrdef"
+        + "   WHERE pg_attrdef.adrelid = c.oid AND pg_attrdef.adnum = a.attnum)"
+        + "   ELSE NULL::text END,"
+        + " c.relname, col_description(c.oid, a.attnum), isc.ordinal_position IS NOT NULL"
+        + " FROM pg_class c JOIN pg_attribute a ON c.oid = a.attrelid"
+        + " JOIN pg_type t ON a.atttypid = t.oid"
+        + " JOIN pg_namespace n ON c.relnamespace = n.oid"
+        + " LEFT JOIN information_schema.columns isc ON isc.table_schema = n.nspname"
+        + "   AND isc.table_name = c.relname AND isc.column_name = a.attname"
+        + " WHERE n.nspname = current_schema() AND a.attnum > 0 AND c.relkind IN ('r', 'p')"
+        + " ORDER BY c.relname, a.attnum";
+    final int[] columnCount = new int[1];
+    fillBulkList(sql, r -> {
+      String tableRealName = r.getString(9);
+      if (!tables.containsKey(tableRealName)) {
+        return;
+      }
+      columns.computeIfAbsent(tableRealName, k -> new ArrayList<>()).add(readColumn(r));
+      comments.computeIfAbsent(tableRealName, k -> new ArrayList<>()).add(r.getString(10));
+      if (r.getBoolean(11)) {
+        tablesWithVisibleColumns.add(tableRealName);
+      }
+      columnCount[0]++;
+    });
+
+    for (Map.Entry<String, Table> entry : tables.entrySet()) {
+      String tableRealName = entry.getKey();
+      Table table = entry.getValue();
+      if (!tablesWithVisibleColumns.contains(tableRealName)) {
+        _log.error("Table " + table.getName() + " was created with incorrect role or has no columns");
+        throw new RuntimeException();
+      }
+      table.addColumns(columns.get(tableRealName));
+
+      if (table.getPrimaryKey() != null && !table.getPrimaryKey().isEmpty()
+          && pkColumns.containsKey(tableRealName)) {
+        for (String pkColumn : pkColumns.get(tableRealName)) {
+          table.findColumn(pkColumn).setPrimaryKey(true);
         }
+      }
+
+      List<String> tableComments = comments.get(tableRealName);
+      for (int i = 0; i < table.getColumnCount(); i++) {
+        applyColumnComment(table.getColumn(i), tableComments.get(i));
+      }
+    }
+    logBulkPhase("columns", columnCount[0], t);
+  }
+
+  private void readChecksInBulk(final Map<String, Table> tables) throws SQLException {
+    long t = System.currentTimeMillis();
+    final int[] checkCount = new int[1];
+    String sql = "SELECT upper(pg_constraint.conname::text),"
+        + " regexp_replace(pg_get_constraintdef(pg_constraint.oid, true), E'CHECK \\\\((.*)\\\\).*', E'\\\\1'),"
+        + " pg_class.relname"
+        + " FROM pg_constraint JOIN pg_class ON pg_class.oid = pg_constraint.conrelid"
+        + " JOIN pg_namespace n ON n.oid = pg_class.relnamespace"
+        + " WHERE pg_constraint.contype = 'c' AND n.nspname = current_schema()"
+        + " ORDER BY pg_class.relname, upper(pg_constraint.conname::text)";
+    fillBulkList(sql, r -> {
+      Table table = tables.get(r.getString(3));
+      if (table == null) {
+        return;
+      }
+      String checkName = r.getString(1);
+      if (checkName != null && _filter.isConstraintExcluded(checkName.toUpperCase())) {
+        _log.debug("Excluding check constraint: " + checkName);
+        return;
+      }
+      table.addCheck(readCheck(r));
+      checkCount[0]++;
+    });
+    logBulkPhase("checks", checkCount[0], t);
+  }
+
+  private void readForeignKeysInBulk(final Map<String, Table> tables) throws SQLException {
+    long t = System.currentTimeMillis();
+    String sql = "SELECT pg_class.relname, pg_constraint.conname, upper(fk_table.relname::text),"
+        + " upper(pg_constraint.confdeltype::text), 'A',"
+        + " upper(a1.attname::text), upper(a2.attname::text)"
+        + " FROM pg_constraint JOIN pg_class ON pg_class.oid = pg_constraint.conrelid"
+        + " JOIN pg_namespace n ON n.oid = pg_class.relnamespace"
+        + " LEFT JOIN pg_class fk_table ON fk_table.oid = pg_constraint.confrelid"
+        + " CROSS JOIN LATERAL generate_subscripts(pg_constraint.conkey, 1) AS k"
+        + " JOIN pg_attribute a1 ON a1.attrelid = pg_constraint.conrelid"
+        + "   AND a1.attnum = pg_constraint.conkey[k]"
+        + " JOIN pg_attribute a2 ON a2.attrelid = pg_constraint.confrelid"
+        + "   AND a2.attnum = pg_constraint.confkey[k]"
+        + " WHERE pg_constraint.contype = 'f' AND fk_table.relispartition = false"
+        + " AND n.nspname = current_schema()"
+        + _filter.getExcludeFilterWhereClause("CONNAME", _filter.getExcludedConstraints(), false);
+    for (String excludedConstraint : _filter.getExcludedConstraints()) {
+      if (excludedConstraint.endsWith("%")) {
+        sql += " AND NOT upper(conname) like '" + excludedConstraint + "' ";
+      }
+    }
+    sql += " ORDER BY pg_class.relname, upper(pg_constraint.conname::text), pg_constraint.conname, k";
+
+    final Map<String, ForeignKey> fks = new LinkedHashMap<>();
+    final Map<ForeignKey, Table> fkTables = new HashMap<>();
+    fillBulkList(sql, r -> {
+      Table table = tables.get(r.getString(1));
+      if (table == null) {
+        return;
+      }
+      String fkRealName = r.getString(2);
+      String fkName = fkRealName.toUpperCase();
+      if (_filter.isConstraintExcluded(fkName)) {
+        _log.debug("Excluding foreign key constraint: " + fkName);
+        return;
+      }
+      String fkKey = r.getString(1) + "." + fkRealName;
+      ForeignKey fk = fks.get(fkKey);
+      if (fk == null) {
+        fk = new ForeignKey();
+        fk.setName(fkName);
+        fk.setForeignTableName(r.getString(3));
+        fk.setOnDeleteCode(translateFKEvent(r.getString(4)));
+        fk.setOnUpdateCode(translateFKEvent(r.getString(5)));
+        fks.put(fkKey, fk);
+        fkTables.put(fk, table);
+      }
+      Reference ref = new Reference();
+      ref.setLocalColumnName(r.getString(6));
+      ref.setForeignColumnName(r.getString(7));
+      fk.addReference(ref);
+    });
+
+    // references are complete once the whole list is read, fks can be now added to their tables
+    for (ForeignKey fk : fks.values()) {
+      fkTables.get(fk).addForeignKey(fk);
+    }
+    logBulkPhase("foreign keys", fks.size(), t);
+  }
+
+  private void readIndexesInBulk(final Map<String, Table> tables) throws SQLException {
+    long t = System.currentTimeMillis();
+
+    // 1. index def: can be column name for standard indexes, or expression if function based
+    // 2. key: 0-> identifies function based index, any other value -> standard column index
+    // 3. operator class name
+    final Map<String, List<String[]>> indexColumns = new HashMap<>();
+    String sql = "SELECT c.relname, pg_get_indexdef(c.oid, an, true), i.indkey[an-1], opc.opcname"
+        + " FROM pg_index i JOIN pg_class c ON c.oid = i.indexrelid"
+        + " JOIN pg_namespace n ON n.oid = c.relnamespace"
+        + " CROSS JOIN LATERAL generate_series(1, i.indnatts) AS an"
+        + " LEFT JOIN pg_opclass opc ON opc.oid = i.indclass[an-1]"
+        + " WHERE n.nspname = current_schema() AND i.indisprimary = 'f'"
+        + " ORDER BY c.relname, an";
+    fillBulkList(sql, r -> indexColumns.computeIfAbsent(r.getString(1), k -> new ArrayList<>())
+        .add(new String[] { r.getString(2), r.getString(3), r.getString(4) }));
+
+    // same columns as _stmt_listindexes, with the table name appended at the end
+    sql = "SELECT PG_CLASS.RELNAME, CASE PG_INDEX.indisunique WHEN true THEN 'UNIQUE' ELSE 'NONUNIQUE' END,"
+        + " PG_INDEX.indclass, PG_GET_EXPR(PG_INDEX.indpred,PG_INDEX.indrelid,true),"
+        + " PG_CLASS1.RELNAME"
+        + " FROM PG_INDEX, PG_CLASS, PG_CLASS PG_CLASS1, PG_NAMESPACE"
+        + " WHERE PG_INDEX.indexrelid = PG_CLASS.OID AND PG_INDEX.indrelid = PG_CLASS1.OID"
+        + " AND PG_CLASS.RELNAMESPACE = PG_NAMESPACE.OID"
+        + " AND PG_CLASS1.RELNAMESPACE = PG_NAMESPACE.OID"
+        + " AND PG_NAMESPACE.NSPNAME = CURRENT_SCHEMA() AND PG_INDEX.INDISPRIMARY ='f'"
+        + " AND PG_CLASS.RELNAME NOT IN (SELECT pg_constraint.conname::text"
+        + "    FROM pg_constraint JOIN pg_class ON pg_class.oid = pg_constraint.conrelid"
+        + "    WHERE pg_constraint.contype = 'u')"
+        + " ORDER BY PG_CLASS1.RELNAME, UPPER(PG_CLASS.RELNAME)";
+    final int[] indexCount = new int[1];
+    fillBulkList(sql, r -> {
+      Table table = tables.get(r.getString(5));
+      if (table == null) {
+        return;
+      }
+      String indexRealName = r.getString(1);
+      String indexWhereClause = r.getString(4);
+
+      Index inx = new Index();
+      inx.setName(indexRealName.toUpperCase());
+      inx.setUnique(translateUniqueness(r.getString(2)));
+      if (indexWhereClause != null && !indexWhereClause.isEmpty()) {
+        inx.setWhereClause(transformIndexExpression(indexWhereClause));
+      }
 
-        Pattern pat3 = Pattern.compile("--OBTG:ONCREATEDEFAULT:(.*)--");
-        Matcher match3 = pat3.matcher(commentCol);
-        if (match3.find()) {
-          t.getColumn(i).setOnCreateDefault(match3.group(1));
+      int trgmOperators = 0;
+      List<String[]> columns = indexColumns.get(indexRealName);
+      if (columns != null) {
+        for (String[] col : columns) {
+          IndexColumn indexColumn;
+          if (Integer.parseInt(col[1]) == FUNCTION_BASED_COLUMN_INDEX_POSITION) {
+            indexColumn = getIndexColumnFromExpression(col[0]);
+          } else {
+            indexColumn = new IndexColumn(col[0].toUpperCase());
+          }
+          String operatorClassName = col[2] == null ? "" : col[2];
+          String operatorClassNameUpperCased = operatorClassName.toUpperCase();
+          if (operatorClassNameUpperCased.contains("PATTERN")) {
+            indexColumn.setOperatorClass(operatorClassName);
+          } else if (operatorClassNameUpperCased.equals("GIN_TRGM_OPS")) {
+            trgmOperators++;
+          }
+          inx.addColumn(indexColumn);
         }
       }
+      inx.setContainsSearch(trgmOperators == inx.getColumns().length);
+      table.addIndex(inx);
+      indexCount[0]++;
+    });
+    logBulkPhase("indexes", indexCount[0], t);
+  }
+
+  private void readUniquesInBulk(final Map<String, Table> tables) throws SQLException {
+    long t = System.currentTimeMillis();
+    String sql = "SELECT t.relname, con.conname, upper(a.attname::text) FROM pg_constraint con"
+        + " JOIN pg_class t ON t.oid = con.conrelid"
+        + " JOIN pg_namespace n ON n.oid = t.relnamespace"
+        + " CROSS JOIN LATERAL generate_subscripts(con.conkey, 1) AS k"
+        + " JOIN pg_attribute a ON a.attrelid = con.conrelid AND a.attnum = con.conkey[k]"
+        + " WHERE con.contype = 'u' AND n.nspname = current_schema()"
+        + " ORDER BY t.relname, upper(con.conname::text), con.conname, k";
+
+    final Map<String, Unique> uniques = new LinkedHashMap<>();
+    final Map<Unique, Table> uniqueTables = new HashMap<>();
+    fillBulkList(sql, r -> {
+      Table table = tables.get(r.getString(1));
+      if (table == null) {
+        return;
+      }
+      String uniqueName = r.getString(2).toUpperCase();
+      if (_filter.isConstraintExcluded(uniqueName)) {
+        _log.debug("Excluding unique constraint: " + uniqueName);
+        return;
+      }
+      String uniqueKey = r.getString(1) + "." + r.getString(2);
+      Unique unique = uniques.get(uniqueKey);
+      if (unique == null) {
+        unique = new Unique();
+        unique.setName(uniqueName);
+        uniques.put(uniqueKey, unique);
+        uniqueTables.put(unique, table);
+      }
+      IndexColumn inxcol = new IndexColumn();
+      inxcol.setName(r.getString(3));
+      unique.addColumn(inxcol);
+    });
+
+    for (Unique unique : uniques.values()) {
+      uniqueTables.get(unique).addUnique(unique);
     }
+    logBulkPhase("uniques", uniques.size(), t);
+  }
 
-    return t;
+  private void fillBulkList(String sql, RowFiller filler) throws SQLException {
+    try (PreparedStatement st = _connection.prepareStatement(sql)) {
+      fillList(st, filler);
+    }
+  }
+
+  private void logBulkPhase(String phase, int count, long startTime) {
+    _log.info("  Read " + count + " " + phase + " in " + (System.currentTimeMillis() - startTime)
+        + " ms");
+  }
+
+  /**
+   * Sets the actual type and onCreateDefault of the column based on the information DBSM keeps in
+   * the column comment
+   */
+  private void applyColumnComment(Column column, String columnComment) {
+    if (columnComment == null || columnComment.equals("")) {
+      return;
+    }
+    if (NVARCHAR_COMMENT.matcher(columnComment).find()) {
+      column.setTypeCode(ExtTypes.NVARCHAR);
+    }
+    if (NCHAR_COMMENT.matcher(columnComment).find()) {
+      column.setTypeCode(ExtTypes.NCHAR);
+    }
+    Matcher onCreateDefault = ONCREATEDEFAULT_COMMENT.matcher(columnComment);
+    if (onCreateDefault.find()) {
+      column.setOnCreateDefault(onCreateDefault.group(1));
+    }
+  }
+
+  /**
+   * Fingerprint is based on the oid and xmin of the catalog rows defining each object: xmin
+   * changes whenever a row is updated, so any DDL on an object is detected without reading it.
+   */
+  @Override
+  protected ModelFingerprint readModelFingerprint() throws SQLException {
+    final ModelFingerprint fingerprint = new ModelFingerprint();
+
+    // referenced table names are included to detect renames of the tables foreign keys point to
+    fillBulkList("SELECT UPPER(c.relname), md5(concat_ws('|', c.oid::text, c.xmin::text, "
+        + " (SELECT string_agg(a.xmin::text, ',' ORDER BY a.attnum) FROM pg_attribute a WHERE a.attrelid = c.oid), "
+        + " (SELECT string_agg(d.xmin::text, ',' ORDER BY d.oid) FROM pg_attrdef d WHERE d.adrelid = c.oid), "
+        + " (SELECT string_agg(k.xmin::text || ':' || COALESCE(f.relname::text, ''), ',' ORDER BY k.oid) "
+        + "    FROM pg_constraint k LEFT JOIN pg_class f ON f.oid = k.confrelid WHERE k.conrelid = c.oid), "
+        + " (SELECT string_agg(i.xmin::text || ':' || ic.xmin::text, ',' ORDER BY i.indexrelid) "
+        + "    FROM pg_index i JOIN pg_class ic ON ic.oid = i.indexrelid WHERE i.indrelid = c.oid), "
+        + " (SELECT string_agg(ds.xmin::text, ',' ORDER BY ds.objsubid) FROM pg_description ds "
+        + "   WHERE ds.objoid = c.oid AND ds.classoid = 'pg_class'::regclass))) "
+        + "FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace "
+        + "WHERE n.nspname = CURRENT_SCHEMA() AND c.relkind IN ('r', 'p')", new RowFiller() {
+          @Override
+          public void fillRow(ResultSet r) throws SQLException {
+            fingerprint.addTable(r.getString(1), r.getString(2));
+          }
+        });
+
+    fillBulkList(
+        "SELECT UPPER(p.proname), md5(string_agg(p.oid::text || ':' || p.xmin::text, ',' ORDER BY p.oid)) "
+            + "FROM pg_proc p JOIN pg_namespace n ON n.oid = p.pronamespace "
+            + "WHERE n.nspname = CURRENT_SCHEMA() GROUP BY UPPER(p.proname)",
+        new RowFiller() {
+          @Override
+          public void fillRow(ResultSet r) throws SQLException {
+            fingerprint.addFunction(r.getString(1), r.getString(2));
+          }
+        });
+
+    // views, materialized views, sequences and triggers are cheap to read, a single hash is kept
+    // for all of them
+    fillBulkList("SELECT md5(COALESCE(string_agg(obj, ',' ORDER BY obj), '')) FROM ("
+        + " SELECT 'c' || c.oid::text || ':' || c.xmin::text || ':' "
+        + "   || COALESCE((SELECT string_agg(rw.xmin::text, ',' ORDER BY rw.oid) FROM pg_rewrite rw WHERE rw.ev_class = c.oid), '') || ':' "
+        + "   || COALESCE((SELECT string_agg(i.xmin::text, ',' ORDER BY i.indexrelid) FROM pg_index i WHERE i.indrelid = c.oid), '') AS obj "
+        + "   FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace "
+        + "  WHERE n.nspname = CURRENT_SCHEMA() AND c.relkind IN ('v', 'm', 'S') "
+        + " UNION ALL SELECT 's' || s.seqrelid::text || ':' || s.xmin::text FROM pg_sequence s "
+        + " UNION ALL SELECT 't' || t.oid::text || ':' || t.xmin::text FROM pg_trigger t) objects",
+        new RowFiller() {
+          @Override
+          public void fillRow(ResultSet r) throws SQLException {
+            fingerprint.setOtherObjects(r.getString(1));
+          }
+        });
+    return fingerprint;
   }
 
   @SuppressWarnings("rawtypes")
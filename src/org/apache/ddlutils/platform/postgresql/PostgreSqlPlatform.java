@@ -19,19 +19,27 @@ package org.apache.ddlutils.platform.postgresql;
  * under the License.
  */
 
+import java.io.IOException;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.sql.Blob;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Savepoint;
 import java.sql.Statement;
+import java.sql.Timestamp;
 import java.sql.Types;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -41,14 +49,23 @@ import java.util.concurrent.TimeUnit;
 import org.apache.commons.beanutils.DynaBean;
 import org.apache.ddlutils.DatabaseOperationException;
 import org.apache.ddlutils.PlatformInfo;
+import org.apache.ddlutils.alteration.AddRowChange;
+import org.apache.ddlutils.alteration.Change;
+import org.apache.ddlutils.alteration.ColumnDataChange;
+import org.apache.ddlutils.alteration.RemoveRowChange;
 import org.apache.ddlutils.dynabean.SqlDynaProperty;
+import org.apache.ddlutils.model.Column;
 import org.apache.ddlutils.model.Database;
 import org.apache.ddlutils.model.StructureObject;
 import org.apache.ddlutils.model.Table;
+import org.apache.ddlutils.platform.ForeignKeyCommandGroups;
 import org.apache.ddlutils.platform.PGStandardBatchEvaluator;
 import org.apache.ddlutils.platform.PlatformImplBase;
 import org.apache.ddlutils.util.ExtTypes;
 import org.openbravo.ddlutils.util.OBDataset;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.postgresql.core.BaseConnection;
 
 /**
  * The platform implementation for PostgresSql.
@@ -63,6 +80,10 @@ public class PostgreSqlPlatform extends PlatformImplBase {
   /** The subprotocol used by the standard PostgreSQL driver. */
   public static final String JDBC_SUBPROTOCOL = "postgresql";
 
+  /** Temporary table where rows are copied to apply data changes with set based statements */
+  private static final String STAGING_TABLE = "DBSM_STAGING";
+  private static final int COPY_BUFFER_SIZE = 65536;
+
   /**
    * Creates a new platform instance.
    */
@@ -331,12 +352,18 @@ public class PostgreSqlPlatform extends PlatformImplBase {
       throws DatabaseOperationException {
 
     try {
-      StringWriter buffer = new StringWriter();
-      getSqlBuilder().setWriter(buffer);
+      ForeignKeyCommandGroups fkCommands = new ForeignKeyCommandGroups();
+      getSqlBuilder().setDeferredConstraintValidation(isConcurrentConstraintValidation());
       for (int i = 0; i < model.getTableCount(); i++) {
+        StringWriter buffer = new StringWriter();
+        getSqlBuilder().setWriter(buffer);
         getSqlBuilder().createExternalForeignKeys(model, model.getTable(i));
+        addForeignKeyCommands(fkCommands, model.getTable(i), buffer.toString());
       }
-      int numErrors = evaluateBatchRealBatch(connection, buffer.toString(), continueOnError);
+      getSqlBuilder().setDeferredConstraintValidation(false);
+      int numErrors = evaluateConcurrentBatch(connection, fkCommands.getGroups(),
+          continueOnError);
+      numErrors += validateConstraints(connection, continueOnError);
       if (numErrors > 0) {
         return false;
       }
@@ -531,6 +558,323 @@ public class PostgreSqlPlatform extends PlatformImplBase {
     }
   }
 
+  /**
+   * Applies the changes copying the affected rows into a temporary staging table, from where they
+   * are inserted, updated or deleted with a single statement. If any of these statements fails,
+   * all the changes are rolled back.
+   */
+  @Override
+  protected int alterTableData(Connection connection, Database model, Table table,
+      List<Change> changes) {
+    if (table.getPrimaryKeyColumns().length != 1 || table.getAutoIncrementColumns().length > 0
+        || hasBinaryColumns(table)) {
+      return -1;
+    }
+    Change firstChange = changes.get(0);
+    SqlDynaProperty[] insertProperties = null;
+    if (firstChange instanceof AddRowChange) {
+      insertProperties = getInsertProperties(model, changes);
+      if (insertProperties == null) {
+        return -1;
+      }
+    }
+
+    Boolean autoCommit = null;
+    Savepoint savepoint = null;
+    try {
+      autoCommit = connection.getAutoCommit();
+      if (autoCommit) {
+        connection.setAutoCommit(false);
+      } else {
+        savepoint = connection.setSavepoint();
+      }
+      int rows;
+      if (firstChange instanceof RemoveRowChange) {
+        rows = deleteSetBased(connection, table, changes);
+      } else if (firstChange instanceof ColumnDataChange) {
+        rows = updateSetBased(connection, table, changes);
+      } else {
+        rows = insertSetBased(connection, table, insertProperties, changes);
+      }
+      if (autoCommit) {
+        connection.commit();
+      } else {
+        connection.releaseSavepoint(savepoint);
+      }
+      return rows;
+    } catch (SQLException | IOException e) {
+      getLog().info("Set based changes in table " + table.getName()
+          + " failed. Rolling back and applying them row by row: " + e.getMessage());
+      try {
+        if (savepoint != null) {
+          connection.rollback(savepoint);
+        } else {
+          connection.rollback();
+        }
+      } catch (SQLException e1) {
+        getLog().error("Error rolling back set based changes in table " + table.getName(), e1);
+      }
+      return -1;
+    } finally {
+      if (Boolean.TRUE.equals(autoCommit)) {
+        try {
+          connection.setAutoCommit(true);
+        } catch (SQLException e) {
+          getLog().error("Error restoring auto commit", e);
+        }
+      }
+    }
+  }
+
+  private boolean hasBinaryColumns(Table table) {
+    for (Column column : table.getColumns()) {
+      switch (column.getTypeCode()) {
+        case Types.BINARY:
+        case Types.VARBINARY:
+        case Types.LONGVARBINARY:
+        case Types.BLOB:
+          return true;
+        default:
+          break;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns the properties inserted for the rows added by the changes, or null if they are not the
+   * same for all of them.
+   */
+  private SqlDynaProperty[] getInsertProperties(Database model, List<Change> changes) {
+    SqlDynaProperty[] properties = null;
+    for (Change change : changes) {
+      DynaBean row = ((AddRowChange) change).getRow();
+      SqlDynaProperty[] rowProperties = getPropertiesForInsertion(model,
+          model.getDynaClassFor(row), row);
+      if (properties == null) {
+        properties = rowProperties;
+      } else if (!Arrays.equals(properties, rowProperties)) {
+        return null;
+      }
+    }
+    return properties;
+  }
+
+  private int insertSetBased(Connection connection, Table table, SqlDynaProperty[] properties,
+      List<Change> changes) throws SQLException, IOException {
+    List<Column> columns = new ArrayList<>();
+    for (SqlDynaProperty property : properties) {
+      Column column = table.findColumn(property.getName());
+      if (column != null) {
+        columns.add(column);
+      }
+    }
+    Timestamp date = getDateStatement(connection);
+    List<Object[]> rows = new ArrayList<>(changes.size());
+    for (Change change : changes) {
+      DynaBean row = ((AddRowChange) change).getRow();
+      Object[] values = new Object[columns.size()];
+      for (int i = 0; i < values.length; i++) {
+        String columnName = columns.get(i).getName();
+        values[i] = row.get(columnName);
+        // if value is missing handle the 4 audit columns specially
+        if (values[i] == null) {
+          values[i] = getAuditValue(columnName, date);
+        }
+      }
+      rows.add(values);
+    }
+
+    createStagingTable(connection, table, columns);
+    copyToStagingTable(connection, columns, rows);
+    String columnNames = getColumnNames(columns);
+    int count = executeUpdate(connection, "INSERT INTO " + table.getName() + " (" + columnNames
+        + ") SELECT " + columnNames + " FROM " + STAGING_TABLE);
+    dropStagingTable(connection);
+    return count;
+  }
+
+  /**
+   * Updates the rows in a statement for each set of changed columns, the audit columns of all of
+   * them are updated as well.
+   */
+  private int updateSetBased(Connection connection, Table table, List<Change> changes)
+      throws SQLException, IOException {
+    Column pk = table.getPrimaryKeyColumns()[0];
+    Timestamp date = getDateStatement(connection);
+
+    // changes of the same row are consecutive
+    Map<List<Column>, List<Object[]>> rowsByColumns = new LinkedHashMap<>();
+    int start = 0;
+    while (start < changes.size()) {
+      Object pkValue = ((ColumnDataChange) changes.get(start)).getPkRow();
+      int end = start + 1;
+      while (end < changes.size()
+          && pkValue.equals(((ColumnDataChange) changes.get(end)).getPkRow())) {
+        end++;
+      }
+      List<Change> rowChanges = changes.subList(start, end);
+
+      List<Column> columns = new ArrayList<>();
+      List<Object> values = new ArrayList<>();
+      columns.add(pk);
+      values.add(pkValue);
+      for (Column column : table.getColumns()) {
+        String columnName = column.getName();
+        Object value = null;
+        boolean changed = false;
+        for (Change change : rowChanges) {
+          ColumnDataChange columnChange = (ColumnDataChange) change;
+          if (columnName.equalsIgnoreCase(columnChange.getColumnname())) {
+            value = columnChange.getNewValue();
+            changed = true;
+            break;
+          }
+        }
+        if (columnName.equalsIgnoreCase("UPDATED") || columnName.equalsIgnoreCase("UPDATEDBY")
+            || (changed && getAuditValue(columnName, date) != null)) {
+          value = getAuditValue(columnName, date);
+          changed = true;
+        }
+        if (changed) {
+          columns.add(column);
+          values.add(value);
+        }
+      }
+      List<Object[]> rows = rowsByColumns.get(columns);
+      if (rows == null) {
+        rows = new ArrayList<>();
+        rowsByColumns.put(columns, rows);
+      }
+      rows.add(values.toArray());
+      start = end;
+    }
+
+    int count = 0;
+    for (Entry<List<Column>, List<Object[]>> rows : rowsByColumns.entrySet()) {
+      List<Column> columns = rows.getKey();
+      StringBuilder sql = new StringBuilder("UPDATE " + table.getName() + " SET ");
+      for (int i = 1; i < columns.size(); i++) {
+        String columnName = columns.get(i).getName();
+        sql.append(i > 1 ? ", " : "").append(columnName + " = S." + columnName);
+      }
+      sql.append(" FROM " + STAGING_TABLE + " S WHERE " + table.getName() + "." + pk.getName()
+          + " = S." + pk.getName());
+
+      createStagingTable(connection, table, columns);
+      copyToStagingTable(connection, columns, rows.getValue());
+      count += executeUpdate(connection, sql.toString());
+      dropStagingTable(connection);
+    }
+    return count;
+  }
+
+  private int deleteSetBased(Connection connection, Table table, List<Change> changes)
+      throws SQLException, IOException {
+    Column pk = table.getPrimaryKeyColumns()[0];
+    List<Object[]> rows = new ArrayList<>(changes.size());
+    for (Change change : changes) {
+      rows.add(new Object[] { ((RemoveRowChange) change).getRow().get(pk.getName()).toString() });
+    }
+
+    createStagingTable(connection, table, Arrays.asList(pk));
+    copyToStagingTable(connection, Arrays.asList(pk), rows);
+    int count = executeUpdate(connection, "DELETE FROM " + table.getName() + " USING "
+        + STAGING_TABLE + " S WHERE " + table.getName() + "." + pk.getName() + " = S."
+        + pk.getName());
+    dropStagingTable(connection);
+    return count;
+  }
+
+  /** Returns the value set in an audit column when it is inserted or updated, null otherwise */
+  private Object getAuditValue(String columnName, Timestamp date) {
+    if (columnName.equalsIgnoreCase("UPDATED") || columnName.equalsIgnoreCase("CREATED")) {
+      return date;
+    } else if (columnName.equalsIgnoreCase("UPDATEDBY")
+        || columnName.equalsIgnoreCase("CREATEDBY")) {
+      return "0";
+    }
+    return null;
+  }
+
+  /** Creates the staging table with the given columns of a table, with the same types */
+  private void createStagingTable(Connection connection, Table table, List<Column> columns)
+      throws SQLException {
+    executeUpdate(connection, "CREATE TEMPORARY TABLE " + STAGING_TABLE + " AS SELECT "
+        + getColumnNames(columns) + " FROM " + table.getName() + " WITH NO DATA");
+  }
+
+  private void dropStagingTable(Connection connection) throws SQLException {
+    executeUpdate(connection, "DROP TABLE " + STAGING_TABLE);
+  }
+
+  private int executeUpdate(Connection connection, String sql) throws SQLException {
+    if (getLog().isDebugEnabled()) {
+      getLog().debug("About to execute SQL: " + sql);
+    }
+    try (Statement statement = connection.createStatement()) {
+      return statement.executeUpdate(sql);
+    }
+  }
+
+  /** Copies the rows to the staging table using CSV format, values are always quoted */
+  private void copyToStagingTable(Connection connection, List<Column> columns, List<Object[]> rows)
+      throws SQLException, IOException {
+    CopyManager copyManager = new CopyManager(connection.unwrap(BaseConnection.class));
+    CopyIn copyIn = copyManager.copyIn("COPY " + STAGING_TABLE + " (" + getColumnNames(columns)
+        + ") FROM STDIN WITH (FORMAT CSV)");
+    try {
+      StringBuilder buffer = new StringBuilder();
+      for (Object[] row : rows) {
+        for (int i = 0; i < row.length; i++) {
+          if (i > 0) {
+            buffer.append(',');
+          }
+          // nulls are written as empty unquoted values
+          if (row[i] != null) {
+            buffer.append('"').append(getCopyValue(row[i]).replace("\"", "\"\"")).append('"');
+          }
+        }
+        buffer.append('\n');
+        if (buffer.length() >= COPY_BUFFER_SIZE) {
+          writeToCopy(copyIn, buffer);
+        }
+      }
+      writeToCopy(copyIn, buffer);
+      copyIn.endCopy();
+    } finally {
+      if (copyIn.isActive()) {
+        copyIn.cancelCopy();
+      }
+    }
+  }
+
+  private void writeToCopy(CopyIn copyIn, StringBuilder buffer) throws SQLException {
+    byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+    copyIn.writeToCopy(bytes, 0, bytes.length);
+    buffer.setLength(0);
+  }
+
+  private String getCopyValue(Object value) {
+    if (value instanceof BigDecimal) {
+      return ((BigDecimal) value).toPlainString();
+    } else if (value instanceof java.util.Date && !(value instanceof Timestamp)) {
+      return new Timestamp(((java.util.Date) value).getTime()).toString();
+    }
+    return value.toString();
+  }
+
+  private String getColumnNames(List<Column> columns) {
+    StringBuilder names = new StringBuilder();
+    for (Column column : columns) {
+      if (names.length() > 0) {
+        names.append(", ");
+      }
+      names.append(column.getName());
+    }
+    return names.toString();
+  }
+
   @Override
   public String limitOneRow() {
     return " LIMIT 1";
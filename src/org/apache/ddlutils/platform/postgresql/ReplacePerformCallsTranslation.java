@@ -0,0 +1,69 @@
+/*
+ ************************************************************************************
+ * Copyright (C) 2026 Openbravo S.L.U.
+ * Licensed under the Apache Software License version 2.0
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to  in writing,  software  distributed
+ * under the License is distributed  on  an  "AS IS"  BASIS,  WITHOUT  WARRANTIES  OR
+ * CONDITIONS OF ANY KIND, either  express  or  implied.  See  the  License  for  the
+ * specific language governing permissions and limitations under the License.
+ ************************************************************************************
+ */
+
+package org.apache.ddlutils.platform.postgresql;
+
+import java.sql.Types;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.ddlutils.model.Database;
+import org.apache.ddlutils.model.Function;
+import org.apache.ddlutils.translation.Translation;
+
+/**
+ * Removes the PERFORM keyword PostgreSQL requires to invoke functions not returning any value.
+ * All the calls are replaced in a single pass, looking up the invoked name among the void
+ * functions in the database instead of trying a different pattern per function.
+ */
+class ReplacePerformCallsTranslation implements Translation {
+  private static final Pattern PERFORM_CALL = Pattern
+      .compile("[Pp][Ee][Rr][Ff][Oo][Rr][Mm][\\s|\\t]*(\\w+)[\\s]*\\(");
+
+  /** Void functions names as they are returned, keyed by their upper case name */
+  private final Map<String, String> voidFunctions = new HashMap<>();
+
+  ReplacePerformCallsTranslation(Database database) {
+    for (int i = 0; i < database.getFunctionCount(); i++) {
+      Function function = database.getFunction(i);
+      if (function.getTypeCode() == Types.NULL) {
+        voidFunctions.putIfAbsent(function.getName().toUpperCase(), function.getName());
+      }
+    }
+  }
+
+  @Override
+  public String exec(String s) {
+    if (voidFunctions.isEmpty()) {
+      return s;
+    }
+    Matcher m = PERFORM_CALL.matcher(s);
+    StringBuilder sb = new StringBuilder(s.length());
+    int copiedUntil = 0;
+    int searchFrom = 0;
+    while (m.find(searchFrom)) {
+      String functionName = voidFunctions.get(m.group(1).toUpperCase());
+      if (functionName == null) {
+        // not a void function, a call could still start within the matched text
+        searchFrom = m.start() + 1;
+        continue;
+      }
+      sb.append(s, copiedUntil, m.start()).append(functionName).append('(');
+      copiedUntil = m.end();
+      searchFrom = m.end();
+    }
+    sb.append(s, copiedUntil, s.length());
+    return sb.toString();
+  }
+}
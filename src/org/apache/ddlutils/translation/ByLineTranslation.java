@@ -12,9 +12,9 @@
 
 package org.apache.ddlutils.translation;
 
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * 
@@ -31,20 +31,100 @@ public class ByLineTranslation implements Translation {
 
   @Override
   public String exec(String s) {
+    return execAll(Collections.singletonList(this), s);
+  }
+
+  /** Returns the anchor of the translation applied to each line */
+  String getLineAnchor() {
+    return t.getAnchor();
+  }
 
-    StringBuffer sb = new StringBuffer();
-    BufferedReader br = new BufferedReader(new StringReader(s));
+  /**
+   * Applies a sequence of translations to s splitting it in lines only once. The result is the
+   * same as executing each of them one after the other, which would split and join the whole
+   * string for each translation.
+   */
+  static String execAll(List<ByLineTranslation> translations, String s) {
+    return execAll(translations, new boolean[translations.size()], s);
+  }
+
+  /**
+   * Applies a sequence of translations as {@link #execAll(List, String)} does, skipping the ones
+   * flagged in skipped because they cannot modify s. They are still applied to the lines modified
+   * by the previous translations of the sequence.
+   */
+  static String execAll(List<ByLineTranslation> translations, boolean[] skipped, String s) {
+    if (isNormalized(s) && allSkipped(skipped)) {
+      return s;
+    }
+    StringBuilder sb = new StringBuilder(s.length() + 16);
+    for (String line : splitLines(s)) {
+      appendTranslatedLine(sb, translations, skipped, 0, line, false);
+    }
+    return sb.toString();
+  }
 
-    String inputStr;
-    try {
-      while ((inputStr = br.readLine()) != null) {
-        sb.append(t.exec(inputStr));
-        sb.append('\n');
+  private static void appendTranslatedLine(StringBuilder sb, List<ByLineTranslation> translations,
+      boolean[] skipped, int from, String line, boolean changed) {
+    String translatedLine = line;
+    boolean lineChanged = changed;
+    int last = translations.size() - 1;
+    for (int i = from; i <= last; i++) {
+      if (skipped[i] && !lineChanged) {
+        continue;
+      }
+      String previousLine = translatedLine;
+      translatedLine = translations.get(i).t.exec(translatedLine);
+      lineChanged = lineChanged || !translatedLine.equals(previousLine);
+      if (i < last && hasLineBreak(translatedLine)) {
+        // translation generated new lines, following translations treat them separately
+        for (String newLine : splitLines(translatedLine + '\n')) {
+          appendTranslatedLine(sb, translations, skipped, i + 1, newLine, true);
+        }
+        return;
       }
-    } catch (IOException e) {
     }
+    sb.append(translatedLine);
+    sb.append('\n');
+  }
 
-    return sb.toString();
+  /** Returns true if splitting s in lines and joining them back results in s */
+  private static boolean isNormalized(String s) {
+    return s.indexOf('\r') == -1 && (s.isEmpty() || s.charAt(s.length() - 1) == '\n');
+  }
+
+  private static boolean allSkipped(boolean[] skipped) {
+    for (boolean skip : skipped) {
+      if (!skip) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean hasLineBreak(String s) {
+    return s.indexOf('\n') != -1 || s.indexOf('\r') != -1;
+  }
+
+  /** Splits s in lines in the same way {@link java.io.BufferedReader#readLine()} does */
+  private static List<String> splitLines(String s) {
+    List<String> lines = new ArrayList<>();
+    int length = s.length();
+    int lineStart = 0;
+    for (int i = 0; i < length; i++) {
+      char c = s.charAt(i);
+      if (c == '\n' || c == '\r') {
+        lines.add(s.substring(lineStart, i));
+        if (c == '\r' && i + 1 < length && s.charAt(i + 1) == '\n') {
+          i++;
+        }
+        lineStart = i + 1;
+      }
+    }
+    if (lineStart < length) {
+      lines.add(s.substring(lineStart));
+    }
+    return lines;
   }
 
 }
@@ -13,8 +13,14 @@
 package org.apache.ddlutils.translation;
 
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
+ * Applies a sequence of translations. The anchors of all of them are looked for at once, so the
+ * ones that cannot modify the code are skipped without executing them.
  * 
  * @author adrian
  */
@@ -22,13 +28,36 @@ public class CombinedTranslation implements Translation {
 
   private ArrayList<Translation> _translations;
 
+  /** Instance whose translations this one starts with, null if none */
+  private final CombinedTranslation base;
+  /** Number of translations taken from base */
+  private final int baseTranslationCount;
+
+  /** Anchors of the translations, built on first execution */
+  private volatile Anchors anchors;
+
   /** Creates a new instance of CombinedTranslation */
   public CombinedTranslation() {
     _translations = new ArrayList<Translation>();
+    base = null;
+    baseTranslationCount = 0;
+  }
+
+  /**
+   * Creates a new instance starting with the same translations as base. Translations are shared
+   * with base, new ones appended to this instance do not modify it. The anchors of the shared
+   * translations are also taken from base, so only the ones of the appended translations are
+   * computed by this instance.
+   */
+  protected CombinedTranslation(CombinedTranslation base) {
+    _translations = new ArrayList<Translation>(base._translations);
+    this.base = base;
+    baseTranslationCount = _translations.size();
   }
 
   public final CombinedTranslation append(Translation t) {
     _translations.add(t);
+    anchors = null;
     return this;
   }
 
@@ -47,10 +76,123 @@ public class CombinedTranslation implements Translation {
       translatedCode = translatedCode.substring(ind);
     }
 
-    for (Translation t : _translations) {
-      translatedCode = t.exec(translatedCode);
+    Anchors currentAnchors = getAnchors();
+    int[] anchors = currentAnchors.positions;
+    BitSet foundAnchors = currentAnchors.find(translatedCode);
+
+    // consecutive by line translations are applied together, splitting the code only once
+    int byLineStart = -1;
+    for (int i = 0; i < _translations.size(); i++) {
+      Translation t = _translations.get(i);
+      if (t instanceof ByLineTranslation) {
+        if (byLineStart == -1) {
+          byLineStart = i;
+        }
+        continue;
+      }
+      if (byLineStart != -1) {
+        String byLineCode = execByLine(byLineStart, i, anchors, foundAnchors, translatedCode);
+        foundAnchors = findAnchorsIfChanged(currentAnchors, foundAnchors, translatedCode,
+            byLineCode);
+        translatedCode = byLineCode;
+        byLineStart = -1;
+      }
+      if (anchors[i] != -1 && !foundAnchors.get(anchors[i])) {
+        continue;
+      }
+      String newCode = t.exec(translatedCode);
+      foundAnchors = findAnchorsIfChanged(currentAnchors, foundAnchors, translatedCode, newCode);
+      translatedCode = newCode;
+    }
+    if (byLineStart != -1) {
+      translatedCode = execByLine(byLineStart, _translations.size(), anchors, foundAnchors,
+          translatedCode);
     }
     return initialBlanks + initialComments + translatedCode;
   }
 
+  private String execByLine(int from, int to, int[] anchors, BitSet foundAnchors, String code) {
+    List<ByLineTranslation> byLineTranslations = new ArrayList<ByLineTranslation>(to - from);
+    boolean[] skipped = new boolean[to - from];
+    for (int i = from; i < to; i++) {
+      byLineTranslations.add((ByLineTranslation) _translations.get(i));
+      skipped[i - from] = anchors[i] != -1 && !foundAnchors.get(anchors[i]);
+    }
+    return ByLineTranslation.execAll(byLineTranslations, skipped, code);
+  }
+
+  /** Anchors need to be looked for again once a translation modifies the code */
+  private static BitSet findAnchorsIfChanged(Anchors currentAnchors, BitSet foundAnchors,
+      String oldCode, String newCode) {
+    return oldCode.equals(newCode) ? foundAnchors : currentAnchors.find(newCode);
+  }
+
+  private Anchors getAnchors() {
+    Anchors currentAnchors = anchors;
+    if (currentAnchors != null) {
+      return currentAnchors;
+    }
+    synchronized (this) {
+      if (anchors == null) {
+        Anchors shared = base == null ? null : base.getAnchors();
+        anchors = new Anchors(shared, baseTranslationCount, _translations);
+      }
+      return anchors;
+    }
+  }
+
+  /**
+   * Anchors of a list of translations. The ones of the first translations can be taken from
+   * another instance, in that case only the literals of the rest are added to a new prefilter.
+   */
+  private static class Anchors {
+    private final Anchors shared;
+    /** Looks for the literals not included in shared */
+    private final LiteralPrefilter prefilter;
+    /** Position of the first literal of prefilter in the found anchors */
+    private final int firstLiteral;
+    private final int literalCount;
+    /** Position of the anchor of each translation in the found anchors, -1 if it has no anchor */
+    private final int[] positions;
+
+    private Anchors(Anchors shared, int sharedTranslationCount, List<Translation> translations) {
+      this.shared = shared;
+      firstLiteral = shared == null ? 0 : shared.literalCount;
+      positions = new int[translations.size()];
+      if (shared != null) {
+        System.arraycopy(shared.positions, 0, positions, 0, sharedTranslationCount);
+      }
+      Map<String, Integer> literalPositions = new HashMap<String, Integer>();
+      List<String> literals = new ArrayList<String>();
+      for (int i = sharedTranslationCount; i < translations.size(); i++) {
+        Translation t = translations.get(i);
+        String anchor = t instanceof ByLineTranslation ? ((ByLineTranslation) t).getLineAnchor()
+            : t.getAnchor();
+        if (anchor == null) {
+          positions[i] = -1;
+          continue;
+        }
+        Integer position = literalPositions.get(anchor);
+        if (position == null) {
+          position = literals.size();
+          literalPositions.put(anchor, position);
+          literals.add(anchor);
+        }
+        positions[i] = firstLiteral + position;
+      }
+      prefilter = new LiteralPrefilter(literals);
+      literalCount = firstLiteral + literals.size();
+    }
+
+    /** Returns the positions of the anchors found in code */
+    private BitSet find(String code) {
+      BitSet found = shared == null ? new BitSet(literalCount) : shared.find(code);
+      BitSet own = prefilter.find(code);
+      for (int i = own.nextSetBit(0); i >= 0; i = own.nextSetBit(i + 1)) {
+        found.set(firstLiteral + i);
+      }
+      return found;
+    }
+  }
+
 }
@@ -0,0 +1,415 @@
+/*
+ ************************************************************************************
+ * Copyright (C) 2026 Openbravo S.L.U.
+ * Licensed under the Apache Software License version 2.0
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to  in writing,  software  distributed
+ * under the License is distributed  on  an  "AS IS"  BASIS,  WITHOUT  WARRANTIES  OR
+ * CONDITIONS OF ANY KIND, either  express  or  implied.  See  the  License  for  the
+ * specific language governing permissions and limitations under the License.
+ ************************************************************************************
+ */
+
+package org.apache.ddlutils.translation;
+
+import java.util.ArrayDeque;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * Finds in a single pass which ones of a set of literals are present in a text, ignoring the case
+ * of ASCII letters. It is an Aho-Corasick automaton used to decide which translations can modify
+ * a piece of code, see {@link Translation#getAnchor()}.
+ */
+final class LiteralPrefilter {
+  private static final int MIN_ANCHOR_LENGTH = 2;
+  private static final int[] NO_LITERALS = new int[0];
+
+  private final Node root = new Node();
+  private final int literalCount;
+
+  /**
+   * @param literals
+   *          the literals to look for, the position in this list is the one set in the result of
+   *          {@link #find(String)}
+   */
+  LiteralPrefilter(List<String> literals) {
+    literalCount = literals.size();
+    for (int i = 0; i < literals.size(); i++) {
+      Node node = root;
+      String literal = literals.get(i);
+      for (int j = 0; j < literal.length(); j++) {
+        node = node.addChild(toLowerCase(literal.charAt(j)));
+      }
+      node.literals = append(node.literals, i);
+    }
+    root.buildChildren();
+
+    // failure links are computed breadth first, so the ones of shorter prefixes are already set
+    Deque<Node> pending = new ArrayDeque<>();
+    for (Node child : root.children) {
+      child.fail = root;
+      pending.add(child);
+    }
+    while (!pending.isEmpty()) {
+      Node node = pending.poll();
+      for (int i = 0; i < node.keys.length; i++) {
+        Node child = node.children[i];
+        Node fail = node.fail;
+        while (fail != root && fail.next(node.keys[i]) == null) {
+          fail = fail.fail;
+        }
+        Node next = fail.next(node.keys[i]);
+        child.fail = next == null ? root : next;
+        for (int literal : child.fail.literals) {
+          child.literals = append(child.literals, literal);
+        }
+        pending.add(child);
+      }
+    }
+  }
+
+  /** Returns the positions of the literals found in text */
+  BitSet find(String text) {
+    BitSet found = new BitSet(literalCount);
+    int pendingLiterals = literalCount;
+    Node state = root;
+    int length = text.length();
+    for (int i = 0; i < length && pendingLiterals > 0; i++) {
+      char c = toLowerCase(text.charAt(i));
+      Node next = state.next(c);
+      while (next == null && state != root) {
+        state = state.fail;
+        next = state.next(c);
+      }
+      state = next == null ? root : next;
+      for (int literal : state.literals) {
+        if (!found.get(literal)) {
+          found.set(literal);
+          pendingLiterals--;
+        }
+      }
+    }
+    return found;
+  }
+
+  private static char toLowerCase(char c) {
+    return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+  }
+
+  private static int[] append(int[] values, int value) {
+    int[] result = new int[values.length + 1];
+    System.arraycopy(values, 0, result, 0, values.length);
+    result[values.length] = value;
+    return result;
+  }
+
+  private static class Node {
+    private Map<Character, Node> newChildren = new TreeMap<>();
+    private char[] keys;
+    private Node[] children;
+    private Node fail;
+    private int[] literals = NO_LITERALS;
+
+    private Node addChild(char c) {
+      return newChildren.computeIfAbsent(c, k -> new Node());
+    }
+
+    /** Moves the children to sorted arrays, which are faster to look up */
+    private void buildChildren() {
+      keys = new char[newChildren.size()];
+      children = new Node[newChildren.size()];
+      int i = 0;
+      for (Map.Entry<Character, Node> child : newChildren.entrySet()) {
+        keys[i] = child.getKey();
+        children[i] = child.getValue();
+        children[i].buildChildren();
+        i++;
+      }
+      newChildren = null;
+    }
+
+    private Node next(char c) {
+      int low = 0;
+      int high = keys.length - 1;
+      while (low <= high) {
+        int mid = (low + high) >>> 1;
+        if (keys[mid] < c) {
+          low = mid + 1;
+        } else if (keys[mid] > c) {
+          high = mid - 1;
+        } else {
+          return children[mid];
+        }
+      }
+      return null;
+    }
+  }
+
+  /**
+   * Returns the longest literal that must be present, ignoring the case of ASCII letters, in any
+   * text matched by pattern. Only the parts of the pattern that are obviously literal are taken
+   * into account, null is returned if no such literal is found.
+   */
+  static String getRequiredLiteral(Pattern pattern) {
+    int unsupportedFlags = Pattern.COMMENTS | Pattern.LITERAL | Pattern.UNICODE_CASE
+        | Pattern.UNICODE_CHARACTER_CLASS | Pattern.CANON_EQ;
+    String regex = pattern.pattern();
+    if ((pattern.flags() & unsupportedFlags) != 0 || regex.contains("\\Q")) {
+      return null;
+    }
+    try {
+      RegexScanner scanner = new RegexScanner(regex, 0, regex.length());
+      StringBuilder run = new StringBuilder();
+      String longest = "";
+      int lastLiteralStart = -1;
+      while (scanner.hasNext()) {
+        switch (scanner.next()) {
+        case LITERAL:
+          lastLiteralStart = run.length();
+          run.append(scanner.literal);
+          break;
+        case FLAGS:
+          lastLiteralStart = -1;
+          break;
+        case OPTIONAL:
+          // the previous token can be missing
+          if (lastLiteralStart != -1) {
+            run.setLength(lastLiteralStart);
+          }
+          // fall through
+        case REPEATED:
+        case OTHER:
+          if (run.length() > longest.length()) {
+            longest = run.toString();
+          }
+          run.setLength(0);
+          lastLiteralStart = -1;
+          break;
+        default:
+          return null;
+        }
+      }
+      if (run.length() > longest.length()) {
+        longest = run.toString();
+      }
+      return longest.length() >= MIN_ANCHOR_LENGTH ? longest : null;
+    } catch (IndexOutOfBoundsException e) {
+      return null;
+    }
+  }
+
+  private enum Token {
+    /** matches exactly the text in {@link RegexScanner#literal} */
+    LITERAL,
+    /** inline flags not affecting to literals */
+    FLAGS,
+    /** quantifier that allows the previous token not to be present */
+    OPTIONAL,
+    /** quantifier that requires the previous token to be present at least once */
+    REPEATED,
+    /** anything else that can be safely ignored */
+    OTHER,
+    /** alternation or constructs that are not understood */
+    UNSUPPORTED
+  }
+
+  /** Splits a regular expression in tokens, just enough to find the literals in it */
+  private static class RegexScanner {
+    private final String regex;
+    private final int end;
+    private int pos;
+    private String literal;
+
+    private RegexScanner(String regex, int start, int end) {
+      this.regex = regex;
+      this.pos = start;
+      this.end = end;
+    }
+
+    private boolean hasNext() {
+      return pos < end;
+    }
+
+    private Token next() {
+      char c = regex.charAt(pos++);
+      switch (c) {
+      case '\\':
+        return escape();
+      case '[':
+        return characterClass();
+      case '(':
+        return group();
+      case '*':
+      case '?':
+        skipQuantifierMode();
+        return Token.OPTIONAL;
+      case '+':
+        skipQuantifierMode();
+        return Token.REPEATED;
+      case '{':
+        int close = regex.indexOf('}', pos);
+        if (close == -1 || close >= end) {
+          return Token.UNSUPPORTED;
+        }
+        pos = close + 1;
+        skipQuantifierMode();
+        return Token.OPTIONAL;
+      case '.':
+      case '^':
+      case '$':
+        return Token.OTHER;
+      case '|':
+      case ')':
+        return Token.UNSUPPORTED;
+      default:
+        return literal(c);
+      }
+    }
+
+    private Token literal(char c) {
+      if (c > 127) {
+        return Token.OTHER;
+      }
+      literal = String.valueOf(toLowerCase(c));
+      return Token.LITERAL;
+    }
+
+    private void skipQuantifierMode() {
+      if (pos < end && (regex.charAt(pos) == '?' || regex.charAt(pos) == '+')) {
+        pos++;
+      }
+    }
+
+    private Token escape() {
+      char c = regex.charAt(pos++);
+      if (!Character.isLetterOrDigit(c)) {
+        return literal(c);
+      }
+      if (Character.isDigit(c)) {
+        // back reference, following digits can be part of it
+        while (pos < end && Character.isDigit(regex.charAt(pos))) {
+          pos++;
+        }
+        return Token.OTHER;
+      }
+      // predefined character classes and boundaries, without arguments
+      return "sSdDwWbBtnrfaehHvVRXAGzZ".indexOf(c) != -1 ? Token.OTHER : Token.UNSUPPORTED;
+    }
+
+    private Token characterClass() {
+      int start = pos;
+      pos = skipCharacterClass(pos);
+      if (pos == -1 || pos > end) {
+        return Token.UNSUPPORTED;
+      }
+      String content = regex.substring(start, pos - 1);
+      if (content.length() == 1 && content.charAt(0) != '^') {
+        return literal(content.charAt(0));
+      }
+      if (content.length() == 2 && content.charAt(0) == '\\'
+          && !Character.isLetterOrDigit(content.charAt(1))) {
+        return literal(content.charAt(1));
+      }
+      if (content.length() == 2 && content.charAt(0) != '^' && content.charAt(0) < 128
+          && toLowerCase(content.charAt(0)) == toLowerCase(content.charAt(1))) {
+        // as in [Aa], built to match a letter in any case
+        return literal(content.charAt(0));
+      }
+      return Token.OTHER;
+    }
+
+    private Token group() {
+      int start = pos;
+      int depth = 1;
+      while (depth > 0) {
+        char c = regex.charAt(pos++);
+        if (c == '\\') {
+          pos++;
+        } else if (c == '[') {
+          pos = skipCharacterClass(pos);
+          if (pos == -1) {
+            return Token.UNSUPPORTED;
+          }
+        } else if (c == '(') {
+          depth++;
+        } else if (c == ')') {
+          depth--;
+        }
+      }
+      if (pos > end) {
+        return Token.UNSUPPORTED;
+      }
+      int contentEnd = pos - 1;
+      if (regex.charAt(start) != '?') {
+        return exactLiteral(start, contentEnd);
+      }
+      String construct = regex.substring(start + 1, contentEnd);
+      int flagsEnd = 0;
+      while (flagsEnd < construct.length() && (Character.isLetter(construct.charAt(flagsEnd))
+          || construct.charAt(flagsEnd) == '-')) {
+        flagsEnd++;
+      }
+      String flags = construct.substring(0, flagsEnd);
+      if (flagsEnd == construct.length() && !flags.isEmpty()) {
+        // inline flags, affect the rest of the expression
+        return flags.matches("[imsd-]+") ? Token.FLAGS : Token.UNSUPPORTED;
+      }
+      if (construct.charAt(flagsEnd) == ':') {
+        // non capturing group, optionally with flags
+        return flags.matches("[imsd-]*") ? exactLiteral(start + flagsEnd + 2, contentEnd)
+            : Token.UNSUPPORTED;
+      }
+      // lookarounds, named and atomic groups
+      return Token.OTHER;
+    }
+
+    /**
+     * Returns the position after the end of the character class starting at from, or -1 if it
+     * starts with a closing bracket, which is taken as part of the class.
+     */
+    private int skipCharacterClass(int from) {
+      int i = from;
+      int depth = 1;
+      boolean classStart = true;
+      while (depth > 0) {
+        char c = regex.charAt(i++);
+        if (classStart && c == '^') {
+          continue;
+        }
+        if (classStart && c == ']') {
+          return -1;
+        }
+        classStart = false;
+        if (c == '\\') {
+          i++;
+        } else if (c == '[') {
+          depth++;
+          classStart = true;
+        } else if (c == ']') {
+          depth--;
+        }
+      }
+      return i;
+    }
+
+    /** Returns LITERAL if the regular expression between start and end only matches a literal */
+    private Token exactLiteral(int start, int contentEnd) {
+      RegexScanner content = new RegexScanner(regex, start, contentEnd);
+      StringBuilder text = new StringBuilder();
+      while (content.hasNext()) {
+        if (content.next() != Token.LITERAL) {
+          // whatever it is, it is enclosed in the group
+          return Token.OTHER;
+        }
+        text.append(content.literal);
+      }
+      literal = text.toString();
+      return Token.LITERAL;
+    }
+  }
+}
@@ -24,6 +24,10 @@ public class ReplacePatTranslation implements Translation {
   protected Pattern _p;
   protected String _replaceStr;
 
+  /** Pattern whose anchor is cached, it is set again if subclasses change the pattern */
+  private Pattern anchorPattern;
+  private String anchor;
+
   protected ReplacePatTranslation() {
     _p = null;
     _replaceStr = null;
@@ -31,7 +35,12 @@ public class ReplacePatTranslation implements Translation {
 
   /** Creates a new instance of ReplaceTranslation */
   public ReplacePatTranslation(String pattern, String replaceStr) {
-    _p = Pattern.compile(pattern);
+    this(Pattern.compile(pattern), replaceStr);
+  }
+
+  /** Creates a new instance of ReplaceTranslation reusing an already compiled pattern */
+  public ReplacePatTranslation(Pattern pattern, String replaceStr) {
+    _p = pattern;
     _replaceStr = replaceStr;
   }
 
@@ -48,4 +57,17 @@ public class ReplacePatTranslation implements Translation {
 
   }
 
+  /** The anchor is the longest literal text required by the pattern, if any */
+  @Override
+  public synchronized String getAnchor() {
+    if (_p == null) {
+      return null;
+    }
+    if (anchorPattern != _p) {
+      anchor = LiteralPrefilter.getRequiredLiteral(_p);
+      anchorPattern = _p;
+    }
+    return anchor;
+  }
+
 }
@@ -20,4 +20,16 @@ public interface Translation {
 
   public String exec(String s);
 
+  /**
+   * Returns a literal text that must be present in a string for this translation to modify it.
+   * It is compared ignoring the case of ASCII letters. {@link CombinedTranslation} skips
+   * translations whose anchor is not found in the code being translated.
+   * 
+   * @return the anchor of this translation or null if it cannot be determined, in which case the
+   *         translation is always executed
+   */
+  public default String getAnchor() {
+    return null;
+  }
+
 }
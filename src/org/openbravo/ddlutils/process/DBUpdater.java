@@ -30,6 +30,7 @@ import org.apache.ddlutils.alteration.RemoveRowChange;
 import org.apache.ddlutils.io.DatabaseIO;
 import org.apache.ddlutils.model.*;
 import org.apache.ddlutils.platform.ExcludeFilter;
+import org.apache.ddlutils.platform.TableRecreation;
 import org.apache.log4j.Logger;
 import org.apache.tools.ant.BuildException;
 import org.apache.tools.ant.DirectoryScanner;
@@ -64,6 +65,9 @@ public class DBUpdater {
   private List<String> configScripts;
   private boolean checkFormalChanges;
   private boolean updateModuleInstallTables;
+  private boolean parallelDataComparison;
+  private boolean streamingDataComparison;
+  private boolean explainTableRecreations;
 
   private enum ScriptType {
     DEFAULT, SYSTEM;
@@ -85,6 +89,10 @@ public class DBUpdater {
       Database db = readDatabaseModelWithoutConfigScript();
       DatabaseData newData = readADData(db);
       applyConfigScripts(db, newData);
+      if (explainTableRecreations) {
+        logTableRecreations(originaldb, db);
+        return db;
+      }
       OBDataset ad = getADDataset(newData);
       checkIfDBWasModified(ad);
       executeSystemPreScript();
@@ -148,6 +156,7 @@ public class DBUpdater {
 
       checkErrors(postscriptCorrect, fksEnabled, triggersEnabled);
       checkFormalChanges(db, newData, ad);
+      platform.getModelLoader().saveModelSnapshot();
       return db;
     } catch (final Exception e) {
       e.printStackTrace();
@@ -157,6 +166,18 @@ public class DBUpdater {
     }
   }
 
+  private void logTableRecreations(Database originaldb, Database db) {
+    List<TableRecreation> recreations = platform.getTableRecreations(originaldb, db);
+    log.info("Tables that would be recreated: " + recreations.size());
+    for (TableRecreation recreation : recreations) {
+      log.info("  " + recreation.getTableName());
+      for (String reason : recreation.getReasons()) {
+        log.info("       " + reason);
+      }
+    }
+    log.info("Database not updated, only the table recreations were explained");
+  }
+
   private void computeTablesWithRemovedOrInsertedRecords(Vector<Change> changes, OBDataset ad,
       Set<String> adTablesWithRemovedOrInsertedRecords, Set<String> adTablesWithRemovedRecords) {
     for (Change dataChange : changes) {
@@ -277,7 +298,8 @@ public class DBUpdater {
         modulesBaseDir[i] = basedir == null ? null : auxBasedir + modulesBaseDir[i] + "/";
       }
       DBSMOBUtil.getInstance()
-          .loadDataStructures(dbData, db, modulesBaseDir, datafilter, baseSrcAD);
+          .loadDataStructures(dbData, db, modulesBaseDir, datafilter, baseSrcAD,
+              platform.getMaxThreads());
     }
     dbData.setStrictMode(strict);
     return dbData;
@@ -345,6 +367,8 @@ public class DBUpdater {
     log.info("Comparing databases to find data differences...");
     final DataComparator dataComparator = new DataComparator(
         platform.getSqlBuilder().getPlatformInfo(), platform.isDelimitedIdentifierModeOn());
+    dataComparator.setParallelComparison(parallelDataComparison);
+    dataComparator.setStreamingComparison(streamingDataComparison);
     dataComparator.compareToUpdate(db, platform, newData, ad, null);
     return dataComparator;
   }
@@ -491,4 +515,20 @@ public class DBUpdater {
   public void setUpdateModuleInstallTables(boolean updateModuleInstallTables) {
     this.updateModuleInstallTables = updateModuleInstallTables;
   }
+
+  public void setParallelDataComparison(boolean parallelDataComparison) {
+    this.parallelDataComparison = parallelDataComparison;
+  }
+
+  public void setStreamingDataComparison(boolean streamingDataComparison) {
+    this.streamingDataComparison = streamingDataComparison;
+  }
+
+  /**
+   * When set, the update only logs the tables that would be recreated and why, without modifying
+   * the database
+   */
+  public void setExplainTableRecreations(boolean explainTableRecreations) {
+    this.explainTableRecreations = explainTableRecreations;
+  }
 }
@@ -61,6 +61,17 @@ public class AlterDatabaseDataAll extends BaseDatabaseTask {
   private boolean executeModuleScripts = true;
 
   private int threads = 0;
+  private boolean bulkModelLoading = false;
+  private boolean parallelModelLoading = false;
+  private boolean parallelDataComparison = false;
+  private boolean streamingDataComparison = false;
+  private int dataChangesBatchSize = 0;
+  private int setBasedDataChangesThreshold = 0;
+  private boolean concurrentConstraintValidation = false;
+  private boolean combinedOnCreateDefaults = false;
+  private boolean concurrentTableStructureChanges = false;
+  private boolean explainTableRecreations = false;
+  private File modelSnapshotFile;
   private DBUpdater dbUpdater;
 
   @Override
@@ -91,6 +102,9 @@ public class AlterDatabaseDataAll extends BaseDatabaseTask {
       dbUpdater.setCheckDBModified(true);
       dbUpdater.setCheckFormalChanges(true);
       dbUpdater.setUpdateModuleInstallTables(true);
+      dbUpdater.setParallelDataComparison(parallelDataComparison);
+      dbUpdater.setStreamingDataComparison(streamingDataComparison);
+      dbUpdater.setExplainTableRecreations(explainTableRecreations);
     }
     return dbUpdater;
   }
@@ -105,6 +119,14 @@ public class AlterDatabaseDataAll extends BaseDatabaseTask {
       platform.setSystemDataSource(systemds);
     }
     platform.setMaxThreads(threads);
+    platform.setDataChangesBatchSize(dataChangesBatchSize);
+    platform.setSetBasedDataChangesThreshold(setBasedDataChangesThreshold);
+    platform.setConcurrentConstraintValidation(concurrentConstraintValidation);
+    platform.setCombinedOnCreateDefaults(combinedOnCreateDefaults);
+    platform.setConcurrentTableStructureChanges(concurrentTableStructureChanges);
+    platform.getModelLoader().setBulkLoading(bulkModelLoading);
+    platform.getModelLoader().setParallelLoading(parallelModelLoading);
+    platform.getModelLoader().setModelSnapshotFile(modelSnapshotFile);
     if (!StringUtils.isEmpty(forcedRecreation)) {
       getLog().info("Forced recreation: " + forcedRecreation);
     }
@@ -333,4 +355,59 @@ public class AlterDatabaseDataAll extends BaseDatabaseTask {
     this.threads = threads;
   }
 
+  /** Defines whether the model is read from catalog in bulk instead of table by table */
+  public void setBulkModelLoading(boolean bulkModelLoading) {
+    this.bulkModelLoading = bulkModelLoading;
+  }
+
+  /** Defines whether tables are read concurrently using up to threads connections */
+  public void setParallelModelLoading(boolean parallelModelLoading) {
+    this.parallelModelLoading = parallelModelLoading;
+  }
+
+  /** Defines whether table data is compared concurrently using up to threads connections */
+  public void setParallelDataComparison(boolean parallelDataComparison) {
+    this.parallelDataComparison = parallelDataComparison;
+  }
+
+  /** Defines whether table rows are compared while they are read, without keeping them in memory */
+  public void setStreamingDataComparison(boolean streamingDataComparison) {
+    this.streamingDataComparison = streamingDataComparison;
+  }
+
+  /** Defines how many rows are sent to the database in each batch when applying data changes */
+  public void setDataChangesBatchSize(int dataChangesBatchSize) {
+    this.dataChangesBatchSize = dataChangesBatchSize;
+  }
+
+  /** Defines from how many changes in a table they are applied with set based statements */
+  public void setSetBasedDataChangesThreshold(int setBasedDataChangesThreshold) {
+    this.setBasedDataChangesThreshold = setBasedDataChangesThreshold;
+  }
+
+  /** Defines whether constraints are created without validation and validated concurrently */
+  public void setConcurrentConstraintValidation(boolean concurrentConstraintValidation) {
+    this.concurrentConstraintValidation = concurrentConstraintValidation;
+  }
+
+  /** Defines whether the onCreateDefault values of a table are set with a single statement */
+  public void setCombinedOnCreateDefaults(boolean combinedOnCreateDefaults) {
+    this.combinedOnCreateDefaults = combinedOnCreateDefaults;
+  }
+
+  /** Defines whether the structure of different tables is changed concurrently */
+  public void setConcurrentTableStructureChanges(boolean concurrentTableStructureChanges) {
+    this.concurrentTableStructureChanges = concurrentTableStructureChanges;
+  }
+
+  /** Defines whether only the tables that would be recreated are logged, without updating */
+  public void setExplainTableRecreations(boolean explainTableRecreations) {
+    this.explainTableRecreations = explainTableRecreations;
+  }
+
+  /** Defines the file where the model read from database is kept to be reused by next loads */
+  public void setModelSnapshotFile(File modelSnapshotFile) {
+    this.modelSnapshotFile = modelSnapshotFile;
+  }
+
 }
@@ -27,7 +27,6 @@ import org.apache.ddlutils.PlatformFactory;
 import org.apache.ddlutils.alteration.AddForeignKeyChange;
 import org.apache.ddlutils.alteration.Change;
 import org.apache.ddlutils.alteration.DataComparator;
-import org.apache.ddlutils.alteration.ModelComparator;
 import org.apache.ddlutils.io.DataReader;
 import org.apache.ddlutils.io.DataToArraySink;
 import org.apache.ddlutils.io.DatabaseDataIO;
@@ -241,9 +240,8 @@ public class AlterDatabaseDataMod extends BaseDatabaseTask {
 
         if (row.prefixes.size() > 0) {
           getLog().info("Updating database model...");
-          ModelComparator comparator = new ModelComparator(platform.getPlatformInfo(),
-              platform.isDelimitedIdentifierModeOn());
-          List changes = comparator.compare(originaldb, db);
+          // the changes are reused by alterTables, as the models are not modified in between
+          List changes = platform.getSqlBuilder().getModelChanges(originaldb, db);
           for (int i = 0; i < changes.size(); i++) {
             if (changes.get(i) instanceof AddForeignKeyChange) {
               AddForeignKeyChange change = (AddForeignKeyChange) changes.get(i);
@@ -299,7 +299,7 @@ public class CreateDatabase extends BaseDatabaseTask {
     dataReader.getSink().end();
 
     DatabaseData dbData = new DatabaseData(db);
-    DatabaseUtils.readDataModuleInfo(db, dbData, basedir);
+    DatabaseUtils.readDataModuleInfo(db, dbData, basedir, platform.getMaxThreads());
     for (String template : DBSMOBUtil.getInstance().getSortedTemplates(dbData)) {
       File configScript = null;
       getLog().info("Checking template: " + template);
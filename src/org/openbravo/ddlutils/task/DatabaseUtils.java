@@ -111,7 +111,9 @@ public class DatabaseUtils {
    */
   private static Database applyConfigScriptsIntoModel(Database d, ConfigScriptConfig config) {
     final DatabaseData dbDataPartialModel = new DatabaseData(d);
-    readDataModuleInfo(d, dbDataPartialModel, config.getBasedir());
+    Platform platform = config.getPlatform();
+    readDataModuleInfo(d, dbDataPartialModel, config.getBasedir(),
+        platform == null ? 1 : platform.getMaxThreads());
     DBSMOBUtil.getInstance()
         .applyConfigScripts(config.getPlatform(), dbDataPartialModel, d,
             config.getBasedir() + "/modules/", config.isStrict(),
@@ -124,7 +126,8 @@ public class DatabaseUtils {
    * configScripts defined in the template modules when it isn't exists a database yet: Install
    * source task,...
    */
-  protected static void readDataModuleInfo(Database d, DatabaseData dbdata, String path) {
+  protected static void readDataModuleInfo(Database d, DatabaseData dbdata, String path,
+      int threads) {
     log.debug("Loading data for AD_MODULE and AD_MODULE_DEPENDENCY from XML files");
     Vector<File> dirs = new Vector<File>();
     addModuleFilesIfExist(dirs, path);
@@ -132,7 +135,7 @@ public class DatabaseUtils {
     ModulesUtil.get(path).forEach(moduleDir ->
             addModuleFilesIfExist(dirs, moduleDir.getAbsolutePath()));
 
-    DBSMOBUtil.getInstance().readDataIntoDatabaseData(d, dbdata, dirs);
+    DBSMOBUtil.getInstance().readDataIntoDatabaseData(d, dbdata, dirs, threads);
   }
 
   private static void addModuleFilesIfExist(Vector<File> dirs, String path) {
@@ -78,6 +78,10 @@ public class ExportDatabase extends BaseDalInitializingTask {
   private boolean checkTranslationConsistency = true;
   private boolean rd;
   private int threads = 0;
+  private int queryFetchSize = 0;
+  private boolean bulkModelLoading = false;
+  private boolean parallelModelLoading = false;
+  private File modelSnapshotFile;
 
   /** Creates a new instance of ExportDatabase */
   public ExportDatabase() {
@@ -121,6 +125,10 @@ public class ExportDatabase extends BaseDalInitializingTask {
 
     final Platform platform = PlatformFactory.createNewPlatformInstance(ds);
     platform.setMaxThreads(threads);
+    platform.setQueryFetchSize(queryFetchSize);
+    platform.getModelLoader().setBulkLoading(bulkModelLoading);
+    platform.getModelLoader().setParallelLoading(parallelModelLoading);
+    platform.getModelLoader().setModelSnapshotFile(modelSnapshotFile);
 
     if (!DBSMOBUtil.verifyCheckSum(new File(openbravoRootPath).getAbsolutePath())) {
       if (force) {
@@ -157,7 +165,7 @@ public class ExportDatabase extends BaseDalInitializingTask {
       getLog().info("Loading data structures from: " + Arrays.toString(modulesDir.toArray()));
 
       DBSMOBUtil.getInstance()
-              .loadDataStructures(databaseOrgData, dbForAD, modulesDir.toArray(new String[0]), "*/src-db/database/sourcedata", output);
+              .loadDataStructures(databaseOrgData, dbForAD, modulesDir.toArray(new String[0]), "*/src-db/database/sourcedata", output, platform.getMaxThreads());
 
       OBDataset ad = new OBDataset(databaseOrgData, "AD");
 
@@ -232,7 +240,7 @@ public class ExportDatabase extends BaseDalInitializingTask {
         }
 
         getLog().debug("  Path: " + path);
-        io.writeToDir(dbI, path);
+        io.writeToDir(dbI, path, platform.getMaxThreads());
       }
 
       if (validateModel) {
@@ -381,6 +389,7 @@ public class ExportDatabase extends BaseDalInitializingTask {
         DBSMOBUtil.writeCheckSumInfo(new File(openbravoRootPath).getAbsolutePath());
         DBSMOBUtil.getInstance().updateCRC();
       }
+      platform.getModelLoader().saveModelSnapshot();
     } catch (Exception e) {
       throw new BuildException(e);
     }
@@ -577,4 +586,24 @@ public class ExportDatabase extends BaseDalInitializingTask {
   public void setThreads(int threads) {
     this.threads = threads;
   }
+
+  /** Defines how many rows are fetched at once when the data of the tables is exported */
+  public void setQueryFetchSize(int queryFetchSize) {
+    this.queryFetchSize = queryFetchSize;
+  }
+
+  /** Defines whether the model is read from catalog in bulk instead of table by table */
+  public void setBulkModelLoading(boolean bulkModelLoading) {
+    this.bulkModelLoading = bulkModelLoading;
+  }
+
+  /** Defines whether tables are read concurrently using up to threads connections */
+  public void setParallelModelLoading(boolean parallelModelLoading) {
+    this.parallelModelLoading = parallelModelLoading;
+  }
+
+  /** Defines the file where the model read from database is kept to be reused by next loads */
+  public void setModelSnapshotFile(File modelSnapshotFile) {
+    this.modelSnapshotFile = modelSnapshotFile;
+  }
 }
@@ -109,6 +109,7 @@ public class ExportSampledata extends BaseDatabaseTask {
   private Map<String, Integer> exportedTablesCount = new HashMap<>();
 
   private int nThreads = 0;
+  private int queryFetchSize = 0;
 
   public ExportSampledata() {
   }
@@ -148,6 +149,7 @@ public class ExportSampledata extends BaseDatabaseTask {
 
     final Platform platform = PlatformFactory.createNewPlatformInstance(ds);
     platform.setMaxThreads(nThreads);
+    platform.setQueryFetchSize(queryFetchSize);
     try {
       final DBSMOBUtil util = DBSMOBUtil.getInstance();
       util.getModules(platform, excludeFilter);
@@ -168,7 +170,7 @@ public class ExportSampledata extends BaseDatabaseTask {
       getLog().info("Loading data structures from: " + Arrays.toString(modulesDir.toArray()));
 
       DBSMOBUtil.getInstance()
-              .loadDataStructures(databaseOrgData, db, modulesDir.toArray(new String[0]), "*/src-db/database/sourcedata", new File(basedir, "src-db/database/sourcedata"));
+              .loadDataStructures(databaseOrgData, db, modulesDir.toArray(new String[0]), "*/src-db/database/sourcedata", new File(basedir, "src-db/database/sourcedata"), platform.getMaxThreads());
 
       getLog().info("Exporting client " + client + " to module: " + module);
 
@@ -287,6 +289,11 @@ public class ExportSampledata extends BaseDatabaseTask {
     this.nThreads = nThreads;
   }
 
+  /** Defines how many rows are fetched at once when the data of the tables is exported */
+  public void setQueryFetchSize(int queryFetchSize) {
+    this.queryFetchSize = queryFetchSize;
+  }
+
   protected String getFileExtension() {
     return exportFormat.getFileExtension();
   }
@@ -29,6 +29,10 @@ import java.util.Map;
 import java.util.Properties;
 import java.util.StringTokenizer;
 import java.util.Vector;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.commons.beanutils.DynaBean;
 import org.apache.commons.dbcp.BasicDataSource;
@@ -886,11 +890,23 @@ public class DBSMOBUtil {
       Database originaldb, Database db, String modulesBaseDir, String datafilter, File input,
       boolean strict, boolean applyConfigScriptData) {
 
-    loadDataStructures(databaseOrgData, db, new String[] {modulesBaseDir}, datafilter, input);
+    loadDataStructures(databaseOrgData, db, new String[] {modulesBaseDir}, datafilter, input,
+        platform == null ? 1 : platform.getMaxThreads());
   }
 
   public void loadDataStructures(DatabaseData databaseOrgData, Database db, String[] modulesBaseDirList,
       String datafilter, File input) {
+    loadDataStructures(databaseOrgData, db, modulesBaseDirList, datafilter, input, 1);
+  }
+
+  /**
+   * Reads the data of the XML files in input and in the datafilter directories of the modules
+   *
+   * @param threads
+   *          maximum number of files parsed at the same time
+   */
+  public void loadDataStructures(DatabaseData databaseOrgData, Database db, String[] modulesBaseDirList,
+      String datafilter, File input, int threads) {
     getLog().debug("loadDataStructures - dirs to scan " + Arrays.toString(modulesBaseDirList));
     final Vector<File> files = new Vector<File>();
     File[] sourceFiles = input.listFiles();
@@ -921,33 +937,98 @@ public class DBSMOBUtil {
       }
     }
     getLog().debug("loadDataStructures - files to read " + Arrays.toString(files.toArray()));
-    readDataIntoDatabaseData(db, databaseOrgData, files);
+    readDataIntoDatabaseData(db, databaseOrgData, files, threads);
   }
 
   public void readDataIntoDatabaseData(Database db, DatabaseData databaseOrgData,
       List<File> files) {
+    readDataIntoDatabaseData(db, databaseOrgData, files, 1);
+  }
 
+  /**
+   * Reads the data of the given XML files into databaseOrgData. The files are parsed concurrently,
+   * each thread with its own reader, and their rows are added to databaseOrgData in the same order
+   * the files are provided, so the result is the same as when they are parsed one by one.
+   *
+   * @param threads
+   *          maximum number of files parsed at the same time
+   */
+  public void readDataIntoDatabaseData(Database db, DatabaseData databaseOrgData,
+      List<File> files, int threads) {
+    long t = System.currentTimeMillis();
     final DatabaseDataIO dbdio = new DatabaseDataIO();
     dbdio.setEnsureFKOrder(false);
-    final DataReader dataReader = dbdio.getConfiguredCompareDataReader(db);
     getLog().info("Loading data from XML files");
-    for (int i = 0; i < files.size(); i++) {
+    int numOfThreads = Math.max(Math.min(threads, files.size()), 1);
+    if (numOfThreads == 1) {
+      final DataReader dataReader = dbdio.getConfiguredCompareDataReader(db);
+      for (File file : files) {
+        Vector<DynaBean> rows = readDataFile(dataReader, file);
+        if (rows != null) {
+          databaseOrgData.insertDynaBeansFromVector(getTableName(file), rows);
+        }
+      }
+    } else {
+      final ThreadLocal<DataReader> dataReaders = ThreadLocal
+          .withInitial(() -> dbdio.getConfiguredCompareDataReader(db));
+      List<Future<Vector<DynaBean>>> parsedFiles = new ArrayList<>(files.size());
+      ExecutorService executor = Executors.newFixedThreadPool(numOfThreads);
       try {
-        getLog().debug("Parsing file " + files.get(i).getAbsolutePath());
-        dataReader.getSink().start();
-        final String tablename = files.get(i)
-            .getName()
-            .substring(0, files.get(i).getName().length() - 4);
-        final Vector<DynaBean> vectorDynaBeans = ((DataToArraySink) dataReader.getSink())
-            .getVector();
-        dataReader.parse(files.get(i));
-        databaseOrgData.insertDynaBeansFromVector(tablename, vectorDynaBeans);
-        dataReader.getSink().end();
-      } catch (final Exception e) {
-        getLog().error("Error while parsing file: " + files.get(i).getAbsolutePath());
-        e.printStackTrace();
+        for (final File file : files) {
+          parsedFiles.add(executor.submit(() -> {
+            Vector<DynaBean> rows = readDataFile(dataReaders.get(), file);
+            if (rows != null) {
+              // sorted here to do it in parallel, rows from several files are sorted again on merge
+              DataToArraySink.sortArray(db, rows);
+            }
+            return rows;
+          }));
+        }
+        // rows are merged as soon as they are available, following the order of the files
+        for (int i = 0; i < files.size(); i++) {
+          Vector<DynaBean> rows = parsedFiles.get(i).get();
+          parsedFiles.set(i, null);
+          if (rows != null) {
+            databaseOrgData.insertDynaBeansFromVector(getTableName(files.get(i)), rows);
+          }
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new BuildException("Interrupted while loading data from XML files", e);
+      } catch (ExecutionException e) {
+        throw new BuildException("Error loading data from XML files", e.getCause());
+      } finally {
+        executor.shutdownNow();
       }
     }
+    getLog().info("Loaded " + files.size() + " XML files using " + numOfThreads + " threads in "
+        + (System.currentTimeMillis() - t) + " ms");
+  }
+
+  /**
+   * Returns the rows read from an XML data file, or null if it cannot be parsed.
+   */
+  private Vector<DynaBean> readDataFile(DataReader dataReader, File file) {
+    try {
+      long t = System.currentTimeMillis();
+      getLog().debug("Parsing file " + file.getAbsolutePath());
+      dataReader.getSink().start();
+      final Vector<DynaBean> vectorDynaBeans = ((DataToArraySink) dataReader.getSink())
+          .getVector();
+      dataReader.parse(file);
+      dataReader.getSink().end();
+      getLog().debug("Parsed file " + file.getAbsolutePath() + ": " + vectorDynaBeans.size()
+          + " rows in " + (System.currentTimeMillis() - t) + " ms");
+      return vectorDynaBeans;
+    } catch (final Exception e) {
+      getLog().error("Error while parsing file: " + file.getAbsolutePath());
+      e.printStackTrace();
+      return null;
+    }
+  }
+
+  private static String getTableName(File file) {
+    return file.getName().substring(0, file.getName().length() - 4);
   }
 
   public void applyConfigScripts(Platform platform, DatabaseData databaseOrgData, Database db,